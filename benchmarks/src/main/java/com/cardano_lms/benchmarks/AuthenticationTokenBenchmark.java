@@ -0,0 +1,51 @@
+package com.cardano_lms.benchmarks;
+
+import com.cardano_lms.server.Config.VerifiedTokenCache;
+import com.cardano_lms.server.Entity.User;
+import com.cardano_lms.server.Service.AuthenticationService;
+import com.nimbusds.jwt.SignedJWT;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@code AuthenticationService.generateToken} and {@code verifyToken} end to end: claim building, HS512
+ * signing, parsing, signature and expiry checks and the revocation lookup (backed here by a stub that never
+ * finds the token). {@code verifyForRefresh} takes the refresh-window branch.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@Threads(4)
+public class AuthenticationTokenBenchmark {
+
+    AuthenticationService authenticationService;
+    User user;
+    String token;
+
+    @Setup
+    public void setUp() {
+        authenticationService = BenchmarkFixtures.authenticationService(
+                BenchmarkFixtures.tokenRevocationService(), new VerifiedTokenCache(10_000, 60));
+        user = BenchmarkFixtures.user();
+        token = authenticationService.generateToken(user);
+    }
+
+    @Benchmark
+    public String generateToken() {
+        return authenticationService.generateToken(user);
+    }
+
+    @Benchmark
+    public SignedJWT verifyToken() throws Exception {
+        return authenticationService.verifyToken(token, false);
+    }
+
+    @Benchmark
+    public SignedJWT verifyForRefresh() throws Exception {
+        return authenticationService.verifyToken(token, true);
+    }
+}
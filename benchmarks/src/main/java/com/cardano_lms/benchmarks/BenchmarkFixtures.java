@@ -0,0 +1,129 @@
+package com.cardano_lms.benchmarks;
+
+import com.cardano_lms.server.Config.VerifiedTokenCache;
+import com.cardano_lms.server.Entity.Role;
+import com.cardano_lms.server.Entity.User;
+import com.cardano_lms.server.Repository.InvalidatedTokenRepository;
+import com.cardano_lms.server.Service.AuthenticationService;
+import com.cardano_lms.server.Service.TokenCryptoService;
+import com.cardano_lms.server.Service.TokenRevocationService;
+import com.nimbusds.jose.JOSEException;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.lang.reflect.Field;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.Proxy;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.UUID;
+
+final class BenchmarkFixtures {
+    static final String SIGNER_KEY =
+            "benchmark-signer-key-benchmark-signer-key-benchmark-signer-key-benchmark-signer-key";
+
+    private BenchmarkFixtures() {}
+
+    static TokenRevocationService tokenRevocationService() {
+        InvalidatedTokenRepository repository = stub(InvalidatedTokenRepository.class, (proxy, method, args) ->
+                method.getName().equals("existsById") ? Boolean.FALSE : null);
+        return new TokenRevocationService(repository, null, 10_000, 0.001);
+    }
+
+    static AuthenticationService authenticationService(TokenRevocationService tokenRevocationService,
+                                                       VerifiedTokenCache verifiedTokenCache) {
+        AuthenticationService service = new AuthenticationService(
+                null, null, null, null, tokenRevocationService, verifiedTokenCache, tokenCryptoService(), null);
+        setField(service, "VALID_DURATION", 3600L);
+        setField(service, "REFRESHABLE_DURATION", 36000L);
+        return service;
+    }
+
+    static TokenCryptoService tokenCryptoService() {
+        try {
+            return new TokenCryptoService(SIGNER_KEY, "primary", Map.of());
+        } catch (JOSEException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    static User user() {
+        return User.builder()
+                .id(UUID.randomUUID().toString())
+                .username("benchmark")
+                .role(Role.builder().name("USER").build())
+                .build();
+    }
+
+    /**
+     * Instantiates the MapStruct implementation of a Spring-model mapper and injects the mappers it uses,
+     * the way the application context would.
+     */
+    static <T> T mapper(Class<T> mapperType) {
+        return mapper(mapperType, new HashMap<>());
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> T mapper(Class<T> mapperType, Map<Class<?>, Object> created) {
+        Object existing = created.get(mapperType);
+        if (existing != null) {
+            return (T) existing;
+        }
+        try {
+            Object mapper = Class.forName(mapperType.getName() + "Impl").getDeclaredConstructor().newInstance();
+            created.put(mapperType, mapper);
+            for (Field field : mapper.getClass().getDeclaredFields()) {
+                if (field.getType().isInterface() && field.getType().getSimpleName().endsWith("Mapper")) {
+                    field.setAccessible(true);
+                    field.set(mapper, mapper(field.getType(), created));
+                }
+            }
+            return (T) mapper;
+        } catch (ReflectiveOperationException e) {
+            throw new IllegalStateException("Cannot build " + mapperType.getSimpleName(), e);
+        }
+    }
+
+    static byte[] resource(String path) {
+        try (InputStream in = BenchmarkFixtures.class.getResourceAsStream(path)) {
+            if (in == null) {
+                throw new IllegalArgumentException("Missing benchmark resource " + path);
+            }
+            return in.readAllBytes();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    static <T> T stub(Class<T> type, InvocationHandler handler) {
+        return (T) Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[]{type}, (proxy, method, args) -> {
+            if (method.getDeclaringClass() == Object.class) {
+                return switch (method.getName()) {
+                    case "hashCode" -> System.identityHashCode(proxy);
+                    case "equals" -> proxy == args[0];
+                    default -> type.getSimpleName() + "Stub";
+                };
+            }
+            return handler.invoke(proxy, method, args);
+        });
+    }
+
+    static void setField(Object target, String name, Object value) {
+        Class<?> type = target.getClass();
+        while (type != null) {
+            try {
+                Field field = type.getDeclaredField(name);
+                field.setAccessible(true);
+                field.set(target, value);
+                return;
+            } catch (NoSuchFieldException e) {
+                type = type.getSuperclass();
+            } catch (IllegalAccessException e) {
+                throw new IllegalStateException(e);
+            }
+        }
+        throw new IllegalArgumentException("No field " + name + " on " + target.getClass());
+    }
+}
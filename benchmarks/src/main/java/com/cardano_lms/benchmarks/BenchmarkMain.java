@@ -0,0 +1,35 @@
+package com.cardano_lms.benchmarks;
+
+import org.openjdk.jmh.Main;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Entry point of the benchmark jar. Behaves like the JMH launcher, but unless {@code -rf}/{@code -rff} are
+ * given the results are also written as JSON to {@code target/jmh-results/<label>-<timestamp>.json}, where
+ * the label comes from {@code -Dbench.label} (default {@code local}). Keeping one file per release makes the
+ * numbers comparable over time.
+ */
+public final class BenchmarkMain {
+
+    private BenchmarkMain() {}
+
+    public static void main(String[] args) throws Exception {
+        List<String> arguments = new ArrayList<>(Arrays.asList(args));
+        boolean listing = arguments.stream().anyMatch(arg -> arg.equals("-l") || arg.equals("-lp")
+                || arg.equals("-h") || arg.equals("-lrf") || arg.equals("-lprof"));
+        if (!listing && !arguments.contains("-rff") && !arguments.contains("-rf")) {
+            Path directory = Files.createDirectories(Path.of("target", "jmh-results"));
+            String timestamp = LocalDateTime.now().format(DateTimeFormatter.ofPattern("yyyyMMdd-HHmmss"));
+            Path output = directory.resolve(System.getProperty("bench.label", "local") + "-" + timestamp + ".json");
+            arguments.addAll(0, List.of("-rf", "json", "-rff", output.toString()));
+        }
+        Main.main(arguments.toArray(String[]::new));
+    }
+}
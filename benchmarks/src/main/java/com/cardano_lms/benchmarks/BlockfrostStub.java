@@ -0,0 +1,87 @@
+package com.cardano_lms.benchmarks;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+
+/**
+ * Stands in for the Blockfrost endpoints the payment check calls, so enrollment load does not depend on a
+ * real chain or spend API quota. Transactions registered through {@link #expectPayment} are reported as
+ * already buried under ten blocks and paying the given lovelace to the receiver; any other hash answers 404,
+ * as Blockfrost does for transactions it has not seen. Start the server with
+ * {@code BLOCKFROST_API=http://localhost:<port>} to use it.
+ */
+final class BlockfrostStub implements AutoCloseable {
+    static final long TIP_HEIGHT = 1_000_000;
+    static final String NOT_FOUND = """
+            {"status_code":404,"error":"Not Found","message":"The requested component has not been found."}""";
+
+    private final HttpServer server;
+    private final Map<String, Payment> payments = new ConcurrentHashMap<>();
+
+    BlockfrostStub(int port) throws IOException {
+        server = HttpServer.create(new InetSocketAddress(port), 0);
+        server.createContext("/", this::handle);
+        server.setExecutor(Executors.newVirtualThreadPerTaskExecutor());
+        server.start();
+    }
+
+    int port() {
+        return server.getAddress().getPort();
+    }
+
+    void expectPayment(String txHash, String receiver, long lovelace) {
+        payments.put(txHash, new Payment(receiver, lovelace));
+    }
+
+    private void handle(HttpExchange exchange) throws IOException {
+        String path = exchange.getRequestURI().getPath();
+        try {
+            if (path.endsWith("/blocks/latest")) {
+                respond(exchange, 200, "{\"height\":" + TIP_HEIGHT + ",\"slot\":" + TIP_HEIGHT * 20 + "}");
+                return;
+            }
+
+            int txs = path.lastIndexOf("/txs/");
+            String rest = txs < 0 ? "" : path.substring(txs + "/txs/".length());
+            boolean utxos = rest.endsWith("/utxos");
+            String hash = utxos ? rest.substring(0, rest.length() - "/utxos".length()) : rest;
+            Payment payment = payments.get(hash);
+            if (payment == null) {
+                respond(exchange, 404, NOT_FOUND);
+            } else if (utxos) {
+                respond(exchange, 200, """
+                        {"hash":"%s","inputs":[],"outputs":[{"address":"%s","amount":[{"unit":"lovelace",\
+                        "quantity":"%d"}],"output_index":0,"data_hash":null,"inline_datum":null,\
+                        "reference_script_hash":null}]}""".formatted(hash, payment.receiver(), payment.lovelace()));
+            } else {
+                respond(exchange, 200, "{\"hash\":\"" + hash + "\",\"block_height\":" + (TIP_HEIGHT - 10) + "}");
+            }
+        } finally {
+            exchange.close();
+        }
+    }
+
+    private static void respond(HttpExchange exchange, int status, String body) throws IOException {
+        byte[] bytes = body.getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().set("Content-Type", "application/json");
+        exchange.sendResponseHeaders(status, bytes.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(bytes);
+        }
+    }
+
+    @Override
+    public void close() {
+        server.stop(0);
+    }
+
+    private record Payment(String receiver, long lovelace) {}
+}
@@ -0,0 +1,232 @@
+package com.cardano_lms.benchmarks;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.security.KeyPair;
+import java.security.KeyPairGenerator;
+import java.security.MessageDigest;
+import java.security.SecureRandom;
+import java.security.Signature;
+import java.security.spec.NamedParameterSpec;
+import java.util.Arrays;
+import java.util.HexFormat;
+import java.util.UUID;
+
+/**
+ * Builds CIP-30 {@code signData} results the way a browser wallet does: a COSE_Sign1 over a text payload with
+ * the signing address in the protected header, plus the matching Ed25519 COSE_Key, both hex encoded.
+ * The address is a testnet enterprise address; its key hash is a stand-in (SHA-256 truncated to 28 bytes)
+ * because the JDK has no Blake2b, which does not change the work done by signature verification.
+ */
+final class Cip30Payloads {
+    final String signature;
+    final String key;
+    final String message;
+    final String address;
+
+    private Cip30Payloads(String signature, String key, String message, String address) {
+        this.signature = signature;
+        this.key = key;
+        this.message = message;
+        this.address = address;
+    }
+
+    static Cip30Payloads generate() throws Exception {
+        return sign(KeyPairGenerator.getInstance("Ed25519").generateKeyPair(), UUID.randomUUID().toString());
+    }
+
+    /**
+     * The same wallet key for the same seed and index, so load tests can sign for users created by
+     * {@link SeedDataGenerator} without storing private keys.
+     */
+    static KeyPair walletKey(long seed, int index) throws Exception {
+        SecureRandom random = SecureRandom.getInstance("SHA1PRNG");
+        random.setSeed((seed + ":wallet:" + index).getBytes(StandardCharsets.UTF_8));
+        KeyPairGenerator generator = KeyPairGenerator.getInstance("Ed25519");
+        generator.initialize(NamedParameterSpec.ED25519, random);
+        return generator.generateKeyPair();
+    }
+
+    static String address(KeyPair keyPair) throws Exception {
+        return Bech32.encode("addr_test", addressBytes(publicKey(keyPair)));
+    }
+
+    static Cip30Payloads sign(KeyPair keyPair, String message) throws Exception {
+        byte[] publicKey = publicKey(keyPair);
+        byte[] addressBytes = addressBytes(publicKey);
+        byte[] payload = message.getBytes(StandardCharsets.UTF_8);
+
+        byte[] protectedHeader = new Cbor().map(2)
+                .integer(1).integer(-8)
+                .text("address").bytes(addressBytes)
+                .toByteArray();
+        byte[] toSign = new Cbor().array(4)
+                .text("Signature1").bytes(protectedHeader).bytes(new byte[0]).bytes(payload)
+                .toByteArray();
+
+        Signature signer = Signature.getInstance("Ed25519");
+        signer.initSign(keyPair.getPrivate());
+        signer.update(toSign);
+        byte[] signatureBytes = signer.sign();
+
+        byte[] coseSign1 = new Cbor().array(4)
+                .bytes(protectedHeader)
+                .map(1).text("hashed").bool(false)
+                .bytes(payload)
+                .bytes(signatureBytes)
+                .toByteArray();
+        byte[] coseKey = new Cbor().map(4)
+                .integer(1).integer(1)
+                .integer(3).integer(-8)
+                .integer(-1).integer(6)
+                .integer(-2).bytes(publicKey)
+                .toByteArray();
+
+        HexFormat hex = HexFormat.of();
+        return new Cip30Payloads(hex.formatHex(coseSign1), hex.formatHex(coseKey), message,
+                Bech32.encode("addr_test", addressBytes));
+    }
+
+    private static byte[] publicKey(KeyPair keyPair) {
+        byte[] encodedPublic = keyPair.getPublic().getEncoded();
+        return Arrays.copyOfRange(encodedPublic, encodedPublic.length - 32, encodedPublic.length);
+    }
+
+    private static byte[] addressBytes(byte[] publicKey) throws Exception {
+        byte[] addressBytes = new byte[29];
+        addressBytes[0] = 0x60;
+        System.arraycopy(MessageDigest.getInstance("SHA-256").digest(publicKey), 0, addressBytes, 1, 28);
+        return addressBytes;
+    }
+
+    /**
+     * Just enough CBOR for COSE structures: small ints, byte and text strings, arrays, maps and booleans.
+     */
+    static final class Cbor {
+        private final ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        Cbor integer(long value) {
+            return value >= 0 ? head(0, value) : head(1, -1 - value);
+        }
+
+        Cbor bytes(byte[] value) {
+            head(2, value.length);
+            out.writeBytes(value);
+            return this;
+        }
+
+        Cbor text(String value) {
+            byte[] utf8 = value.getBytes(StandardCharsets.UTF_8);
+            head(3, utf8.length);
+            out.writeBytes(utf8);
+            return this;
+        }
+
+        Cbor array(int size) {
+            return head(4, size);
+        }
+
+        Cbor map(int size) {
+            return head(5, size);
+        }
+
+        Cbor bool(boolean value) {
+            out.write(value ? 0xf5 : 0xf4);
+            return this;
+        }
+
+        byte[] toByteArray() {
+            return out.toByteArray();
+        }
+
+        private Cbor head(int major, long value) {
+            int type = major << 5;
+            if (value < 24) {
+                out.write(type | (int) value);
+            } else if (value < 0x100) {
+                out.write(type | 24);
+                out.write((int) value);
+            } else if (value < 0x10000) {
+                out.write(type | 25);
+                out.write((int) (value >> 8));
+                out.write((int) value & 0xff);
+            } else {
+                out.write(type | 26);
+                for (int shift = 24; shift >= 0; shift -= 8) {
+                    out.write((int) (value >> shift) & 0xff);
+                }
+            }
+            return this;
+        }
+    }
+
+    static final class Bech32 {
+        private static final String CHARSET = "qpzry9x8gf2tvdw0s3jn54khce6mua7l";
+        private static final int[] GENERATOR = {0x3b6a57b2, 0x26508e6d, 0x1ea119fa, 0x3d4233dd, 0x2a1462b3};
+
+        static String encode(String hrp, byte[] data) {
+            byte[] words = toWords(data);
+            byte[] checksum = checksum(hrp, words);
+            StringBuilder encoded = new StringBuilder(hrp).append('1');
+            for (byte word : words) {
+                encoded.append(CHARSET.charAt(word));
+            }
+            for (byte word : checksum) {
+                encoded.append(CHARSET.charAt(word));
+            }
+            return encoded.toString();
+        }
+
+        private static byte[] toWords(byte[] data) {
+            ByteArrayOutputStream words = new ByteArrayOutputStream();
+            int accumulator = 0;
+            int bits = 0;
+            for (byte b : data) {
+                accumulator = (accumulator << 8) | (b & 0xff);
+                bits += 8;
+                while (bits >= 5) {
+                    bits -= 5;
+                    words.write((accumulator >> bits) & 0x1f);
+                }
+            }
+            if (bits > 0) {
+                words.write((accumulator << (5 - bits)) & 0x1f);
+            }
+            return words.toByteArray();
+        }
+
+        private static byte[] checksum(String hrp, byte[] words) {
+            ByteArrayOutputStream values = new ByteArrayOutputStream();
+            for (char c : hrp.toCharArray()) {
+                values.write(c >> 5);
+            }
+            values.write(0);
+            for (char c : hrp.toCharArray()) {
+                values.write(c & 0x1f);
+            }
+            values.writeBytes(words);
+            values.writeBytes(new byte[6]);
+
+            int polymod = polymod(values.toByteArray()) ^ 1;
+            byte[] checksum = new byte[6];
+            for (int i = 0; i < 6; i++) {
+                checksum[i] = (byte) ((polymod >> (5 * (5 - i))) & 0x1f);
+            }
+            return checksum;
+        }
+
+        private static int polymod(byte[] values) {
+            int checksum = 1;
+            for (byte value : values) {
+                int top = checksum >>> 25;
+                checksum = ((checksum & 0x1ffffff) << 5) ^ value;
+                for (int i = 0; i < 5; i++) {
+                    if (((top >> i) & 1) == 1) {
+                        checksum ^= GENERATOR[i];
+                    }
+                }
+            }
+            return checksum;
+        }
+    }
+}
@@ -0,0 +1,107 @@
+package com.cardano_lms.benchmarks;
+
+import com.cardano_lms.server.Constant.SignatureCheckResult;
+import com.cardano_lms.server.Service.SignatureVerificationService;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.cardanofoundation.cip30.CIP30Verifier;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.*;
+
+/**
+ * Wallet login signature checks: {@code CIP30Verifier.verify} called inline on the caller's thread, as
+ * NonceService used to, against the same check submitted to {@link SignatureVerificationService}, which
+ * runs it on a CPU-sized worker set in micro-batches. Run with more JMH threads than cores to model a
+ * login burst, e.g. {@code -t 32}. {@link #burstOnPool} instead fires {@value #BURST} checks at once from one
+ * JMH thread and times how long the whole burst takes; at teardown it prints how the pool split the burst
+ * into batches, which should be close to the burst size divided by the worker count.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@Threads(8)
+public class Cip30VerifyBenchmark {
+    static final int PAYLOADS = 64;
+    static final int BURST = 256;
+
+    @Param({"32"})
+    int batchSize;
+
+    Cip30Payloads[] payloads;
+    SimpleMeterRegistry meterRegistry;
+    SignatureVerificationService verificationService;
+    ExecutorService burstCallers;
+
+    @Setup
+    public void setUp() throws Exception {
+        payloads = new Cip30Payloads[PAYLOADS];
+        for (int i = 0; i < PAYLOADS; i++) {
+            payloads[i] = Cip30Payloads.generate();
+        }
+        meterRegistry = new SimpleMeterRegistry();
+        verificationService = new SignatureVerificationService(meterRegistry, 0, 10_000, batchSize, 30_000);
+        burstCallers = Executors.newFixedThreadPool(BURST);
+
+        // A payload that fails early would time a short-circuited check, not a signature verification.
+        for (Cip30Payloads payload : payloads) {
+            SignatureCheckResult result = verificationService.verify(payload.signature, payload.key, payload.message, payload.address);
+            if (result != SignatureCheckResult.VALID) {
+                throw new IllegalStateException("Generated payload verifies as " + result + ", expected VALID");
+            }
+        }
+    }
+
+    @Benchmark
+    public boolean verifyInline() {
+        Cip30Payloads payload = next();
+        return new CIP30Verifier(payload.signature, payload.key).verify().isValid();
+    }
+
+    @Benchmark
+    public SignatureCheckResult verifyOnPool() {
+        Cip30Payloads payload = next();
+        return verificationService.verify(payload.signature, payload.key, payload.message, payload.address);
+    }
+
+    @Benchmark
+    @Threads(1)
+    @BenchmarkMode(Mode.AverageTime)
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    public int burstOnPool() throws Exception {
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<SignatureCheckResult>> results = new ArrayList<>(BURST);
+        for (int i = 0; i < BURST; i++) {
+            Cip30Payloads payload = payloads[i % PAYLOADS];
+            results.add(burstCallers.submit(() -> {
+                start.await();
+                return verificationService.verify(payload.signature, payload.key, payload.message, payload.address);
+            }));
+        }
+        start.countDown();
+        int valid = 0;
+        for (Future<SignatureCheckResult> result : results) {
+            if (result.get() == SignatureCheckResult.VALID) {
+                valid++;
+            }
+        }
+        return valid;
+    }
+
+    @TearDown
+    public void tearDown() {
+        burstCallers.shutdownNow();
+        DistributionSummary batches = meterRegistry.get("lms.wallet.signature.batch").summary();
+        System.out.printf("%nSignature batches: %d, mean size %.1f, max size %.0f, workers %d%n",
+                batches.count(), batches.mean(), batches.max(), Runtime.getRuntime().availableProcessors());
+    }
+
+    private Cip30Payloads next() {
+        return payloads[ThreadLocalRandom.current().nextInt(PAYLOADS)];
+    }
+}
@@ -0,0 +1,178 @@
+package com.cardano_lms.benchmarks;
+
+import com.cardano_lms.server.Constant.Currency;
+import com.cardano_lms.server.Entity.*;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.cfg.AvailableSettings;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.orm.jpa.LocalContainerEntityManagerFactoryBean;
+import org.springframework.orm.jpa.vendor.HibernateJpaVendorAdapter;
+
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+/**
+ * Latency of adding a chapter or a lecture to a large course, done the way {@code CourseService} used to
+ * (load the course or chapter, append to its collection, re-save the aggregate) against the targeted insert
+ * it does now (touch the course row, insert the child against a reference to its parent). Each operation is
+ * flushed and then rolled back, so the course keeps its size for the whole run. Runs against in-memory H2
+ * unless {@code bench.jdbc.url} points elsewhere, as {@link CourseImportBenchmark} does.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 3)
+@Measurement(iterations = 5, time = 3)
+@Fork(1)
+public class CourseEditBenchmark {
+
+    @Param({"20", "200"})
+    int chapters;
+
+    @Param({"10"})
+    int lecturesPerChapter;
+
+    EntityManagerFactory entityManagerFactory;
+    String courseId;
+    Long chapterId;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        DriverManagerDataSource dataSource = new DriverManagerDataSource(
+                System.getProperty("bench.jdbc.url", "jdbc:h2:mem:course_edit;DB_CLOSE_DELAY=-1"),
+                System.getProperty("bench.jdbc.user", "sa"),
+                System.getProperty("bench.jdbc.password", ""));
+
+        Map<String, Object> properties = new HashMap<>();
+        properties.put(AvailableSettings.HBM2DDL_AUTO, "create-drop");
+        properties.put(AvailableSettings.STATEMENT_BATCH_SIZE, 50);
+
+        LocalContainerEntityManagerFactoryBean factory = new LocalContainerEntityManagerFactoryBean();
+        factory.setDataSource(dataSource);
+        factory.setPackagesToScan("com.cardano_lms.server.Entity");
+        factory.setJpaVendorAdapter(new HibernateJpaVendorAdapter());
+        factory.setJpaPropertyMap(properties);
+        factory.afterPropertiesSet();
+        entityManagerFactory = factory.getObject();
+
+        Course course = courseTree();
+        inTransaction(entityManager -> {
+            entityManager.persist(course.getInstructor());
+            entityManager.persist(course);
+        }, true);
+        courseId = course.getId();
+        chapterId = course.getChapters().get(chapters / 2).getId();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        entityManagerFactory.close();
+    }
+
+    @Benchmark
+    public void addChapterAggregate() {
+        inTransaction(entityManager -> {
+            Course course = entityManager.find(Course.class, courseId);
+            Chapter chapter = newChapter();
+            entityManager.persist(chapter);
+            course.addChapter(chapter);
+            course.setUpdatedAt(LocalDateTime.now());
+            entityManager.merge(course);
+        }, false);
+    }
+
+    @Benchmark
+    public void addChapterTargeted() {
+        inTransaction(entityManager -> {
+            touch(entityManager);
+            Chapter chapter = newChapter();
+            chapter.setCourse(entityManager.getReference(Course.class, courseId));
+            entityManager.persist(chapter);
+        }, false);
+    }
+
+    @Benchmark
+    public void addLectureAggregate() {
+        inTransaction(entityManager -> {
+            Chapter chapter = entityManager.find(Chapter.class, chapterId);
+            Lecture lecture = newLecture();
+            lecture.setChapter(chapter);
+            entityManager.persist(lecture);
+            chapter.addLecture(lecture);
+            chapter.getCourse().setUpdatedAt(LocalDateTime.now());
+            entityManager.merge(chapter.getCourse());
+        }, false);
+    }
+
+    @Benchmark
+    public void addLectureTargeted() {
+        inTransaction(entityManager -> {
+            touch(entityManager);
+            Lecture lecture = newLecture();
+            lecture.setChapter(entityManager.getReference(Chapter.class, chapterId));
+            entityManager.persist(lecture);
+        }, false);
+    }
+
+    private void touch(EntityManager entityManager) {
+        entityManager.createQuery("update Course c set c.updatedAt = :updatedAt where c.id = :id")
+                .setParameter("updatedAt", LocalDateTime.now())
+                .setParameter("id", courseId)
+                .executeUpdate();
+    }
+
+    private Chapter newChapter() {
+        Chapter chapter = Chapter.builder().title("New chapter").orderIndex(chapters).build();
+        chapter.addLecture(newLecture());
+        return chapter;
+    }
+
+    private Lecture newLecture() {
+        return Lecture.builder().title("New lecture").orderIndex(lecturesPerChapter).time(300).build();
+    }
+
+    private Course courseTree() {
+        Course course = Course.builder()
+                .title("Large course")
+                .currency(Currency.ADA)
+                .price(100)
+                .instructor(InstructorProfile.builder().name("Benchmark instructor").build())
+                .createdAt(LocalDateTime.now())
+                .updatedAt(LocalDateTime.now())
+                .build();
+
+        for (int c = 0; c < chapters; c++) {
+            Chapter chapter = Chapter.builder().title("Chapter " + c).orderIndex(c).build();
+            course.addChapter(chapter);
+            for (int l = 0; l < lecturesPerChapter; l++) {
+                chapter.addLecture(Lecture.builder().title("Lecture " + l).orderIndex(l).time(300).build());
+            }
+            chapter.addTest(Test.builder().title("Quiz").passScore(70).build());
+        }
+        return course;
+    }
+
+    /**
+     * Flushes so every statement reaches the database, then commits only when seeding.
+     */
+    private void inTransaction(Consumer<EntityManager> work, boolean commit) {
+        EntityManager entityManager = entityManagerFactory.createEntityManager();
+        try {
+            entityManager.getTransaction().begin();
+            work.accept(entityManager);
+            entityManager.flush();
+            if (commit) {
+                entityManager.getTransaction().commit();
+            } else {
+                entityManager.getTransaction().rollback();
+            }
+        } finally {
+            entityManager.close();
+        }
+    }
+}
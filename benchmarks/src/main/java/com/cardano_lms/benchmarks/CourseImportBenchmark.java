@@ -0,0 +1,142 @@
+package com.cardano_lms.benchmarks;
+
+import com.cardano_lms.server.Constant.Currency;
+import com.cardano_lms.server.Entity.*;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.cfg.AvailableSettings;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.orm.jpa.LocalContainerEntityManagerFactoryBean;
+import org.springframework.orm.jpa.vendor.HibernateJpaVendorAdapter;
+
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+/**
+ * Rows inserted per second when persisting large course trees, with JDBC batching off ({@code batchSize=0})
+ * and on. Runs against in-memory H2 by default; pass {@code -Dbench.jdbc.url=jdbc:postgresql://...}
+ * (plus {@code bench.jdbc.user} / {@code bench.jdbc.password}) to measure a real database, where batching
+ * saves a network round trip per row. The {@code rows} counter is the inserts/sec figure.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 2, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+public class CourseImportBenchmark {
+
+    @Param({"0", "50"})
+    int batchSize;
+
+    @Param({"10"})
+    int chapters;
+
+    @Param({"4"})
+    int testsPerChapter;
+
+    @Param({"20"})
+    int questionsPerTest;
+
+    EntityManagerFactory entityManagerFactory;
+    InstructorProfile instructor;
+    int rowsPerCourse;
+
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.OPERATIONS)
+    public static class Inserts {
+        public long rows;
+
+        @Setup(Level.Iteration)
+        public void reset() {
+            rows = 0;
+        }
+    }
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        DriverManagerDataSource dataSource = new DriverManagerDataSource(
+                System.getProperty("bench.jdbc.url", "jdbc:h2:mem:course_import;DB_CLOSE_DELAY=-1"),
+                System.getProperty("bench.jdbc.user", "sa"),
+                System.getProperty("bench.jdbc.password", ""));
+
+        Map<String, Object> properties = new HashMap<>();
+        properties.put(AvailableSettings.HBM2DDL_AUTO, "create-drop");
+        properties.put(AvailableSettings.STATEMENT_BATCH_SIZE, batchSize);
+        properties.put(AvailableSettings.ORDER_INSERTS, batchSize > 0);
+
+        LocalContainerEntityManagerFactoryBean factory = new LocalContainerEntityManagerFactoryBean();
+        factory.setDataSource(dataSource);
+        factory.setPackagesToScan("com.cardano_lms.server.Entity");
+        factory.setJpaVendorAdapter(new HibernateJpaVendorAdapter());
+        factory.setJpaPropertyMap(properties);
+        factory.afterPropertiesSet();
+        entityManagerFactory = factory.getObject();
+
+        instructor = InstructorProfile.builder().name("Benchmark instructor").build();
+        inTransaction(entityManager -> entityManager.persist(instructor));
+
+        rowsPerCourse = 1 + chapters * (1 + 5 + testsPerChapter * (1 + questionsPerTest * 5));
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        entityManagerFactory.close();
+    }
+
+    @Benchmark
+    public void importCourse(Inserts inserts) {
+        inTransaction(entityManager -> entityManager.persist(courseTree()));
+        inserts.rows += rowsPerCourse;
+    }
+
+    private Course courseTree() {
+        Course course = Course.builder()
+                .title("Imported course")
+                .currency(Currency.ADA)
+                .price(100)
+                .instructor(instructor)
+                .createdAt(LocalDateTime.now())
+                .updatedAt(LocalDateTime.now())
+                .build();
+
+        for (int c = 0; c < chapters; c++) {
+            Chapter chapter = Chapter.builder().title("Chapter " + c).orderIndex(c).build();
+            course.addChapter(chapter);
+            for (int l = 0; l < 5; l++) {
+                chapter.addLecture(Lecture.builder().title("Lecture " + l).orderIndex(l).time(300).build());
+            }
+            for (int t = 0; t < testsPerChapter; t++) {
+                Test test = Test.builder()
+                        .title("Quiz " + t)
+                        .passScore(70)
+                        .orderIndex(t)
+                        .build();
+                chapter.addTest(test);
+                for (int q = 0; q < questionsPerTest; q++) {
+                    Question question = Question.builder().content("Question " + q).score(1).orderIndex(q).build();
+                    test.addQuestion(question);
+                    for (int a = 0; a < 4; a++) {
+                        question.addAnswer(Answer.builder().content("Answer " + a).isCorrect(a == 0).build());
+                    }
+                }
+            }
+        }
+        return course;
+    }
+
+    private void inTransaction(Consumer<EntityManager> work) {
+        EntityManager entityManager = entityManagerFactory.createEntityManager();
+        try {
+            entityManager.getTransaction().begin();
+            work.accept(entityManager);
+            entityManager.getTransaction().commit();
+        } finally {
+            entityManager.close();
+        }
+    }
+}
@@ -0,0 +1,105 @@
+package com.cardano_lms.benchmarks;
+
+import com.cardano_lms.server.Constant.Currency;
+import com.cardano_lms.server.DTO.Response.CourseCreationResponse;
+import com.cardano_lms.server.Entity.*;
+import com.cardano_lms.server.Mapper.CourseMapper;
+import org.openjdk.jmh.annotations.*;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@code CourseMapper.toResponse} on a fully loaded course tree, as returned by the course detail endpoint.
+ * The tree has {@code chapters} chapters of ten lectures and two quizzes each, plus a final exam; every
+ * quiz has {@code questionsPerTest} questions with four answers.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class CourseMapperBenchmark {
+
+    @Param({"10", "50"})
+    int chapters;
+
+    @Param({"10"})
+    int questionsPerTest;
+
+    CourseMapper courseMapper;
+    Course course;
+
+    @Setup
+    public void setUp() {
+        courseMapper = BenchmarkFixtures.mapper(CourseMapper.class);
+        course = courseTree();
+    }
+
+    @Benchmark
+    public CourseCreationResponse toResponse() {
+        return courseMapper.toResponse(course);
+    }
+
+    private Course courseTree() {
+        long[] ids = {1};
+        InstructorProfile instructor = InstructorProfile.builder()
+                .id(ids[0]++)
+                .name("Benchmark instructor")
+                .bio("Teaches Plutus and Aiken")
+                .expertise("Smart contracts")
+                .user(BenchmarkFixtures.user())
+                .build();
+        Course course = Course.builder()
+                .id(UUID.randomUUID().toString())
+                .title("Cardano development")
+                .description("From UTXOs to validators")
+                .shortDescription("Cardano development")
+                .currency(Currency.ADA)
+                .price(100)
+                .instructor(instructor)
+                .createdAt(LocalDateTime.now())
+                .updatedAt(LocalDateTime.now())
+                .build();
+
+        for (int c = 0; c < chapters; c++) {
+            Chapter chapter = Chapter.builder().id(ids[0]++).title("Chapter " + c).orderIndex(c).build();
+            course.addChapter(chapter);
+            for (int l = 0; l < 10; l++) {
+                chapter.addLecture(Lecture.builder()
+                        .id(ids[0]++)
+                        .title("Lecture " + l)
+                        .videoUrl("https://video.example/" + c + "/" + l)
+                        .orderIndex(l)
+                        .time(300)
+                        .previewFree(l == 0)
+                        .build());
+            }
+            for (int t = 0; t < 2; t++) {
+                chapter.addTest(quiz(ids, "Quiz " + t, t));
+            }
+        }
+        course.addTest(quiz(ids, "Final exam", 0));
+        return course;
+    }
+
+    private Test quiz(long[] ids, String title, int orderIndex) {
+        Test test = Test.builder()
+                .id(ids[0]++)
+                .title(title)
+                .passScore(70)
+                .durationMinutes(30)
+                .orderIndex(orderIndex)
+                .build();
+        for (int q = 0; q < questionsPerTest; q++) {
+            Question question = Question.builder().id(ids[0]++).content("Question " + q).score(1).orderIndex(q).build();
+            test.addQuestion(question);
+            for (int a = 0; a < 4; a++) {
+                question.addAnswer(Answer.builder().id(ids[0]++).content("Answer " + a).isCorrect(a == 0).build());
+            }
+        }
+        return test;
+    }
+}
@@ -0,0 +1,88 @@
+package com.cardano_lms.benchmarks;
+
+import com.cardano_lms.server.DTO.Response.InstructorProfileResponse;
+import com.cardano_lms.server.DTO.Response.SocialLinkResponse;
+import com.cardano_lms.server.DTO.Response.UserResponse;
+import com.cardano_lms.server.Entity.InstructorProfile;
+import com.cardano_lms.server.Entity.LoginMethod;
+import com.cardano_lms.server.Entity.SocialLink;
+import com.cardano_lms.server.Entity.User;
+import com.cardano_lms.server.Mapper.InstructorProfileMapper;
+import com.cardano_lms.server.Mapper.UserMapper;
+import org.openjdk.jmh.annotations.*;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The per-row conversions behind user and instructor listings: {@code UserMapper.toUserResponse} and
+ * {@code InstructorProfileMapper.toResponse} for a profile and for its social links.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class EntityMapperBenchmark {
+
+    UserMapper userMapper;
+    InstructorProfileMapper instructorProfileMapper;
+    User user;
+    InstructorProfile profile;
+    List<SocialLink> socialLinks;
+
+    @Setup
+    public void setUp() {
+        userMapper = BenchmarkFixtures.mapper(UserMapper.class);
+        instructorProfileMapper = BenchmarkFixtures.mapper(InstructorProfileMapper.class);
+
+        user = BenchmarkFixtures.user();
+        user.setEmail("learner@example.com");
+        user.setFirstName("Ada");
+        user.setLastName("Lovelace");
+        user.setDob(LocalDate.of(1990, 12, 10));
+        user.setWalletAddress(PaymentScanBenchmark.RECEIVER);
+        LoginMethod loginMethod = new LoginMethod();
+        loginMethod.setName("WALLET");
+        user.setLoginMethod(loginMethod);
+
+        profile = InstructorProfile.builder()
+                .id(1L)
+                .user(user)
+                .name("Ada Lovelace")
+                .bio("Writes validators for a living")
+                .expertise("Plutus, Aiken")
+                .build();
+        socialLinks = new ArrayList<>();
+        for (String name : List.of("github", "x", "linkedin", "youtube")) {
+            socialLinks.add(SocialLink.builder()
+                    .id((long) socialLinks.size() + 1)
+                    .name(name)
+                    .url("https://" + name + ".example/ada")
+                    .instructor(profile)
+                    .build());
+        }
+    }
+
+    @Benchmark
+    public UserResponse userToResponse() {
+        return userMapper.toUserResponse(user);
+    }
+
+    @Benchmark
+    public InstructorProfileResponse instructorProfileToResponse() {
+        return instructorProfileMapper.toResponse(profile);
+    }
+
+    @Benchmark
+    public List<SocialLinkResponse> socialLinksToResponse() {
+        List<SocialLinkResponse> responses = new ArrayList<>(socialLinks.size());
+        for (SocialLink socialLink : socialLinks) {
+            responses.add(instructorProfileMapper.toResponse(socialLink));
+        }
+        return responses;
+    }
+}
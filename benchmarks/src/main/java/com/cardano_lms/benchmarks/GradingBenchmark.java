@@ -0,0 +1,71 @@
+package com.cardano_lms.benchmarks;
+
+import com.cardano_lms.server.DTO.Request.SubmittedAnswerRequest;
+import com.cardano_lms.server.Service.AnswerKey;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The two halves of grading a test: {@code AnswerKey.compile}, which runs once per test and course version
+ * on the rows the answer-key query returns, and {@code AnswerKey.grade}, which runs on every submission.
+ * Each question has {@code answersPerQuestion} answers; every third question is multi-select with two
+ * correct answers. The submission answers every question, in shuffled order, and gets about half right.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class GradingBenchmark {
+
+    @Param({"10", "100"})
+    int questions;
+
+    @Param({"4"})
+    int answersPerQuestion;
+
+    List<Object[]> rows;
+    AnswerKey key;
+    List<SubmittedAnswerRequest> submission;
+
+    @Setup
+    public void setUp() {
+        Random random = new Random(42);
+        rows = new ArrayList<>();
+        submission = new ArrayList<>();
+        long answerId = 1_000;
+        for (long questionId = 1; questionId <= questions; questionId++) {
+            int correctAnswers = questionId % 3 == 0 ? 2 : 1;
+            List<Long> correct = new ArrayList<>();
+            List<Long> all = new ArrayList<>();
+            for (int a = 0; a < answersPerQuestion; a++, answerId++) {
+                boolean isCorrect = a < correctAnswers;
+                rows.add(new Object[]{questionId, 10, answerId, isCorrect});
+                all.add(answerId);
+                if (isCorrect) {
+                    correct.add(answerId);
+                }
+            }
+            List<Long> chosen = random.nextBoolean() ? correct : List.of(all.get(all.size() - 1));
+            submission.add(SubmittedAnswerRequest.builder().questionId(questionId).answerIds(chosen).build());
+        }
+        Collections.shuffle(submission, random);
+        key = AnswerKey.compile(1L, "v1", 60, rows);
+    }
+
+    @Benchmark
+    public AnswerKey compile() {
+        return AnswerKey.compile(1L, "v1", 60, rows);
+    }
+
+    @Benchmark
+    public AnswerKey.Grade grade() {
+        return key.grade(submission);
+    }
+}
@@ -0,0 +1,77 @@
+package com.cardano_lms.benchmarks;
+
+import com.cardano_lms.server.Config.CustomJwtDecoder;
+import com.cardano_lms.server.Config.VerifiedTokenCache;
+import com.cardano_lms.server.DTO.Request.IntrospectRequest;
+import com.cardano_lms.server.Service.AuthenticationService;
+import com.cardano_lms.server.Service.TokenRevocationService;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.security.oauth2.jose.jws.MacAlgorithm;
+import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.security.oauth2.jwt.NimbusJwtDecoder;
+
+import javax.crypto.spec.SecretKeySpec;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Per-request cost of turning a bearer token into a {@link Jwt}. {@code introspectThenNimbusDecode}
+ * is the original path (verify + revocation check, then a second parse/verify in Nimbus);
+ * {@code uncachedDecode} is the single-pass decode on a cache miss and {@code cachedDecode} a hit.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class JwtDecodeBenchmark {
+
+    AuthenticationService authenticationService;
+    NimbusJwtDecoder nimbusJwtDecoder;
+    CustomJwtDecoder cachedDecoder;
+    CustomJwtDecoder uncachedDecoder;
+    String token;
+
+    @Setup
+    public void setUp() {
+        TokenRevocationService revocations = BenchmarkFixtures.tokenRevocationService();
+        VerifiedTokenCache cache = new VerifiedTokenCache(10_000, 60);
+        authenticationService = BenchmarkFixtures.authenticationService(revocations, cache);
+        token = authenticationService.generateToken(BenchmarkFixtures.user());
+
+        nimbusJwtDecoder = NimbusJwtDecoder
+                .withSecretKey(new SecretKeySpec(BenchmarkFixtures.SIGNER_KEY.getBytes(), "HS512"))
+                .macAlgorithm(MacAlgorithm.HS512)
+                .build();
+
+        cachedDecoder = decoder(cache, revocations);
+        uncachedDecoder = decoder(new VerifiedTokenCache(10_000, 0), revocations);
+    }
+
+    @Benchmark
+    public Jwt introspectThenNimbusDecode() throws Exception {
+        var response = authenticationService.introspect(IntrospectRequest.builder().token(token).build());
+        if (!response.isValid()) {
+            throw new IllegalStateException("Token rejected");
+        }
+        return nimbusJwtDecoder.decode(token);
+    }
+
+    @Benchmark
+    public Jwt uncachedDecode() {
+        return uncachedDecoder.decode(token);
+    }
+
+    @Benchmark
+    public Jwt cachedDecode() {
+        return cachedDecoder.decode(token);
+    }
+
+    private CustomJwtDecoder decoder(VerifiedTokenCache cache, TokenRevocationService revocations) {
+        CustomJwtDecoder decoder = new CustomJwtDecoder();
+        BenchmarkFixtures.setField(decoder, "authenticationService", authenticationService);
+        BenchmarkFixtures.setField(decoder, "verifiedTokenCache", cache);
+        BenchmarkFixtures.setField(decoder, "tokenRevocationService", revocations);
+        return decoder;
+    }
+}
@@ -0,0 +1,100 @@
+package com.cardano_lms.benchmarks;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Properties;
+import java.util.UUID;
+
+/**
+ * What {@link SeedDataGenerator} created, as far as the load driver needs to know. User names, ids and wallet
+ * keys are derived from the seed and an index, so only the counts are stored; course and order ids come from
+ * the database and are listed in {@code courses.csv} and {@code orders.csv} next to {@code seed.properties}.
+ */
+final class LoadSeed {
+    static final String PASSWORD = "load-test-password";
+
+    final long seed;
+    final int passwordUsers;
+    final int walletUsers;
+    final int googleUsers;
+    final int enrolledUsers;
+    final String receiver;
+    final List<CourseRef> courses;
+    final List<String> orderIds;
+
+    LoadSeed(long seed, int passwordUsers, int walletUsers, int googleUsers, int enrolledUsers, String receiver,
+             List<CourseRef> courses, List<String> orderIds) {
+        this.seed = seed;
+        this.passwordUsers = passwordUsers;
+        this.walletUsers = walletUsers;
+        this.googleUsers = googleUsers;
+        this.enrolledUsers = enrolledUsers;
+        this.receiver = receiver;
+        this.courses = courses;
+        this.orderIds = orderIds;
+    }
+
+    String learnerUsername(int index) {
+        return "load-learner-" + index;
+    }
+
+    String instructorUsername(int index) {
+        return "load-instructor-" + index;
+    }
+
+    String userId(String kind, int index) {
+        return UUID.nameUUIDFromBytes((seed + ":" + kind + ":" + index).getBytes(StandardCharsets.UTF_8)).toString();
+    }
+
+    void write(Path directory) throws IOException {
+        Files.createDirectories(directory);
+        Properties properties = new Properties();
+        properties.setProperty("seed", Long.toString(seed));
+        properties.setProperty("password-users", Integer.toString(passwordUsers));
+        properties.setProperty("wallet-users", Integer.toString(walletUsers));
+        properties.setProperty("google-users", Integer.toString(googleUsers));
+        properties.setProperty("enrolled-users", Integer.toString(enrolledUsers));
+        properties.setProperty("receiver", receiver);
+        try (Writer writer = Files.newBufferedWriter(directory.resolve("seed.properties"))) {
+            properties.store(writer, "Written by SeedDataGenerator");
+        }
+
+        List<String> courseLines = new ArrayList<>();
+        for (CourseRef course : courses) {
+            courseLines.add(course.id() + "," + course.paymentMethodId() + "," + course.priceAda());
+        }
+        Files.write(directory.resolve("courses.csv"), courseLines);
+        Files.write(directory.resolve("orders.csv"), orderIds);
+    }
+
+    static LoadSeed read(Path directory) throws IOException {
+        Properties properties = new Properties();
+        try (Reader reader = Files.newBufferedReader(directory.resolve("seed.properties"))) {
+            properties.load(reader);
+        }
+
+        List<CourseRef> courses = new ArrayList<>();
+        for (String line : Files.readAllLines(directory.resolve("courses.csv"))) {
+            String[] fields = line.split(",");
+            courses.add(new CourseRef(fields[0], Long.parseLong(fields[1]), Integer.parseInt(fields[2])));
+        }
+
+        return new LoadSeed(
+                Long.parseLong(properties.getProperty("seed")),
+                Integer.parseInt(properties.getProperty("password-users")),
+                Integer.parseInt(properties.getProperty("wallet-users")),
+                Integer.parseInt(properties.getProperty("google-users")),
+                Integer.parseInt(properties.getProperty("enrolled-users")),
+                properties.getProperty("receiver"),
+                courses,
+                Files.readAllLines(directory.resolve("orders.csv")));
+    }
+
+    record CourseRef(String id, long paymentMethodId, int priceAda) {}
+}
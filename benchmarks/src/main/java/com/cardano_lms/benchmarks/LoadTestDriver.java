@@ -0,0 +1,364 @@
+package com.cardano_lms.benchmarks;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.security.KeyPair;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Closed-loop HTTP load against a running server: {@code --concurrency} clients each start the next operation
+ * as soon as the previous one finishes, for {@code --warmup} plus {@code --duration} seconds. Only the measured
+ * window counts, and throughput and the latency percentiles cover successful calls only: a server that answers
+ * fast with errors (a 429 storm, say) must not look faster than a healthy one. Errors are reported next to them
+ * as a count and a share of all calls. Users, courses and orders come from the
+ * manifest written by {@link SeedDataGenerator}; each run is printed and appended to {@code --out} under
+ * {@code --label}, so runs against different builds or settings line up in one CSV.
+ *
+ * <p>Scenarios: {@code login} (password login storm across all seeded learners), {@code catalog} (first
+ * catalog page), {@code detail} (a random course), {@code wallet-login} (nonce, CIP-30 signature from the
+ * seeded wallet key, token), {@code enroll} (a new paid order, with the transaction served by
+ * {@link BlockfrostStub} when {@code --blockfrost-stub-port} is set) and {@code enrollment} (order status).
+ *
+ * <pre>
+ * java -cp target/benchmarks.jar com.cardano_lms.benchmarks.LoadTestDriver \
+ *     --base-url http://localhost:8080 --scenarios login,catalog,detail,wallet-login,enroll \
+ *     --blockfrost-stub-port 18081 --concurrency 400 --label virtual
+ * </pre>
+ */
+public final class LoadTestDriver {
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+    private static final String CSV_HEADER =
+            "label,scenario,concurrency,seconds,requests,errors,throughput,p50_ms,p95_ms,p99_ms,max_ms,error_rate";
+
+    private final HttpClient client;
+    private final LoadOptions options;
+    private final String baseUrl;
+    private final LoadSeed seed;
+    private final AtomicLong enrollments = new AtomicLong();
+    private BlockfrostStub blockfrostStub;
+    private KeyPair[] wallets;
+    private String token;
+
+    private LoadTestDriver(LoadOptions options) throws IOException {
+        this.options = options;
+        this.baseUrl = options.get("base-url", "http://localhost:8080").replaceAll("/+$", "");
+        this.seed = LoadSeed.read(Path.of(options.get("manifest", "target/load-seed")));
+        this.token = options.get("token", null);
+        this.client = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(Duration.ofSeconds(5))
+                .executor(Executors.newVirtualThreadPerTaskExecutor())
+                .build();
+    }
+
+    public static void main(String[] args) throws Exception {
+        LoadTestDriver driver = new LoadTestDriver(LoadOptions.parse(args));
+        try {
+            driver.runAll();
+        } finally {
+            if (driver.blockfrostStub != null) {
+                driver.blockfrostStub.close();
+            }
+        }
+    }
+
+    private void runAll() throws Exception {
+        String label = options.get("label", "run");
+        int concurrency = options.getInt("concurrency", 200);
+        int warmupSeconds = options.getInt("warmup", 10);
+        int durationSeconds = options.getInt("duration", 30);
+        Path out = Path.of(options.get("out", "target/load-results.csv"));
+
+        Map<String, Scenario> scenarios = new LinkedHashMap<>();
+        for (String name : options.get("scenarios", "login,catalog,detail,wallet-login,enroll").split(",")) {
+            scenarios.put(name.trim(), scenario(name.trim()));
+        }
+
+        List<Result> results = new ArrayList<>();
+        for (Map.Entry<String, Scenario> scenario : scenarios.entrySet()) {
+            Result result = run(label, scenario.getKey(), scenario.getValue(),
+                    concurrency, warmupSeconds, durationSeconds);
+            System.out.println(result.describe());
+            results.add(result);
+        }
+        append(out, results);
+        System.out.println("Results appended to " + out.toAbsolutePath());
+    }
+
+    private Scenario scenario(String name) throws Exception {
+        return switch (name) {
+            case "login" -> this::passwordLogin;
+            case "catalog" -> {
+                String path = "/course?size=" + options.get("page-size", "20");
+                yield () -> ok(get(path));
+            }
+            case "detail" -> () -> ok(get("/course/" + pick(seed.courses).id()));
+            case "wallet-login" -> {
+                wallets = new KeyPair[seed.walletUsers];
+                for (int i = 0; i < wallets.length; i++) {
+                    wallets[i] = Cip30Payloads.walletKey(seed.seed, i);
+                }
+                yield this::walletLogin;
+            }
+            case "enroll" -> {
+                int stubPort = options.getInt("blockfrost-stub-port", 0);
+                if (stubPort > 0 && blockfrostStub == null) {
+                    blockfrostStub = new BlockfrostStub(stubPort);
+                }
+                yield this::enroll;
+            }
+            case "enrollment" -> () -> ok(get("/enrollment/" + pick(seed.orderIds)));
+            default -> throw new IllegalArgumentException("Unknown scenario " + name);
+        };
+    }
+
+    private boolean passwordLogin() throws IOException, InterruptedException {
+        int learner = ThreadLocalRandom.current().nextInt(seed.passwordUsers);
+        return ok(post("/auth/token", Map.of(
+                "loginMethod", "USERNAME_PASSWORD",
+                "username", seed.learnerUsername(learner),
+                "password", LoadSeed.PASSWORD)));
+    }
+
+    private boolean walletLogin() throws Exception {
+        KeyPair wallet = wallets[ThreadLocalRandom.current().nextInt(wallets.length)];
+        String address = Cip30Payloads.address(wallet);
+        HttpResponse<String> nonceResponse = post("/nonce", Map.of("address", address));
+        if (!ok(nonceResponse)) {
+            return false;
+        }
+        String nonce = MAPPER.readTree(nonceResponse.body()).path("result").path("nonce").asText();
+
+        Cip30Payloads signed = Cip30Payloads.sign(wallet, nonce);
+        return ok(post("/auth/token", Map.of(
+                "loginMethod", "WALLET",
+                "address", address,
+                "nonce", nonce,
+                "signature", signed.signature,
+                "key", signed.key)));
+    }
+
+    /**
+     * Walks (learner, course) pairs that the seed left unenrolled, so every order is a new one until
+     * {@code (password-users - enrolled-users) * courses} orders have been placed.
+     */
+    private boolean enroll() throws IOException, InterruptedException {
+        int freeLearners = seed.passwordUsers - seed.enrolledUsers;
+        if (freeLearners <= 0) {
+            throw new IllegalStateException("No unenrolled learners in the seed; lower --enrolled-users");
+        }
+        long n = enrollments.getAndIncrement();
+        String userId = seed.userId("password", seed.enrolledUsers + (int) (n % freeLearners));
+        LoadSeed.CourseRef course = seed.courses.get((int) (n / freeLearners % seed.courses.size()));
+
+        byte[] hash = new byte[32];
+        ThreadLocalRandom.current().nextBytes(hash);
+        String txHash = HexFormat.of().formatHex(hash);
+        if (blockfrostStub != null) {
+            blockfrostStub.expectPayment(txHash, seed.receiver, course.priceAda() * 1_000_000L);
+        }
+
+        Map<String, Object> body = new LinkedHashMap<>();
+        body.put("userId", userId);
+        body.put("courseId", course.id());
+        body.put("coursePaymentMethodId", course.paymentMethodId());
+        body.put("priceAda", course.priceAda());
+        body.put("txHash", txHash);
+        return ok(post("/enrollment", body));
+    }
+
+    private Result run(String label, String name, Scenario scenario, int concurrency,
+                       int warmupSeconds, int durationSeconds) throws InterruptedException {
+        long start = System.nanoTime();
+        long measureFrom = start + Duration.ofSeconds(warmupSeconds).toNanos();
+        long end = measureFrom + Duration.ofSeconds(durationSeconds).toNanos();
+        AtomicLong errors = new AtomicLong();
+        List<LatencyRecorder> recorders = new ArrayList<>();
+
+        try (ExecutorService clients = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int i = 0; i < concurrency; i++) {
+                LatencyRecorder recorder = new LatencyRecorder();
+                recorders.add(recorder);
+                clients.execute(() -> {
+                    while (true) {
+                        long sent = System.nanoTime();
+                        if (sent >= end) {
+                            return;
+                        }
+                        boolean ok;
+                        try {
+                            ok = scenario.run();
+                        } catch (InterruptedException e) {
+                            Thread.currentThread().interrupt();
+                            return;
+                        } catch (Exception e) {
+                            ok = false;
+                        }
+                        long received = System.nanoTime();
+                        if (sent >= measureFrom && received <= end) {
+                            if (ok) {
+                                recorder.record(received - sent);
+                            } else {
+                                errors.incrementAndGet();
+                            }
+                        }
+                    }
+                });
+            }
+        }
+
+        long[] latencies = LatencyRecorder.merge(recorders);
+        return new Result(label, name, concurrency, durationSeconds, latencies, errors.get());
+    }
+
+    private HttpResponse<String> get(String path) throws IOException, InterruptedException {
+        HttpRequest request = HttpRequest.newBuilder(URI.create(baseUrl + path))
+                .header("Authorization", "Bearer " + token())
+                .timeout(Duration.ofSeconds(30))
+                .GET()
+                .build();
+        return client.send(request, HttpResponse.BodyHandlers.ofString());
+    }
+
+    private HttpResponse<String> post(String path, Map<String, ?> body) throws IOException, InterruptedException {
+        HttpRequest.Builder request = HttpRequest.newBuilder(URI.create(baseUrl + path))
+                .header("Content-Type", "application/json")
+                .timeout(Duration.ofSeconds(30))
+                .POST(HttpRequest.BodyPublishers.ofString(MAPPER.writeValueAsString(body)));
+        if (!path.equals("/auth/token") && !path.equals("/nonce")) {
+            request.header("Authorization", "Bearer " + token());
+        }
+        return client.send(request.build(), HttpResponse.BodyHandlers.ofString());
+    }
+
+    private static boolean ok(HttpResponse<String> response) {
+        return response.statusCode() < 400;
+    }
+
+    private static <T> T pick(List<T> values) {
+        if (values.isEmpty()) {
+            throw new IllegalStateException("The seed manifest has nothing to pick from");
+        }
+        return values.get(ThreadLocalRandom.current().nextInt(values.size()));
+    }
+
+    /**
+     * Logs in once as the first seeded learner and reuses the token for every authenticated scenario.
+     */
+    private synchronized String token() throws IOException, InterruptedException {
+        if (token != null) {
+            return token;
+        }
+        HttpResponse<String> response = post("/auth/token", Map.of(
+                "loginMethod", "USERNAME_PASSWORD",
+                "username", seed.learnerUsername(0),
+                "password", LoadSeed.PASSWORD));
+        JsonNode result = MAPPER.readTree(response.body()).path("result");
+        if (!ok(response) || !result.hasNonNull("token")) {
+            throw new IllegalStateException("Login failed with " + response.statusCode() + ": " + response.body());
+        }
+        token = result.get("token").asText();
+        return token;
+    }
+
+    private void append(Path out, List<Result> results) throws IOException {
+        if (out.getParent() != null) {
+            Files.createDirectories(out.getParent());
+        }
+        List<String> lines = new ArrayList<>();
+        if (!Files.exists(out)) {
+            lines.add(CSV_HEADER);
+        }
+        results.forEach(result -> lines.add(result.csv()));
+        Files.write(out, lines, StandardCharsets.UTF_8, StandardOpenOption.CREATE, StandardOpenOption.APPEND);
+    }
+
+    @FunctionalInterface
+    private interface Scenario {
+        boolean run() throws Exception;
+    }
+
+    static final class LatencyRecorder {
+        private long[] samples = new long[1024];
+        private int count;
+
+        void record(long nanos) {
+            if (count == samples.length) {
+                samples = Arrays.copyOf(samples, count * 2);
+            }
+            samples[count++] = nanos;
+        }
+
+        static long[] merge(List<LatencyRecorder> recorders) {
+            long[] merged = new long[recorders.stream().mapToInt(recorder -> recorder.count).sum()];
+            int offset = 0;
+            for (LatencyRecorder recorder : recorders) {
+                System.arraycopy(recorder.samples, 0, merged, offset, recorder.count);
+                offset += recorder.count;
+            }
+            Arrays.sort(merged);
+            return merged;
+        }
+    }
+
+    /**
+     * {@code sortedNanos} holds the latencies of successful calls; {@code errors} counts the rest.
+     */
+    record Result(String label, String scenario, int concurrency, int seconds, long[] sortedNanos, long errors) {
+
+        long requests() {
+            return sortedNanos.length + errors;
+        }
+
+        double throughput() {
+            return (double) sortedNanos.length / seconds;
+        }
+
+        double errorRate() {
+            return requests() == 0 ? 0 : (double) errors / requests();
+        }
+
+        double percentileMillis(double percentile) {
+            if (sortedNanos.length == 0) {
+                return 0;
+            }
+            int index = (int) Math.ceil(percentile / 100 * sortedNanos.length) - 1;
+            return sortedNanos[Math.max(0, Math.min(index, sortedNanos.length - 1))] / 1_000_000.0;
+        }
+
+        String describe() {
+            return String.format(Locale.ROOT,
+                    "%-10s %-13s c=%d  %8.1f ok/s  p50 %7.2f ms  p95 %7.2f ms  p99 %7.2f ms  max %8.2f ms  errors %d (%.1f%%)",
+                    label, scenario, concurrency, throughput(), percentileMillis(50), percentileMillis(95),
+                    percentileMillis(99), percentileMillis(100), errors, errorRate() * 100);
+        }
+
+        String csv() {
+            return String.format(Locale.ROOT, "%s,%s,%d,%d,%d,%d,%.1f,%.3f,%.3f,%.3f,%.3f,%.4f",
+                    label, scenario, concurrency, seconds, requests(), errors, throughput(),
+                    percentileMillis(50), percentileMillis(95), percentileMillis(99), percentileMillis(100),
+                    errorRate());
+        }
+    }
+}
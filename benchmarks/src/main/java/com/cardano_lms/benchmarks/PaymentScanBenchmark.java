@@ -0,0 +1,70 @@
+package com.cardano_lms.benchmarks;
+
+import com.cardano_lms.server.Util.UtxoScanner;
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.IOException;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Finding the amount paid to the course receiver in a Blockfrost {@code /txs/{hash}/utxos} body.
+ * {@code treeScan} is the original approach (read the whole body into a {@link JsonNode} and walk the outputs);
+ * {@code streamingScan} is the {@link UtxoScanner} pass the payment check uses now. The payloads under
+ * {@code /blockfrost} follow the Blockfrost response shape: a plain two-output payment and a batched DEX
+ * transaction of more than 80 UTXOs carrying native assets.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class PaymentScanBenchmark {
+    static final String RECEIVER = "addr_test1vz2fxv2umyhttkxyxp8x0dlpdt3k6cwng5pxj3jhsydzers66hrl8";
+
+    @Param({"simple-payment", "batched-dex"})
+    String payload;
+
+    ObjectMapper objectMapper;
+    JsonFactory jsonFactory;
+    byte[] body;
+
+    @Setup
+    public void setUp() throws IOException {
+        objectMapper = new ObjectMapper();
+        jsonFactory = objectMapper.getFactory();
+        body = BenchmarkFixtures.resource("/blockfrost/txs-utxos-" + payload + ".json");
+        if (streamingScan() != treeScan() || treeScan() <= 0) {
+            throw new IllegalStateException("Scanners disagree on " + payload);
+        }
+    }
+
+    @Benchmark
+    public long treeScan() throws IOException {
+        long lovelace = -1;
+        for (JsonNode output : objectMapper.readTree(body).path("outputs")) {
+            if (!RECEIVER.equals(output.path("address").asText())) {
+                continue;
+            }
+            for (JsonNode amount : output.path("amount")) {
+                if ("lovelace".equals(amount.path("unit").asText())) {
+                    lovelace = Math.max(lovelace, Long.parseLong(amount.path("quantity").asText()));
+                }
+            }
+        }
+        return lovelace;
+    }
+
+    @Benchmark
+    public long streamingScan() throws IOException {
+        try (JsonParser parser = jsonFactory.createParser(body)) {
+            Map<String, Long> lovelaceByAddress = UtxoScanner.lovelaceByAddress(parser);
+            return lovelaceByAddress.getOrDefault(RECEIVER, -1L);
+        }
+    }
+}
@@ -0,0 +1,357 @@
+package com.cardano_lms.benchmarks;
+
+import org.springframework.security.crypto.bcrypt.BCrypt;
+
+import java.nio.file.Path;
+import java.security.KeyPair;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Random;
+import java.util.UUID;
+
+/**
+ * Fills a migrated Postgres database with a reproducible data set for {@link LoadTestDriver}: instructors,
+ * published courses with full chapter / lecture / quiz / question / answer trees, learners for each login
+ * method and paid enrollments. The same {@code --seed} always produces the same users, titles and prices.
+ * Rows go in as JDBC batches with explicit ids, and the id sequences are moved past them afterwards so the
+ * server can keep inserting. Writes the manifest the driver reads to {@code --manifest}.
+ *
+ * <pre>
+ * java -cp target/benchmarks.jar com.cardano_lms.benchmarks.SeedDataGenerator \
+ *     --jdbc-url jdbc:postgresql://localhost:5432/lms_load --jdbc-user postgres --jdbc-password postgres \
+ *     --courses 200 --password-users 5000 --wallet-users 2000
+ * </pre>
+ */
+public final class SeedDataGenerator {
+    static final int BATCH_SIZE = 1000;
+    static final int COURSES_PER_FLUSH = 5;
+    static final String DEFAULT_RECEIVER = "addr_test1vz2fxv2umyhttkxyxp8x0dlpdt3k6cwng5pxj3jhsydzers66hrl8";
+    static final String[] TOPICS = {"Plutus", "Aiken", "Marlowe", "Cardano CLI", "Stake pools", "Native tokens",
+            "Governance", "Hydra", "Mithril", "eUTXO design"};
+
+    private final Connection connection;
+    private final LoadOptions options;
+    private final Random random;
+    private final LoadSeed seed;
+
+    private SeedDataGenerator(Connection connection, LoadOptions options) {
+        this.connection = connection;
+        this.options = options;
+        long seedValue = options.getLong("seed", 42);
+        this.random = new Random(seedValue);
+        int passwordUsers = options.getInt("password-users", 5000);
+        this.seed = new LoadSeed(seedValue, passwordUsers,
+                options.getInt("wallet-users", 2000),
+                options.getInt("google-users", 500),
+                Math.min(passwordUsers, options.getInt("enrolled-users", passwordUsers / 2)),
+                options.get("receiver", DEFAULT_RECEIVER),
+                new ArrayList<>(), new ArrayList<>());
+    }
+
+    public static void main(String[] args) throws Exception {
+        LoadOptions options = LoadOptions.parse(args);
+        try (Connection connection = DriverManager.getConnection(
+                options.get("jdbc-url", "jdbc:postgresql://localhost:5432/lms_load") + rewriteBatches(options),
+                options.get("jdbc-user", "postgres"),
+                options.get("jdbc-password", "postgres"))) {
+            connection.setAutoCommit(false);
+            SeedDataGenerator generator = new SeedDataGenerator(connection, options);
+            generator.generate();
+            connection.commit();
+
+            Path manifest = Path.of(options.get("manifest", "target/load-seed"));
+            generator.seed.write(manifest);
+            System.out.println("Seeded " + generator.seed.courses.size() + " courses, "
+                    + generator.seed.orderIds.size() + " enrollments; manifest in " + manifest.toAbsolutePath());
+        }
+    }
+
+    private static String rewriteBatches(LoadOptions options) {
+        String url = options.get("jdbc-url", "jdbc:postgresql://localhost:5432/lms_load");
+        return url.contains("reWriteBatchedInserts") ? "" : (url.contains("?") ? "&" : "?") + "reWriteBatchedInserts=true";
+    }
+
+    private void generate() throws Exception {
+        referenceData();
+        try (PreparedStatement existing = connection.prepareStatement("select 1 from users where username = ?")) {
+            existing.setString(1, seed.learnerUsername(0));
+            try (ResultSet rows = existing.executeQuery()) {
+                if (rows.next()) {
+                    throw new IllegalStateException("Database already holds load-test data; seed a fresh database");
+                }
+            }
+        }
+
+        String passwordHash = BCrypt.hashpw(LoadSeed.PASSWORD, BCrypt.gensalt(options.getInt("bcrypt-strength", 10)));
+        List<Long> instructorIds = instructors(options.getInt("instructors", 20), passwordHash);
+        learners(passwordHash);
+        courses(instructorIds, options.getInt("courses", 200));
+        enrollments(options.getInt("enrollments-per-user", 3));
+        alignSequences();
+    }
+
+    private void referenceData() throws SQLException {
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("""
+                    insert into roles (name, description) values
+                        ('USER', 'User role'), ('INSTRUCTOR', 'Instructor role'), ('ADMIN', 'Admin role')
+                    on conflict do nothing
+                    """);
+            statement.execute("""
+                    insert into login_methods (login_method_name, description) values
+                        ('USERNAME_PASSWORD', 'Login with username & password'),
+                        ('GOOGLE', 'Login with Google'),
+                        ('WALLET', 'Login with Cardano wallet')
+                    on conflict do nothing
+                    """);
+            statement.execute("""
+                    insert into payment_methods (name, description, currency) values
+                        ('CARDANO_WALLET', 'Pay with a Cardano wallet', 'ADA')
+                    on conflict do nothing
+                    """);
+        }
+    }
+
+    private List<Long> instructors(int count, String passwordHash) throws SQLException {
+        long nextId = maxId("instructor_profiles") + 1;
+        List<Long> ids = new ArrayList<>();
+        try (Batch users = batch("""
+                insert into users (id, username, password, email, first_name, last_name, role_name, login_method_name)
+                values (?, ?, ?, ?, ?, ?, 'INSTRUCTOR', 'USERNAME_PASSWORD')
+                """);
+             Batch profiles = batch("""
+                     insert into instructor_profiles (id, user_id, name, bio, expertise) values (?, ?, ?, ?, ?)
+                     """)) {
+            for (int i = 0; i < count; i++) {
+                String userId = seed.userId("instructor", i);
+                String username = seed.instructorUsername(i);
+                users.add(userId, username, passwordHash, username + "@example.test", "Instructor", Integer.toString(i));
+                long profileId = nextId++;
+                profiles.add(profileId, userId, "Instructor " + i, "Teaches " + topic() + " and " + topic(), topic());
+                ids.add(profileId);
+            }
+            flush(users, profiles);
+        }
+        return ids;
+    }
+
+    private void learners(String passwordHash) throws Exception {
+        try (Batch users = batch("""
+                insert into users (id, username, password, email, first_name, last_name, wallet_address,
+                                   role_name, login_method_name)
+                values (?, ?, ?, ?, ?, ?, ?, 'USER', ?)
+                """)) {
+            for (int i = 0; i < seed.passwordUsers; i++) {
+                String username = seed.learnerUsername(i);
+                users.add(seed.userId("password", i), username, passwordHash, username + "@example.test",
+                        "Learner", Integer.toString(i), null, "USERNAME_PASSWORD");
+                flushWhenFull(users);
+            }
+            for (int i = 0; i < seed.walletUsers; i++) {
+                KeyPair wallet = Cip30Payloads.walletKey(seed.seed, i);
+                users.add(seed.userId("wallet", i), null, null, null, null, null,
+                        Cip30Payloads.address(wallet), "WALLET");
+                flushWhenFull(users);
+            }
+            for (int i = 0; i < seed.googleUsers; i++) {
+                users.add(seed.userId("google", i), null, null, "load-google-" + i + "@example.test",
+                        "Google", Integer.toString(i), null, "GOOGLE");
+                flushWhenFull(users);
+            }
+            flush(users);
+        }
+    }
+
+    private void courses(List<Long> instructorIds, int count) throws SQLException {
+        int chapters = options.getInt("chapters", 8);
+        int lectures = options.getInt("lectures", 6);
+        int testsPerChapter = options.getInt("tests-per-chapter", 1);
+        int questions = options.getInt("questions", 10);
+
+        long paymentMethodId = maxId("course_payment_methods") + 1;
+        long chapterId = maxId("chapters") + 1;
+        long lectureId = maxId("lectures") + 1;
+        long testId = maxId("tests") + 1;
+        long questionId = maxId("questions") + 1;
+        long answerId = maxId("answers") + 1;
+        LocalDateTime now = LocalDateTime.now();
+
+        try (Batch courseRows = batch("""
+                insert into courses (id, title, description, short_description, requirement, image_url, is_draft,
+                                     price, currency, instructor_id, created_at, updated_at)
+                values (?, ?, ?, ?, ?, ?, false, ?, 'ADA', ?, ?, ?)
+                """);
+             Batch paymentRows = batch("""
+                     insert into course_payment_methods (id, course_id, payment_method_id, receiver_address)
+                     values (?, ?, 'CARDANO_WALLET', ?)
+                     """);
+             Batch chapterRows = batch("insert into chapters (id, title, order_index, course_id) values (?, ?, ?, ?)");
+             Batch lectureRows = batch("""
+                     insert into lectures (id, title, video_url, time, order_index, preview_free, chapter_id)
+                     values (?, ?, ?, ?, ?, ?, ?)
+                     """);
+             Batch testRows = batch("""
+                     insert into tests (id, title, duration_minutes, rule, pass_score, order_index, course_id, chapter_id)
+                     values (?, ?, ?, ?, ?, ?, ?, ?)
+                     """);
+             Batch questionRows = batch(
+                     "insert into questions (id, content, score, order_index, test_id) values (?, ?, ?, ?, ?)");
+             Batch answerRows = batch(
+                     "insert into answers (id, content, is_correct, question_id) values (?, ?, ?, ?)")) {
+
+            for (int c = 0; c < count; c++) {
+                String courseId = new UUID(random.nextLong(), random.nextLong()).toString();
+                String topic = topic();
+                int price = 10 + random.nextInt(20) * 5;
+                Timestamp createdAt = Timestamp.valueOf(now.minusMinutes((long) (count - c) * 37));
+                courseRows.add(courseId, topic + " in practice #" + c, "A hands-on course on " + topic,
+                        topic + " from first principles", "Basic programming",
+                        "https://images.example.test/course-" + c + ".png", price,
+                        instructorIds.get(c % instructorIds.size()), createdAt, createdAt);
+                paymentRows.add(paymentMethodId, courseId, seed.receiver);
+                seed.courses.add(new LoadSeed.CourseRef(courseId, paymentMethodId++, price));
+
+                for (int ch = 0; ch < chapters; ch++) {
+                    long currentChapter = chapterId++;
+                    chapterRows.add(currentChapter, "Chapter " + (ch + 1) + ": " + topic(), ch, courseId);
+                    for (int l = 0; l < lectures; l++) {
+                        lectureRows.add(lectureId++, "Lecture " + (l + 1),
+                                "https://video.example.test/" + courseId + "/" + ch + "/" + l,
+                                120 + random.nextInt(900), l, ch == 0 && l == 0, currentChapter);
+                    }
+                    for (int t = 0; t < testsPerChapter; t++) {
+                        long currentTest = testId++;
+                        testRows.add(currentTest, "Quiz " + (t + 1), 0, "Answer every question", 70, t,
+                                null, currentChapter);
+                        for (int q = 0; q < questions; q++) {
+                            long currentQuestion = questionId++;
+                            questionRows.add(currentQuestion, "Question " + (q + 1) + " about " + topic(), 1, q,
+                                    currentTest);
+                            int correct = random.nextInt(4);
+                            for (int a = 0; a < 4; a++) {
+                                answerRows.add(answerId++, "Option " + (char) ('A' + a), a == correct, currentQuestion);
+                            }
+                        }
+                    }
+                }
+                testRows.add(testId++, "Final exam", 30, "Timed, one attempt", 70, 0, courseId, null);
+
+                if ((c + 1) % COURSES_PER_FLUSH == 0 || c == count - 1) {
+                    flush(courseRows, paymentRows, chapterRows, lectureRows, testRows, questionRows, answerRows);
+                }
+            }
+        }
+    }
+
+    private void enrollments(int perUser) throws SQLException {
+        int courseCount = seed.courses.size();
+        int enrollmentsPerUser = Math.min(perUser, courseCount);
+        LocalDateTime now = LocalDateTime.now();
+        try (Batch rows = batch("""
+                insert into enrollments (enrolled_at, completed, user_id, course_payment_method_id, status, order_id,
+                                         price, tx_hash, verification_attempts, course_id, completed_items)
+                values (?, false, ?, ?, 'SUCCESS', ?, ?, ?, 1, ?, 0)
+                """)) {
+            for (int u = 0; u < seed.enrolledUsers; u++) {
+                for (int e = 0; e < enrollmentsPerUser; e++) {
+                    LoadSeed.CourseRef course = seed.courses.get((u + e * 7) % courseCount);
+                    String orderId = new UUID(random.nextLong(), random.nextLong()).toString();
+                    rows.add(Timestamp.valueOf(now.minusHours(random.nextInt(24 * 90))), seed.userId("password", u),
+                            course.paymentMethodId(), orderId, (double) course.priceAda(), txHash(), course.id());
+                    seed.orderIds.add(orderId);
+                    flushWhenFull(rows);
+                }
+            }
+            flush(rows);
+        }
+    }
+
+    private void alignSequences() throws SQLException {
+        try (Statement statement = connection.createStatement()) {
+            for (String table : List.of("instructor_profiles", "course_payment_methods", "enrollments")) {
+                statement.execute("select setval(pg_get_serial_sequence('" + table + "', 'id'), "
+                        + "(select coalesce(max(id), 0) + 1 from " + table + "), false)");
+            }
+            for (String table : List.of("chapters", "lectures", "tests", "questions", "answers")) {
+                statement.execute("select setval('" + table + "_seq', greatest("
+                        + "(select coalesce(max(id), 0) + 50 from " + table + "), "
+                        + "(select last_value from " + table + "_seq)))");
+            }
+        }
+    }
+
+    private long maxId(String table) throws SQLException {
+        try (Statement statement = connection.createStatement();
+             ResultSet rows = statement.executeQuery("select coalesce(max(id), 0) from " + table)) {
+            rows.next();
+            return rows.getLong(1);
+        }
+    }
+
+    private String topic() {
+        return TOPICS[random.nextInt(TOPICS.length)];
+    }
+
+    private String txHash() {
+        byte[] bytes = new byte[32];
+        random.nextBytes(bytes);
+        return HexFormat.of().formatHex(bytes);
+    }
+
+    private Batch batch(String sql) throws SQLException {
+        return new Batch(connection.prepareStatement(sql));
+    }
+
+    private static void flushWhenFull(Batch batch) throws SQLException {
+        if (batch.pending >= BATCH_SIZE) {
+            batch.flush();
+        }
+    }
+
+    /**
+     * Sends the batches in the order given, parents before children, so foreign keys always resolve.
+     */
+    private static void flush(Batch... batches) throws SQLException {
+        for (Batch batch : batches) {
+            batch.flush();
+        }
+    }
+
+    private static final class Batch implements AutoCloseable {
+        private final PreparedStatement statement;
+        private int pending;
+
+        Batch(PreparedStatement statement) {
+            this.statement = statement;
+        }
+
+        void add(Object... values) throws SQLException {
+            for (int i = 0; i < values.length; i++) {
+                statement.setObject(i + 1, values[i]);
+            }
+            statement.addBatch();
+            pending++;
+        }
+
+        void flush() throws SQLException {
+            if (pending > 0) {
+                statement.executeBatch();
+                pending = 0;
+            }
+        }
+
+        @Override
+        public void close() throws SQLException {
+            statement.close();
+        }
+    }
+}
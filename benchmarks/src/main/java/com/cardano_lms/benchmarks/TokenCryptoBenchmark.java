@@ -0,0 +1,83 @@
+package com.cardano_lms.benchmarks;
+
+import com.cardano_lms.server.Service.TokenCryptoService;
+import com.nimbusds.jose.JWSAlgorithm;
+import com.nimbusds.jose.JWSHeader;
+import com.nimbusds.jose.crypto.MACSigner;
+import com.nimbusds.jose.crypto.MACVerifier;
+import com.nimbusds.jwt.JWTClaimsSet;
+import com.nimbusds.jwt.SignedJWT;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.Date;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Sign/verify throughput with a signer and verifier built per call (the original
+ * AuthenticationService code) against the pre-built instances held by {@link TokenCryptoService}.
+ * {@code verifyRotatedKey} verifies a token signed with a retired key that is still in the ring.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@Threads(4)
+public class TokenCryptoBenchmark {
+    static final String RETIRED_KEY =
+            "retired-signer-key-retired-signer-key-retired-signer-key-retired-signer-key-retired";
+
+    TokenCryptoService tokenCryptoService;
+    JWTClaimsSet claims;
+    String token;
+    String rotatedToken;
+
+    @Setup
+    public void setUp() throws Exception {
+        tokenCryptoService = new TokenCryptoService(
+                BenchmarkFixtures.SIGNER_KEY, "primary", Map.of("retired", RETIRED_KEY));
+        claims = new JWTClaimsSet.Builder()
+                .subject(UUID.randomUUID().toString())
+                .issuer("c2vn-lms")
+                .issueTime(new Date())
+                .expirationTime(new Date(System.currentTimeMillis() + 3_600_000))
+                .jwtID(UUID.randomUUID().toString())
+                .claim("scope", "ROLE_USER")
+                .build();
+        token = tokenCryptoService.sign(claims);
+
+        SignedJWT retired = new SignedJWT(new JWSHeader.Builder(JWSAlgorithm.HS512).keyID("retired").build(), claims);
+        retired.sign(new MACSigner(RETIRED_KEY.getBytes()));
+        rotatedToken = retired.serialize();
+    }
+
+    @Benchmark
+    public String signWithNewSigner() throws Exception {
+        SignedJWT signedJWT = new SignedJWT(new JWSHeader(JWSAlgorithm.HS512), claims);
+        signedJWT.sign(new MACSigner(BenchmarkFixtures.SIGNER_KEY.getBytes()));
+        return signedJWT.serialize();
+    }
+
+    @Benchmark
+    public String signWithSharedSigner() throws Exception {
+        return tokenCryptoService.sign(claims);
+    }
+
+    @Benchmark
+    public boolean verifyWithNewVerifier() throws Exception {
+        return SignedJWT.parse(token).verify(new MACVerifier(BenchmarkFixtures.SIGNER_KEY.getBytes()));
+    }
+
+    @Benchmark
+    public boolean verifyWithSharedVerifier() throws Exception {
+        return tokenCryptoService.verify(SignedJWT.parse(token));
+    }
+
+    @Benchmark
+    public boolean verifyRotatedKey() throws Exception {
+        return tokenCryptoService.verify(SignedJWT.parse(rotatedToken));
+    }
+}
@@ -1,51 +1,67 @@
 package com.cardano_lms.server.Config;
 
 
-import com.cardano_lms.server.DTO.Request.IntrospectRequest;
+import com.cardano_lms.server.Exception.AppException;
 import com.cardano_lms.server.Service.AuthenticationService;
+import com.cardano_lms.server.Service.TokenRevocationService;
 import com.nimbusds.jose.JOSEException;
+import com.nimbusds.jwt.SignedJWT;
 import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.beans.factory.annotation.Value;
-import org.springframework.security.oauth2.jose.jws.MacAlgorithm;
+import org.springframework.core.convert.converter.Converter;
 import org.springframework.security.oauth2.jwt.Jwt;
 import org.springframework.security.oauth2.jwt.JwtDecoder;
 import org.springframework.security.oauth2.jwt.JwtException;
-import org.springframework.security.oauth2.jwt.NimbusJwtDecoder;
+import org.springframework.security.oauth2.jwt.MappedJwtClaimSetConverter;
 import org.springframework.stereotype.Component;
 
-import javax.crypto.spec.SecretKeySpec;
 import java.text.ParseException;
-import java.util.Objects;
+import java.util.Collections;
+import java.util.Map;
 
 @Component
 public class CustomJwtDecoder implements JwtDecoder {
-    @Value("${jwt.signerKey}")
-    private String signerKey;
+    private final Converter<Map<String, Object>, Map<String, Object>> claimSetConverter =
+            MappedJwtClaimSetConverter.withDefaults(Collections.emptyMap());
 
     @Autowired
     private AuthenticationService authenticationService;
 
-    private NimbusJwtDecoder nimbusJwtDecoder = null;
+    @Autowired
+    private VerifiedTokenCache verifiedTokenCache;
+
+    @Autowired
+    private TokenRevocationService tokenRevocationService;
 
     @Override
     public Jwt decode(String token) throws JwtException {
+        Jwt cached = verifiedTokenCache.get(token);
+        if (cached != null) {
+            if (!tokenRevocationService.isRevoked(cached.getId())) {
+                return cached;
+            }
+            verifiedTokenCache.evict(token);
+            throw new JwtException("Token invalid");
+        }
 
+        Jwt jwt;
         try {
-            var response = authenticationService.introspect(
-                    IntrospectRequest.builder().token(token).build());
-
-            if (!response.isValid()) throw new JwtException("Token invalid");
+            SignedJWT signedJWT = authenticationService.verifyToken(token, false);
+            jwt = toJwt(token, signedJWT);
+        } catch (AppException e) {
+            throw new JwtException("Token invalid");
         } catch (JOSEException | ParseException e) {
             throw new JwtException(e.getMessage());
         }
 
-        if (Objects.isNull(nimbusJwtDecoder)) {
-            SecretKeySpec secretKeySpec = new SecretKeySpec(signerKey.getBytes(), "HS512");
-            nimbusJwtDecoder = NimbusJwtDecoder.withSecretKey(secretKeySpec)
-                    .macAlgorithm(MacAlgorithm.HS512)
-                    .build();
-        }
+        verifiedTokenCache.put(token, jwt);
+        return jwt;
+    }
 
-        return nimbusJwtDecoder.decode(token);
+    private Jwt toJwt(String token, SignedJWT signedJWT) throws ParseException {
+        Map<String, Object> claims = claimSetConverter.convert(signedJWT.getJWTClaimsSet().toJSONObject());
+        return Jwt.withTokenValue(token)
+                .headers(headers -> headers.putAll(signedJWT.getHeader().toJSONObject()))
+                .claims(jwtClaims -> jwtClaims.putAll(claims))
+                .build();
     }
 }
@@ -0,0 +1,35 @@
+package com.cardano_lms.server.Config;
+
+import org.springframework.boot.autoconfigure.flyway.FlywayConfigurationCustomizer;
+import org.springframework.boot.jdbc.DatabaseDriver;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.jdbc.support.JdbcUtils;
+import org.springframework.jdbc.support.MetaDataAccessException;
+
+import java.sql.DatabaseMetaData;
+
+@Configuration
+public class FlywayConfig {
+
+    /**
+     * Migrations are written for Postgres and live under db/migration/{vendor}, so the embedded test
+     * database finds none and keeps using Hibernate's schema. Databases that predate the migrations are
+     * baselined at version 0, letting the guarded V1 run over the existing tables.
+     */
+    @Bean
+    FlywayConfigurationCustomizer vendorMigrationLocations() {
+        return configuration -> {
+            String url;
+            try {
+                url = JdbcUtils.extractDatabaseMetaData(configuration.getDataSource(), DatabaseMetaData::getURL);
+            } catch (MetaDataAccessException e) {
+                throw new IllegalStateException("Could not determine the database for migrations", e);
+            }
+            String vendor = DatabaseDriver.fromJdbcUrl(url).getId();
+            configuration.locations("classpath:db/migration/" + vendor)
+                    .baselineOnMigrate(true)
+                    .baselineVersion("0");
+        };
+    }
+}
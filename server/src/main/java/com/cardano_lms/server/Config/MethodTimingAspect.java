@@ -0,0 +1,56 @@
+package com.cardano_lms.server.Config;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.AccessLevel;
+import lombok.RequiredArgsConstructor;
+import lombok.experimental.FieldDefaults;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.stereotype.Component;
+
+/**
+ * Times every public method of a {@code @Service} bean as {@code lms.service.method}, and of a hand-written
+ * {@code @Repository} class as {@code lms.repository.method}, tagged with class, method and the exception
+ * thrown, if any. Spring Data repository interfaces are already timed by Boot as
+ * {@code spring.data.repository.invocations}. Calls a bean makes to its own methods bypass the proxy and are
+ * counted inside the caller.
+ */
+@Aspect
+@Component
+@RequiredArgsConstructor
+@FieldDefaults(level = AccessLevel.PRIVATE, makeFinal = true)
+public class MethodTimingAspect {
+    MeterRegistry meterRegistry;
+
+    @Around("execution(public * com.cardano_lms.server..*(..)) "
+            + "&& @within(org.springframework.stereotype.Service)")
+    public Object timeService(ProceedingJoinPoint joinPoint) throws Throwable {
+        return time("lms.service.method", joinPoint);
+    }
+
+    @Around("execution(public * com.cardano_lms.server..*(..)) "
+            + "&& @within(org.springframework.stereotype.Repository) "
+            + "&& !this(org.springframework.data.repository.Repository)")
+    public Object timeRepository(ProceedingJoinPoint joinPoint) throws Throwable {
+        return time("lms.repository.method", joinPoint);
+    }
+
+    private Object time(String name, ProceedingJoinPoint joinPoint) throws Throwable {
+        Timer.Sample sample = Timer.start(meterRegistry);
+        String exception = "none";
+        try {
+            return joinPoint.proceed();
+        } catch (Throwable e) {
+            exception = e.getClass().getSimpleName();
+            throw e;
+        } finally {
+            sample.stop(Timer.builder(name)
+                    .tag("class", joinPoint.getSignature().getDeclaringType().getSimpleName())
+                    .tag("method", joinPoint.getSignature().getName())
+                    .tag("exception", exception)
+                    .register(meterRegistry));
+        }
+    }
+}
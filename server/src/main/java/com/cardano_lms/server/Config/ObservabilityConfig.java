@@ -0,0 +1,28 @@
+package com.cardano_lms.server.Config;
+
+import org.hibernate.cfg.AvailableSettings;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.PropertySource;
+
+/**
+ * Actuator and metric defaults live in observability.properties. Hibernate statistics feed the
+ * hibernate.* meters (queries, entity loads, second-level cache hits and misses); Hikari and HTTP server
+ * metrics are bound by Boot once Actuator is on the classpath.
+ */
+@Configuration
+@PropertySource("classpath:observability.properties")
+public class ObservabilityConfig {
+
+    @Bean
+    HibernatePropertiesCustomizer observabilityHibernateCustomizer(
+            SqlStatementCounter sqlStatementCounter,
+            @Value("${metrics.hibernate.statistics:true}") boolean statistics) {
+        return properties -> {
+            properties.putIfAbsent(AvailableSettings.GENERATE_STATISTICS, statistics);
+            properties.putIfAbsent(AvailableSettings.STATEMENT_INSPECTOR, sqlStatementCounter);
+        };
+    }
+}
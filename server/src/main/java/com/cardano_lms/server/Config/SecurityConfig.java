@@ -2,6 +2,8 @@ package com.cardano_lms.server.Config;
 
 import com.cardano_lms.server.OAuth2.CustomOAuth2SuccessHandler;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.actuate.autoconfigure.security.servlet.EndpointRequest;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.http.HttpMethod;
@@ -35,6 +37,9 @@ public class SecurityConfig {
     @Autowired
     private CustomJwtDecoder customJwtDecoder;
 
+    @Value("${management.server.port:}")
+    private String managementPort;
+
     private final CustomOAuth2SuccessHandler customOAuth2SuccessHandler;
 
     public SecurityConfig(CustomOAuth2SuccessHandler customOAuth2SuccessHandler) {
@@ -44,12 +49,24 @@ public class SecurityConfig {
 
     @Bean
     public SecurityFilterChain filterChain(HttpSecurity httpSecurity) throws Exception {
+        // Metrics are only open to the scraper when actuator sits on its own internal port; on the public
+        // listener they need an admin token like any other operational data.
+        boolean internalManagementPort = !managementPort.isBlank();
         httpSecurity
                 .cors(Customizer.withDefaults())
-                .authorizeHttpRequests(request -> request.requestMatchers(HttpMethod.POST, PUBLIC_ENDPOINTS)
-                .permitAll()
-                .anyRequest()
-                .authenticated());
+                .authorizeHttpRequests(request -> {
+                    request.requestMatchers(HttpMethod.POST, PUBLIC_ENDPOINTS)
+                            .permitAll()
+                            .requestMatchers(EndpointRequest.to("health"))
+                            .permitAll();
+                    if (internalManagementPort) {
+                        request.requestMatchers(EndpointRequest.to("prometheus")).permitAll();
+                    } else {
+                        request.requestMatchers(EndpointRequest.to("prometheus")).hasRole("ADMIN");
+                    }
+                    request.anyRequest()
+                            .authenticated();
+                });
 
         httpSecurity.oauth2Login(oauth2 -> oauth2
                         .successHandler(customOAuth2SuccessHandler)
@@ -0,0 +1,115 @@
+package com.cardano_lms.server.Config;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.ServletOutputStream;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import jakarta.servlet.http.HttpServletResponseWrapper;
+import lombok.AccessLevel;
+import lombok.experimental.FieldDefaults;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.io.IOException;
+import java.io.PrintWriter;
+
+/**
+ * Records how many SQL statements each request sent as {@code lms.http.sql.statements}, tagged with the
+ * route pattern. With {@code metrics.sql-count-header.enabled=true}, meant for local and test runs only, the
+ * count is also returned in {@code X-SQL-Statements}; the header is written just before the first body byte,
+ * so it covers the handler and anything loaded while rendering.
+ */
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE + 10)
+@FieldDefaults(level = AccessLevel.PRIVATE, makeFinal = true)
+public class SqlStatementCountFilter extends OncePerRequestFilter {
+    static final String HEADER = "X-SQL-Statements";
+
+    SqlStatementCounter counter;
+    MeterRegistry meterRegistry;
+    boolean exposeHeader;
+
+    public SqlStatementCountFilter(SqlStatementCounter counter,
+                                   MeterRegistry meterRegistry,
+                                   @Value("${metrics.sql-count-header.enabled:false}") boolean exposeHeader) {
+        this.counter = counter;
+        this.meterRegistry = meterRegistry;
+        this.exposeHeader = exposeHeader;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        counter.start();
+        HttpServletResponse target = exposeHeader ? new CountHeaderResponse(response, counter) : response;
+        try {
+            chain.doFilter(request, target);
+        } finally {
+            if (target instanceof CountHeaderResponse countHeaderResponse) {
+                countHeaderResponse.writeHeader();
+            }
+            int statements = counter.stop();
+            Object route = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+            DistributionSummary.builder("lms.http.sql.statements")
+                    .description("SQL statements sent while serving one request")
+                    .tag("method", request.getMethod())
+                    .tag("uri", route == null ? "UNKNOWN" : route.toString())
+                    .register(meterRegistry)
+                    .record(statements);
+        }
+    }
+
+    private static final class CountHeaderResponse extends HttpServletResponseWrapper {
+        private final SqlStatementCounter counter;
+        private boolean written;
+
+        CountHeaderResponse(HttpServletResponse response, SqlStatementCounter counter) {
+            super(response);
+            this.counter = counter;
+        }
+
+        void writeHeader() {
+            if (!written && !isCommitted()) {
+                written = true;
+                setIntHeader(HEADER, counter.current());
+            }
+        }
+
+        @Override
+        public ServletOutputStream getOutputStream() throws IOException {
+            writeHeader();
+            return super.getOutputStream();
+        }
+
+        @Override
+        public PrintWriter getWriter() throws IOException {
+            writeHeader();
+            return super.getWriter();
+        }
+
+        @Override
+        public void flushBuffer() throws IOException {
+            writeHeader();
+            super.flushBuffer();
+        }
+
+        @Override
+        public void sendError(int status, String message) throws IOException {
+            writeHeader();
+            super.sendError(status, message);
+        }
+
+        @Override
+        public void sendError(int status) throws IOException {
+            writeHeader();
+            super.sendError(status);
+        }
+    }
+}
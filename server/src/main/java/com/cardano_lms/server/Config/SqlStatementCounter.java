@@ -0,0 +1,38 @@
+package com.cardano_lms.server.Config;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.springframework.stereotype.Component;
+
+/**
+ * Counts the SQL statements Hibernate prepares on the current thread between {@link #start()} and
+ * {@link #stop()}. A batched insert counts once per statement, not once per row, and plain JdbcTemplate
+ * calls are not seen, so the number tracks ORM round trips, which is where N+1 loads show up.
+ */
+@Component
+public class SqlStatementCounter implements StatementInspector {
+    private final ThreadLocal<int[]> counts = new ThreadLocal<>();
+
+    public void start() {
+        counts.set(new int[1]);
+    }
+
+    public int current() {
+        int[] count = counts.get();
+        return count == null ? 0 : count[0];
+    }
+
+    public int stop() {
+        int statements = current();
+        counts.remove();
+        return statements;
+    }
+
+    @Override
+    public String inspect(String sql) {
+        int[] count = counts.get();
+        if (count != null) {
+            count[0]++;
+        }
+        return sql;
+    }
+}
@@ -0,0 +1,69 @@
+package com.cardano_lms.server.Config;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import lombok.AccessLevel;
+import lombok.experimental.FieldDefaults;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Tokens that already passed signature, expiry and revocation checks. An entry lives until the
+ * token expires or {@code jwt.cache.max-ttl-seconds} elapses, whichever is first; the cap bounds how
+ * long a token revoked on another node can still be accepted here.
+ */
+@Component
+@FieldDefaults(level = AccessLevel.PRIVATE, makeFinal = true)
+public class VerifiedTokenCache {
+    Cache<String, Jwt> cache;
+
+    public VerifiedTokenCache(@Value("${jwt.cache.max-size:50000}") long maxSize,
+                              @Value("${jwt.cache.max-ttl-seconds:60}") long maxTtlSeconds) {
+        long maxTtlNanos = TimeUnit.SECONDS.toNanos(maxTtlSeconds);
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfter(new Expiry<String, Jwt>() {
+                    @Override
+                    public long expireAfterCreate(String token, Jwt jwt, long currentTime) {
+                        return Math.min(maxTtlNanos, nanosUntilExpiry(jwt));
+                    }
+
+                    @Override
+                    public long expireAfterUpdate(String token, Jwt jwt, long currentTime, long currentDuration) {
+                        return expireAfterCreate(token, jwt, currentTime);
+                    }
+
+                    @Override
+                    public long expireAfterRead(String token, Jwt jwt, long currentTime, long currentDuration) {
+                        return currentDuration;
+                    }
+                })
+                .build();
+    }
+
+    public Jwt get(String token) {
+        return cache.getIfPresent(token);
+    }
+
+    public void put(String token, Jwt jwt) {
+        cache.put(token, jwt);
+    }
+
+    public void evict(String token) {
+        cache.invalidate(token);
+    }
+
+    private static long nanosUntilExpiry(Jwt jwt) {
+        Instant expiresAt = jwt.getExpiresAt();
+        if (expiresAt == null) {
+            return 0;
+        }
+        return Math.max(0, Duration.between(Instant.now(), expiresAt).toNanos());
+    }
+}
@@ -0,0 +1,53 @@
+package com.cardano_lms.server.Config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnThreading;
+import org.springframework.boot.autoconfigure.thread.Threading;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+
+/**
+ * Settings that only apply when {@code spring.threads.virtual.enabled=true}. Boot then serves requests, runs
+ * {@code @Async} and {@code @Scheduled} work on virtual threads; the CPU-bound pools for BCrypt and CIP-30
+ * verification keep their platform workers so a login burst cannot occupy every carrier thread.
+ */
+@Configuration
+@ConditionalOnThreading(Threading.VIRTUAL)
+@Slf4j
+public class VirtualThreadConfig {
+
+    /**
+     * Without Tomcat's 200 worker threads capping concurrency, every in-flight request can queue on the
+     * connection pool, so the pool becomes the real limit. It is sized for the database rather than the
+     * request count, and waits are shortened so an overload fails fast instead of parking thousands of
+     * threads for 30 seconds. Explicit spring.datasource.hikari settings still win.
+     */
+    @Bean
+    static BeanPostProcessor virtualThreadPoolSizingPostProcessor(Environment environment) {
+        int defaultPoolSize = Runtime.getRuntime().availableProcessors() * 2 + 1;
+        int maxPoolSize = environment.getProperty("db.pool.virtual.max-size", Integer.class, defaultPoolSize);
+        long connectionTimeoutMillis = environment.getProperty(
+                "db.pool.virtual.connection-timeout-ms", Long.class, 5000L);
+
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (bean instanceof HikariDataSource dataSource) {
+                    if (!environment.containsProperty("spring.datasource.hikari.maximum-pool-size")) {
+                        dataSource.setMaximumPoolSize(maxPoolSize);
+                    }
+                    if (!environment.containsProperty("spring.datasource.hikari.connection-timeout")) {
+                        dataSource.setConnectionTimeout(connectionTimeoutMillis);
+                    }
+                    log.info("Virtual threads enabled; pool {} allows {} connections, {} ms wait",
+                            dataSource.getPoolName(), dataSource.getMaximumPoolSize(),
+                            dataSource.getConnectionTimeout());
+                }
+                return bean;
+            }
+        };
+    }
+}
@@ -0,0 +1,125 @@
+package com.cardano_lms.server.Config;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordedFrame;
+import jdk.jfr.consumer.RecordedStackTrace;
+import jdk.jfr.consumer.RecordingStream;
+import lombok.AccessLevel;
+import lombok.experimental.FieldDefaults;
+import lombok.experimental.NonFinal;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnThreading;
+import org.springframework.boot.autoconfigure.thread.Threading;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Streams the JDK's {@code jdk.VirtualThreadPinned} events in-process. A virtual thread is pinned when it
+ * blocks while its carrier cannot be released, typically inside a {@code synchronized} block; on a JDBC path
+ * that turns a slow query into a lost carrier. Each event is timed under {@code lms.virtual-threads.pinned},
+ * tagged {@code jdbc} when the stack runs through the driver, pool or ORM, and the first occurrence of each
+ * call site is logged with its stack. The call site is the first frame outside the JDK: the top frames of a
+ * pinned event are nearly always the same park call, which would fold every site into one.
+ */
+@Component
+@ConditionalOnThreading(Threading.VIRTUAL)
+@ConditionalOnProperty(name = "diagnostics.pinning.enabled", havingValue = "true", matchIfMissing = true)
+@Slf4j
+@FieldDefaults(level = AccessLevel.PRIVATE, makeFinal = true)
+public class VirtualThreadPinningMonitor {
+    static final String PINNED_EVENT = "jdk.VirtualThreadPinned";
+    static final List<String> JDBC_PACKAGES = List.of(
+            "java.sql.", "org.postgresql.", "org.h2.", "com.zaxxer.hikari.",
+            "org.hibernate.", "org.springframework.jdbc.", "org.springframework.orm.");
+    static final List<String> PLATFORM_PACKAGES = List.of("java.", "jdk.", "sun.");
+    static final int LOGGED_FRAMES = 20;
+    static final int MAX_LOGGED_SITES = 500;
+
+    MeterRegistry meterRegistry;
+    Duration threshold;
+    Set<String> loggedSites = ConcurrentHashMap.newKeySet();
+
+    @NonFinal
+    RecordingStream stream;
+
+    public VirtualThreadPinningMonitor(MeterRegistry meterRegistry,
+                                       @Value("${diagnostics.pinning.threshold-ms:20}") long thresholdMillis) {
+        this.meterRegistry = meterRegistry;
+        this.threshold = Duration.ofMillis(thresholdMillis);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        try {
+            RecordingStream recording = new RecordingStream();
+            recording.enable(PINNED_EVENT).withThreshold(threshold).withStackTrace();
+            recording.onEvent(PINNED_EVENT, this::onPinned);
+            recording.startAsync();
+            stream = recording;
+            log.info("Watching for virtual thread pinning longer than {} ms", threshold.toMillis());
+        } catch (RuntimeException e) {
+            log.warn("Virtual thread pinning diagnostics unavailable: {}", e.getMessage());
+        }
+    }
+
+    void onPinned(RecordedEvent event) {
+        List<RecordedFrame> frames = frames(event.getStackTrace());
+        String source = frames.stream().anyMatch(VirtualThreadPinningMonitor::isJdbcFrame) ? "jdbc" : "other";
+
+        Timer.builder("lms.virtual-threads.pinned")
+                .description("Time virtual threads spent blocked while pinned to their carrier")
+                .tag("source", source)
+                .register(meterRegistry)
+                .record(event.getDuration());
+
+        String site = frames.stream()
+                .filter(frame -> !isPlatformFrame(frame))
+                .findFirst()
+                .or(() -> frames.stream().findFirst())
+                .map(VirtualThreadPinningMonitor::describe)
+                .orElse("unknown");
+        if (loggedSites.size() < MAX_LOGGED_SITES && loggedSites.add(site)) {
+            StringBuilder stack = new StringBuilder();
+            frames.stream().limit(LOGGED_FRAMES).forEach(frame -> stack.append("\n\tat ").append(describe(frame)));
+            log.warn("Virtual thread pinned for {} ms ({}) at {}{}",
+                    event.getDuration().toMillis(), source, site, stack);
+        }
+    }
+
+    private static List<RecordedFrame> frames(RecordedStackTrace stackTrace) {
+        return stackTrace == null ? List.of() : stackTrace.getFrames();
+    }
+
+    private static boolean isJdbcFrame(RecordedFrame frame) {
+        String type = frame.getMethod().getType().getName();
+        return JDBC_PACKAGES.stream().anyMatch(type::startsWith);
+    }
+
+    private static boolean isPlatformFrame(RecordedFrame frame) {
+        String type = frame.getMethod().getType().getName();
+        return PLATFORM_PACKAGES.stream().anyMatch(type::startsWith);
+    }
+
+    private static String describe(RecordedFrame frame) {
+        return frame.getMethod().getType().getName() + "." + frame.getMethod().getName()
+                + ":" + frame.getLineNumber();
+    }
+
+    @PreDestroy
+    void shutdown() {
+        if (stream != null) {
+            stream.close();
+        }
+    }
+}
@@ -0,0 +1,69 @@
+package com.cardano_lms.server.Config;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.web.servlet.HandlerInterceptor;
+import org.springframework.web.servlet.config.annotation.AsyncSupportConfigurer;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+@Configuration
+public class WebConfig implements WebMvcConfigurer {
+
+    @Value("${web.async.timeout-ms:600000}")
+    long asyncTimeoutMillis;
+
+    @Value("${http.cache-control.course-catalog:private, max-age=30}")
+    String courseCatalogCacheControl;
+
+    @Value("${http.cache-control.course-detail:private, no-cache}")
+    String courseDetailCacheControl;
+
+    @Value("${http.cache-control.course-outline:private, no-cache}")
+    String courseOutlineCacheControl;
+
+    @Value("${http.cache-control.instructor-profile:private, no-cache}")
+    String instructorProfileCacheControl;
+
+    /**
+     * Streaming exports keep the response open until the last row is written, well past the
+     * container's default async timeout.
+     */
+    @Override
+    public void configureAsyncSupport(AsyncSupportConfigurer configurer) {
+        configurer.setDefaultTimeout(asyncTimeoutMillis);
+    }
+
+    /**
+     * Cache-Control for the read endpoints, one property per endpoint. The defaults keep responses in the
+     * client's own cache and make it revalidate with the ETag; set {@code public, s-maxage=...} to let a CDN
+     * hold catalog data, or an empty value to fall back to Spring Security's no-store.
+     */
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        cacheControl(registry, courseCatalogCacheControl, "/course");
+        cacheControl(registry, courseDetailCacheControl, "/course/{id}");
+        cacheControl(registry, courseOutlineCacheControl, "/course/{id}/outline");
+        cacheControl(registry, instructorProfileCacheControl,
+                "/instructor-profiles/id={id}", "/instructor-profiles/userId={userId}");
+    }
+
+    private static void cacheControl(InterceptorRegistry registry, String policy, String... paths) {
+        if (policy.isBlank()) {
+            return;
+        }
+        registry.addInterceptor(new HandlerInterceptor() {
+            @Override
+            public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+                if (HttpMethod.GET.matches(request.getMethod()) || HttpMethod.HEAD.matches(request.getMethod())) {
+                    response.setHeader(HttpHeaders.CACHE_CONTROL, policy);
+                }
+                return true;
+            }
+        }).addPathPatterns(paths);
+    }
+}
@@ -0,0 +1,6 @@
+package com.cardano_lms.server.Constant;
+
+public enum ExamSessionStatus {
+    OPEN,
+    SUBMITTED
+}
@@ -0,0 +1,21 @@
+package com.cardano_lms.server.Constant;
+
+import lombok.Getter;
+
+import java.util.List;
+
+@Getter
+public enum ExportDataset {
+    COURSES(List.of("id", "title", "shortDescription", "instructorId", "instructorName", "price", "currency",
+            "discount", "discountEndTime", "draft", "policyId", "createdAt", "updatedAt")),
+    ENROLLMENTS(List.of("id", "orderId", "userId", "courseId", "paymentMethod", "price", "status", "txHash",
+            "completed", "enrolledAt")),
+    USERS(List.of("id", "username", "email", "firstName", "lastName", "dob", "walletAddress", "role",
+            "loginMethod"));
+
+    private final List<String> columns;
+
+    ExportDataset(List<String> columns) {
+        this.columns = columns;
+    }
+}
@@ -0,0 +1,7 @@
+package com.cardano_lms.server.Constant;
+
+public enum PaymentCheckResult {
+    VERIFIED,
+    PENDING,
+    REJECTED
+}
@@ -0,0 +1,9 @@
+package com.cardano_lms.server.Constant;
+
+public enum SignatureCheckResult {
+    VALID,
+    INVALID_SIGNATURE,
+    MESSAGE_MISMATCH,
+    ADDRESS_MISMATCH,
+    MALFORMED
+}
@@ -1,17 +1,27 @@
 package com.cardano_lms.server.Controller;
 
+import com.cardano_lms.server.Constant.Currency;
 import com.cardano_lms.server.DTO.Request.*;
 import com.cardano_lms.server.DTO.Response.*;
+import com.cardano_lms.server.Entity.CourseOutline;
+import com.cardano_lms.server.Repository.CourseVersionView;
+import com.cardano_lms.server.Service.CourseImportService;
+import com.cardano_lms.server.Service.CourseOutlineService;
 import com.cardano_lms.server.Service.CourseService;
+import com.cardano_lms.server.Util.ConditionalRequests;
 import lombok.AccessLevel;
 import lombok.RequiredArgsConstructor;
 import lombok.experimental.FieldDefaults;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.MediaType;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 import shaded.org.bouncycastle.util.test.Test;
 
+import java.io.InputStream;
+import java.time.ZoneId;
 import java.util.List;
 
 @RestController
@@ -24,6 +34,12 @@ public class CourseController {
     @Autowired
     CourseService courseService;
 
+    @Autowired
+    CourseImportService courseImportService;
+
+    @Autowired
+    CourseOutlineService courseOutlineService;
+
     @PostMapping
     public ApiResponse<CourseCreationResponse> createCourse(@RequestBody CourseCreationRequest courseCreationRequest) {
         return ApiResponse.<CourseCreationResponse>builder()
@@ -31,17 +47,47 @@ public class CourseController {
                 .build();
     }
 
+    @PostMapping(value = "/import", consumes = {MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_NDJSON_VALUE})
+    public ApiResponse<CourseImportResponse> importCourses(InputStream body) {
+        CourseImportResponse report = courseImportService.importCourses(body);
+        return ApiResponse.<CourseImportResponse>builder()
+                .message("Imported " + report.getImported() + " of " + report.getReceived() + " courses")
+                .result(report)
+                .build();
+    }
+
     @GetMapping
-    public ApiResponse<List<CourseCreationResponse>> getAll() {
-        return ApiResponse.<List<CourseCreationResponse>>builder()
-                .result(courseService.getCourses())
+    public ApiResponse<CourseCatalogResponse> getAll(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size,
+            @RequestParam(required = false) Boolean draft,
+            @RequestParam(required = false) Currency currency,
+            @RequestParam(required = false) Long instructorId) {
+        return ApiResponse.<CourseCatalogResponse>builder()
+                .result(courseService.getCourseCatalog(cursor, size, draft, currency, instructorId))
                 .build();
     }
 
     @GetMapping("/{id}")
-    public ApiResponse<CourseCreationResponse> getCourseById(@PathVariable String id) {
+    public ApiResponse<CourseCreationResponse> getCourseById(@PathVariable String id, WebRequest webRequest) {
+        CourseVersionView version = courseService.getCourseVersion(id);
+        if (ConditionalRequests.notModified(webRequest, version.getUpdatedAt())) {
+            return null;
+        }
         return ApiResponse.<CourseCreationResponse>builder()
-                .result(courseService.getCourseById(id))
+                .result(courseService.getCourseById(version))
+                .build();
+    }
+
+    @GetMapping("/{id}/outline")
+    public ApiResponse<CourseOutlineResponse> getCourseOutline(@PathVariable String id, WebRequest webRequest) {
+        CourseOutline outline = courseOutlineService.getOutline(id);
+        if (webRequest.checkNotModified(outline.getEtag(),
+                outline.getUpdatedAt().atZone(ZoneId.systemDefault()).toInstant().toEpochMilli())) {
+            return null;
+        }
+        return ApiResponse.<CourseOutlineResponse>builder()
+                .result(outline.getOutline())
                 .build();
     }
 
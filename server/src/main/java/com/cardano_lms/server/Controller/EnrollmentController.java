@@ -3,7 +3,7 @@ package com.cardano_lms.server.Controller;
 import com.cardano_lms.server.DTO.Request.ApiResponse;
 import com.cardano_lms.server.DTO.Request.EnrollCourseRequest;
 import com.cardano_lms.server.DTO.Request.ValidatePaymentRequest;
-import com.cardano_lms.server.Entity.Enrollment;
+import com.cardano_lms.server.DTO.Response.EnrollmentStatusResponse;
 import com.cardano_lms.server.Service.EnrollmentService;
 import lombok.AccessLevel;
 import lombok.RequiredArgsConstructor;
@@ -25,8 +25,8 @@ public class EnrollmentController {
     }
 
     @PostMapping
-    public ApiResponse<Enrollment> enrollACourse(@RequestBody EnrollCourseRequest request) {
-        Enrollment enrollment = enrollmentService.createEnrollmentAfterPayment(
+    public ApiResponse<EnrollmentStatusResponse> enrollACourse(@RequestBody EnrollCourseRequest request) {
+        EnrollmentStatusResponse enrollment = enrollmentService.createEnrollmentAfterPayment(
                 request.getUserId(),
                 request.getCourseId(),
                 request.getCoursePaymentMethodId(),
@@ -34,10 +34,17 @@ public class EnrollmentController {
                 request.getTxHash()
         );
 
-        return ApiResponse.<Enrollment>builder()
-                .message("Enroll this course success")
+        return ApiResponse.<EnrollmentStatusResponse>builder()
+                .message("Enrollment received, payment verification in progress")
                 .result(enrollment)
                 .build();
     }
 
+    @GetMapping("/{orderId}")
+    public ApiResponse<EnrollmentStatusResponse> getEnrollmentStatus(@PathVariable String orderId) {
+        return ApiResponse.<EnrollmentStatusResponse>builder()
+                .result(enrollmentService.getEnrollmentStatus(orderId))
+                .build();
+    }
+
 }
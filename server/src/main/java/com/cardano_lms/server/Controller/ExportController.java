@@ -0,0 +1,49 @@
+package com.cardano_lms.server.Controller;
+
+import com.cardano_lms.server.Constant.ExportDataset;
+import com.cardano_lms.server.Constant.ExportFormat;
+import com.cardano_lms.server.Exception.AppException;
+import com.cardano_lms.server.Exception.ErrorCode;
+import com.cardano_lms.server.Service.ExportService;
+import lombok.AccessLevel;
+import lombok.RequiredArgsConstructor;
+import lombok.experimental.FieldDefaults;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+@RestController
+@RequestMapping("/export")
+@Slf4j
+@RequiredArgsConstructor
+@FieldDefaults(level = AccessLevel.PRIVATE, makeFinal = true)
+public class ExportController {
+    ExportService exportService;
+
+    @GetMapping("/{dataset}")
+    public ResponseEntity<StreamingResponseBody> export(@PathVariable String dataset,
+                                                        @RequestParam(defaultValue = "ndjson") String format,
+                                                        @RequestParam(defaultValue = "false") boolean gzip) {
+        ExportDataset exportDataset = parse(ExportDataset.class, dataset);
+        ExportFormat exportFormat = parse(ExportFormat.class, format);
+        StreamingResponseBody body = exportService.export(exportDataset, exportFormat, gzip);
+
+        String filename = dataset.toLowerCase() + "." + exportFormat.getExtension() + (gzip ? ".gz" : "");
+        return ResponseEntity.ok()
+                .contentType(MediaType.parseMediaType(gzip ? "application/gzip" : exportFormat.getContentType()))
+                .header(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment().filename(filename).build().toString())
+                .body(body);
+    }
+
+    private <E extends Enum<E>> E parse(Class<E> type, String value) {
+        try {
+            return Enum.valueOf(type, value.toUpperCase());
+        } catch (IllegalArgumentException e) {
+            throw new AppException(ErrorCode.INVALID_ARGUMENT);
+        }
+    }
+}
@@ -5,9 +5,11 @@ import com.cardano_lms.server.DTO.Request.InstructorProfileUpdateRequest;
 import com.cardano_lms.server.DTO.Response.InstructorProfileResponse;
 import com.cardano_lms.server.Entity.InstructorProfile;
 import com.cardano_lms.server.Service.InstructorProfileService;
+import com.cardano_lms.server.Util.ConditionalRequests;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 @RestController
 @RequestMapping("/instructor-profiles")
@@ -18,8 +20,13 @@ public class InstructorProfileController {
 
     @GetMapping("/userId={userId}")
     public ApiResponse<InstructorProfileResponse> getDetailInstructorProfiles(
-            @PathVariable String userId
+            @PathVariable String userId,
+            WebRequest webRequest
     ) {
+        if (ConditionalRequests.notModified(webRequest,
+                profileService.getProfileVersionByUserId(userId).getUpdatedAt())) {
+            return null;
+        }
         InstructorProfileResponse response = profileService.getProfileByUserId(userId);
         return
                 ApiResponse.<InstructorProfileResponse>builder()
@@ -31,8 +38,12 @@ public class InstructorProfileController {
 
     @GetMapping("/id={id}")
     public ApiResponse<InstructorProfileResponse> getProfileById(
-            @PathVariable Long id
+            @PathVariable Long id,
+            WebRequest webRequest
     ) {
+        if (ConditionalRequests.notModified(webRequest, profileService.getProfileVersion(id).getUpdatedAt())) {
+            return null;
+        }
         InstructorProfileResponse response = profileService.getProfileById(id);
         return
                 ApiResponse.<InstructorProfileResponse>builder()
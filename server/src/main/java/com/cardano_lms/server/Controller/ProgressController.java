@@ -0,0 +1,37 @@
+package com.cardano_lms.server.Controller;
+
+import com.cardano_lms.server.DTO.Request.ApiResponse;
+import com.cardano_lms.server.DTO.Request.ProgressEventRequest;
+import com.cardano_lms.server.DTO.Response.EnrollmentProgressResponse;
+import com.cardano_lms.server.Service.ProgressService;
+import lombok.AccessLevel;
+import lombok.RequiredArgsConstructor;
+import lombok.experimental.FieldDefaults;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+
+@RestController
+@RequestMapping("/progress")
+@Slf4j
+@RequiredArgsConstructor
+@FieldDefaults(level = AccessLevel.PRIVATE, makeFinal = true)
+public class ProgressController {
+    ProgressService progressService;
+
+    @PostMapping("/events")
+    public ApiResponse<Integer> recordEvents(@RequestBody List<ProgressEventRequest> events) {
+        return ApiResponse.<Integer>builder()
+                .message("Progress events accepted")
+                .result(progressService.recordEvents(events))
+                .build();
+    }
+
+    @GetMapping("/enrollment/{enrollmentId}")
+    public ApiResponse<EnrollmentProgressResponse> getProgress(@PathVariable Long enrollmentId) {
+        return ApiResponse.<EnrollmentProgressResponse>builder()
+                .result(progressService.getProgress(enrollmentId))
+                .build();
+    }
+}
@@ -1,4 +1,70 @@
 package com.cardano_lms.server.Controller;
 
+import com.cardano_lms.server.DTO.Request.ApiResponse;
+import com.cardano_lms.server.DTO.Request.ExamStartRequest;
+import com.cardano_lms.server.DTO.Request.SubmittedAnswerRequest;
+import com.cardano_lms.server.DTO.Request.TestSubmissionRequest;
+import com.cardano_lms.server.DTO.Response.ExamSessionResponse;
+import com.cardano_lms.server.DTO.Response.TestResultResponse;
+import com.cardano_lms.server.Service.ExamSessionService;
+import com.cardano_lms.server.Service.GradingService;
+import lombok.AccessLevel;
+import lombok.RequiredArgsConstructor;
+import lombok.experimental.FieldDefaults;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+
+@RestController
+@RequestMapping("/test")
+@Slf4j
+@RequiredArgsConstructor
+@FieldDefaults(level = AccessLevel.PRIVATE, makeFinal = true)
 public class TestController {
+    GradingService gradingService;
+    ExamSessionService examSessionService;
+
+    @PostMapping("/{testId}/submit")
+    public ApiResponse<TestResultResponse> submit(@PathVariable Long testId,
+                                                  @RequestBody TestSubmissionRequest request) {
+        return ApiResponse.<TestResultResponse>builder()
+                .message("Test graded")
+                .result(gradingService.submit(testId, request))
+                .build();
+    }
+
+    @PostMapping("/{testId}/session")
+    public ApiResponse<ExamSessionResponse> startSession(@PathVariable Long testId,
+                                                         @RequestBody ExamStartRequest request) {
+        return ApiResponse.<ExamSessionResponse>builder()
+                .message("Exam session started")
+                .result(examSessionService.start(testId, request.getEnrollmentId()))
+                .build();
+    }
+
+    @GetMapping("/session/{sessionId}")
+    public ApiResponse<ExamSessionResponse> getSession(@PathVariable String sessionId) {
+        return ApiResponse.<ExamSessionResponse>builder()
+                .result(examSessionService.getSession(sessionId))
+                .build();
+    }
+
+    @PutMapping("/session/{sessionId}/answers")
+    public ApiResponse<ExamSessionResponse> autosave(@PathVariable String sessionId,
+                                                     @RequestBody List<SubmittedAnswerRequest> answers) {
+        return ApiResponse.<ExamSessionResponse>builder()
+                .message("Answers saved")
+                .result(examSessionService.autosave(sessionId, answers))
+                .build();
+    }
+
+    @PostMapping("/session/{sessionId}/submit")
+    public ApiResponse<ExamSessionResponse> submitSession(@PathVariable String sessionId,
+                                                          @RequestBody(required = false) List<SubmittedAnswerRequest> answers) {
+        return ApiResponse.<ExamSessionResponse>builder()
+                .message("Exam submitted")
+                .result(examSessionService.submit(sessionId, answers))
+                .build();
+    }
 }
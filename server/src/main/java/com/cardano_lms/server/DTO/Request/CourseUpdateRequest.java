@@ -23,4 +23,9 @@ public class CourseUpdateRequest {
     private Double discount;
     private LocalDateTime discountEndTime;
 
+    /**
+     * The version the client last read. When set, the update is refused with 409 if the course has been
+     * edited since; when absent, a concurrent edit is retried and the last writer wins.
+     */
+    private Long version;
 }
@@ -0,0 +1,14 @@
+package com.cardano_lms.server.DTO.Request;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ExamStartRequest {
+    private Long enrollmentId;
+}
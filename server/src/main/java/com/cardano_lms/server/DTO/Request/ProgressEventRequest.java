@@ -0,0 +1,18 @@
+package com.cardano_lms.server.DTO.Request;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ProgressEventRequest {
+    private Long enrollmentId;
+    private Long lectureId;
+    private Long testId;
+    private int positionSeconds;
+    private boolean completed;
+}
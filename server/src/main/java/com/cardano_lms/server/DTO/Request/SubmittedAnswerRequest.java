@@ -0,0 +1,17 @@
+package com.cardano_lms.server.DTO.Request;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class SubmittedAnswerRequest {
+    private Long questionId;
+    private List<Long> answerIds;
+}
@@ -0,0 +1,22 @@
+package com.cardano_lms.server.DTO.Response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ChapterOutlineResponse {
+    private Long id;
+    private String title;
+    private int orderIndex;
+    private int lectureCount;
+    private long durationSeconds;
+    private List<LectureOutlineResponse> lectures;
+    private List<TestOutlineResponse> tests;
+}
@@ -0,0 +1,18 @@
+package com.cardano_lms.server.DTO.Response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class CourseCatalogResponse {
+    private List<CourseSummaryResponse> items;
+    private String nextCursor;
+    private boolean hasMore;
+}
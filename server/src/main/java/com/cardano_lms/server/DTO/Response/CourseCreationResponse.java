@@ -28,6 +28,7 @@ public class CourseCreationResponse {
 
     private LocalDateTime createdAt;
     private LocalDateTime updatedAt;
+    private Long version;
 
     private List<CoursePaymentMethodResponse> coursePaymentMethods;
     private List<ChapterResponse> chapters;
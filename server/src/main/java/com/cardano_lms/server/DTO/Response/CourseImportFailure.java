@@ -0,0 +1,16 @@
+package com.cardano_lms.server.DTO.Response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class CourseImportFailure {
+    private int index;
+    private String title;
+    private String error;
+}
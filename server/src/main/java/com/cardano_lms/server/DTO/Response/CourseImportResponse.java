@@ -0,0 +1,21 @@
+package com.cardano_lms.server.DTO.Response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class CourseImportResponse {
+    private int received;
+    private int imported;
+    private int failed;
+    private long elapsedMillis;
+    private List<String> importedIds;
+    private List<CourseImportFailure> failures;
+}
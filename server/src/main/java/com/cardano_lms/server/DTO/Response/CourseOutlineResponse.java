@@ -0,0 +1,23 @@
+package com.cardano_lms.server.DTO.Response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class CourseOutlineResponse {
+    private String courseId;
+    private String title;
+    private int chapterCount;
+    private int lectureCount;
+    private int testCount;
+    private long totalDurationSeconds;
+    private List<ChapterOutlineResponse> chapters;
+    private List<TestOutlineResponse> courseTests;
+}
@@ -28,5 +28,6 @@ public class CourseUpdateResponse {
 
     private LocalDateTime createdAt;
     private LocalDateTime updatedAt;
+    private Long version;
 
 }
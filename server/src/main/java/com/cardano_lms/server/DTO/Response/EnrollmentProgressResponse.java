@@ -0,0 +1,19 @@
+package com.cardano_lms.server.DTO.Response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class EnrollmentProgressResponse {
+    private Long enrollmentId;
+    private String courseId;
+    private int completedItems;
+    private int totalItems;
+    private double completionPercent;
+    private boolean completed;
+}
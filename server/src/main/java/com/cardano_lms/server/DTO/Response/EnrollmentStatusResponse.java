@@ -0,0 +1,22 @@
+package com.cardano_lms.server.DTO.Response;
+
+import com.cardano_lms.server.Constant.OrderStatus;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class EnrollmentStatusResponse {
+    private String orderId;
+    private String courseId;
+    private String txHash;
+    private OrderStatus status;
+    private int verificationAttempts;
+    private LocalDateTime enrolledAt;
+}
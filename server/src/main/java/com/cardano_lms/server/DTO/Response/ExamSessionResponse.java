@@ -0,0 +1,28 @@
+package com.cardano_lms.server.DTO.Response;
+
+import com.cardano_lms.server.Constant.ExamSessionStatus;
+import com.cardano_lms.server.DTO.Request.SubmittedAnswerRequest;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ExamSessionResponse {
+    private String sessionId;
+    private Long testId;
+    private Long enrollmentId;
+    private ExamSessionStatus status;
+    private LocalDateTime startedAt;
+    private LocalDateTime deadline;
+    private long remainingSeconds;
+    private boolean autoSubmitted;
+    private List<SubmittedAnswerRequest> answers;
+    private TestResultResponse result;
+}
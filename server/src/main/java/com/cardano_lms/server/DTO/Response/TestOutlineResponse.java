@@ -0,0 +1,17 @@
+package com.cardano_lms.server.DTO.Response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class TestOutlineResponse {
+    private Long id;
+    private String title;
+    private int orderIndex;
+    private int durationMinutes;
+}
@@ -0,0 +1,21 @@
+package com.cardano_lms.server.DTO.Response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class TestResultResponse {
+    private Long testId;
+    private int score;
+    private int maxScore;
+    private int percent;
+    private int passScore;
+    private boolean passed;
+    private int correctQuestions;
+    private int totalQuestions;
+}
@@ -8,7 +8,9 @@ import lombok.*;
 @Table(name = "answers")
 @Data @NoArgsConstructor @AllArgsConstructor @Builder
 public class Answer {
-    @Id @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "answers_seq")
+    @SequenceGenerator(name = "answers_seq", sequenceName = "answers_seq", allocationSize = 50)
     private Long id;
 
     private String content;
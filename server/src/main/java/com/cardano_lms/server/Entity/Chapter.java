@@ -4,6 +4,7 @@ import com.fasterxml.jackson.annotation.JsonBackReference;
 import com.fasterxml.jackson.annotation.JsonIgnore;
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.BatchSize;
 
 import java.util.ArrayList;
 import java.util.List;
@@ -13,22 +14,29 @@ import java.util.List;
 @Data @NoArgsConstructor @AllArgsConstructor @Builder
 @Setter @Getter
 public class Chapter {
-    @Id @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "chapters_seq")
+    @SequenceGenerator(name = "chapters_seq", sequenceName = "chapters_seq", allocationSize = 50)
     private Long id;
 
     private String title;
     private int orderIndex;
 
+    @Version
+    private Long version;
+
     @ManyToOne @JoinColumn(name = "course_id")
     @JsonIgnore
     private Course course;
 
     @OneToMany(mappedBy = "chapter", cascade = CascadeType.ALL, orphanRemoval = true)
+    @BatchSize(size = 50)
     @Builder.Default
     private List<Lecture> lectures = new ArrayList<>();
 
     @Builder.Default
     @OneToMany(mappedBy = "chapter", cascade = CascadeType.ALL, orphanRemoval = true)
+    @BatchSize(size = 50)
     private List<Test> tests = new ArrayList<>();
 
     public void addLecture(Lecture lecture) {
@@ -5,6 +5,7 @@ import com.cardano_lms.server.Constant.PredefinedCurrency;
 import com.fasterxml.jackson.annotation.JsonManagedReference;
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.BatchSize;
 import shaded.org.checkerframework.common.value.qual.StringVal;
 
 import java.time.LocalDateTime;
@@ -13,8 +14,24 @@ import java.util.List;
 
 @Entity
 @Table(name = "courses")
+@NamedEntityGraph(
+        name = Course.DETAIL_GRAPH,
+        attributeNodes = {
+                @NamedAttributeNode(value = "instructor", subgraph = "instructor"),
+                @NamedAttributeNode("chapters")
+        },
+        subgraphs = {
+                @NamedSubgraph(name = "instructor", attributeNodes = @NamedAttributeNode(value = "user", subgraph = "user")),
+                @NamedSubgraph(name = "user", attributeNodes = {
+                        @NamedAttributeNode("role"),
+                        @NamedAttributeNode("loginMethod")
+                })
+        }
+)
 @Data @NoArgsConstructor @AllArgsConstructor @Builder
 public class Course {
+    public static final String DETAIL_GRAPH = "Course.detail";
+
     @Id
     @GeneratedValue(strategy = GenerationType.UUID)
     private String id;
@@ -42,16 +59,22 @@ public class Course {
     private LocalDateTime createdAt;
     private LocalDateTime updatedAt;
 
+    @Version
+    private Long version;
+
     @OneToMany(mappedBy = "course", cascade = CascadeType.ALL, orphanRemoval = true)
+    @BatchSize(size = 50)
     @Builder.Default
     private List<Chapter> chapters = new ArrayList<>();
 
     @Builder.Default
     @OneToMany(mappedBy = "course", cascade = CascadeType.ALL, orphanRemoval = true)
+    @BatchSize(size = 50)
     private List<Test> courseTests = new ArrayList<>();
 
     @Builder.Default
     @OneToMany(mappedBy = "course", cascade = CascadeType.ALL, orphanRemoval = true)
+    @BatchSize(size = 50)
     private List<CoursePaymentMethod> coursePaymentMethods = new ArrayList<>();
 
     public void addTest(Test test) {
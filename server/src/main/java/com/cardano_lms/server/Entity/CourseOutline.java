@@ -0,0 +1,36 @@
+package com.cardano_lms.server.Entity;
+
+import com.cardano_lms.server.DTO.Response.CourseOutlineResponse;
+import jakarta.persistence.*;
+import lombok.*;
+import org.hibernate.annotations.JdbcTypeCode;
+import org.hibernate.type.SqlTypes;
+
+import java.time.LocalDateTime;
+
+/**
+ * Precomputed outline of one course, served as-is by the outline endpoint. The etag is a hash of the
+ * outline document, so a rebuild that changes nothing visible keeps clients' cached copies valid.
+ */
+@Entity
+@Table(name = "course_outline")
+@Data @NoArgsConstructor @AllArgsConstructor @Builder
+public class CourseOutline {
+    @Id
+    private String courseId;
+
+    @Column(nullable = false, length = 64)
+    private String etag;
+
+    @JdbcTypeCode(SqlTypes.JSON)
+    @Column(nullable = false)
+    private CourseOutlineResponse outline;
+
+    private int chapterCount;
+    private int lectureCount;
+    private int testCount;
+    private long totalDurationSeconds;
+
+    @Column(nullable = false)
+    private LocalDateTime updatedAt;
+}
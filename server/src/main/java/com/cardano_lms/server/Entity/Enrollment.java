@@ -34,11 +34,18 @@ public class Enrollment {
     private String orderId;
     private double price;
 
+    @Column(unique = true)
+    private String txHash;
+
+    private Integer verificationAttempts;
+    private LocalDateTime nextCheckAt;
+
     @ManyToOne @JoinColumn(name = "course_id")
     private Course course;
 
-    @OneToMany
-    @JoinColumn(name = "enrollment_id")
+    private Integer completedItems;
+
+    @OneToMany(mappedBy = "enrollment")
     private List<Progress> progresses;
 
 }
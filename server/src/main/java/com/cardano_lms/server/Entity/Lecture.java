@@ -9,7 +9,9 @@ import org.springframework.boot.context.properties.bind.DefaultValue;
 @Table(name = "lectures")
 @Data @NoArgsConstructor @AllArgsConstructor @Builder
 public class Lecture {
-    @Id @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "lectures_seq")
+    @SequenceGenerator(name = "lectures_seq", sequenceName = "lectures_seq", allocationSize = 50)
     private Long id;
 
     private String title;
@@ -7,6 +7,8 @@ import jakarta.persistence.Id;
 import lombok.*;
 import lombok.experimental.FieldDefaults;
 
+import java.time.LocalDateTime;
+
 @Getter
 @Setter
 @Builder
@@ -21,4 +23,5 @@ public class Nonce {
 
     String nonce;
     String address;
+    LocalDateTime expiresAt;
 }
@@ -1,16 +1,19 @@
 package com.cardano_lms.server.Entity;
 
 import com.cardano_lms.server.Constant.CourseContentType;
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import jakarta.persistence.Entity;
 import jakarta.persistence.*;
-import lombok.AllArgsConstructor;
-import lombok.Data;
-import lombok.NoArgsConstructor;
+import lombok.*;
 
 import java.time.LocalDate;
+import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "progress")
+@Table(name = "progress", uniqueConstraints = {
+        @UniqueConstraint(columnNames = {"enrollment_id", "lecture_id"}),
+        @UniqueConstraint(columnNames = {"enrollment_id", "test_id"})
+})
 @Data @NoArgsConstructor @AllArgsConstructor
 public class Progress {
     @Id @GeneratedValue(strategy = GenerationType.IDENTITY)
@@ -20,7 +23,16 @@ public class Progress {
     private CourseContentType type;
 
     private int score;
+    private Integer positionSeconds;
+    private Boolean completed;
     private LocalDate completedAt;
+    private LocalDateTime updatedAt;
+
+    @ManyToOne @JoinColumn(name = "enrollment_id")
+    @JsonIgnore
+    @ToString.Exclude
+    @EqualsAndHashCode.Exclude
+    private Enrollment enrollment;
 
     @ManyToOne @JoinColumn(name = "lecture_id")
     private Lecture lecture;
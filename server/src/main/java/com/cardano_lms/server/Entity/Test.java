@@ -3,6 +3,7 @@ package com.cardano_lms.server.Entity;
 import com.fasterxml.jackson.annotation.JsonIgnore;
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.BatchSize;
 
 import java.util.ArrayList;
 import java.util.List;
@@ -11,7 +12,9 @@ import java.util.List;
 @Table(name = "tests")
 @Data @NoArgsConstructor @AllArgsConstructor @Builder
 public class Test {
-    @Id @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "tests_seq")
+    @SequenceGenerator(name = "tests_seq", sequenceName = "tests_seq", allocationSize = 50)
     private Long id;
 
     private String title;
@@ -20,6 +23,9 @@ public class Test {
     private int passScore;
     private int orderIndex;
 
+    @Version
+    private Long version;
+
     @ManyToOne @JoinColumn(name = "course_id", nullable = true)
     @JsonIgnore
     private Course course;
@@ -29,6 +35,7 @@ public class Test {
     private Chapter chapter;
 
     @OneToMany(mappedBy = "test", cascade = CascadeType.ALL, orphanRemoval = true)
+    @BatchSize(size = 50)
     @Builder.Default
     private List<Question> questions = new ArrayList<>();
 
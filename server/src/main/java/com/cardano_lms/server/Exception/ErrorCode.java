@@ -39,6 +39,16 @@ public enum ErrorCode {
     ALREADY_JOIN_THIS_COURSE(1030, "You has been join this course ", HttpStatus.BAD_REQUEST),
     NOT_HAVE_METHOD(1031, "This course not have this method", HttpStatus.BAD_REQUEST),
     CARDANO_TRANSACTION_NOT_VALID(1032, "Payment not verified on Cardano blockchain!", HttpStatus.BAD_REQUEST),
+    LOGIN_THROTTLED(1033, "Too many login attempts, please retry shortly", HttpStatus.TOO_MANY_REQUESTS),
+    TRANSACTION_ALREADY_USED(1034, "This transaction has already been used for another enrollment", HttpStatus.CONFLICT),
+    ENROLLMENT_NOT_FOUND(1035, "Enrollment not found", HttpStatus.NOT_FOUND),
+    CHAIN_API_UNAVAILABLE(1036, "Cardano chain API is temporarily unavailable", HttpStatus.SERVICE_UNAVAILABLE),
+    TEST_NOT_FOUND(1037, "Test not found", HttpStatus.NOT_FOUND),
+    EXAM_SESSION_NOT_FOUND(1038, "Exam session not found", HttpStatus.NOT_FOUND),
+    EXAM_SESSION_CLOSED(1039, "Exam session is already closed", HttpStatus.CONFLICT),
+    EXAM_SESSION_REQUIRED(1040, "This test is timed and must be taken in an exam session", HttpStatus.BAD_REQUEST),
+    EDIT_CONFLICT(1041, "This was changed by someone else, reload it and try again", HttpStatus.CONFLICT),
+    EXAM_GRADING_IN_PROGRESS(1042, "This exam session is being graded, fetch it again shortly", HttpStatus.CONFLICT),
             ;
 
     ErrorCode(int code, String message, HttpStatusCode statusCode) {
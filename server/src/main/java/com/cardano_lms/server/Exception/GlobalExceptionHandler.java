@@ -3,6 +3,7 @@ package com.cardano_lms.server.Exception;
 import com.cardano_lms.server.DTO.Request.ApiResponse;
 import jakarta.validation.ConstraintViolation;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.OptimisticLockingFailureException;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.http.converter.HttpMessageNotReadableException;
@@ -78,6 +79,23 @@ public class GlobalExceptionHandler {
     }
 
 
+    /**
+     * A versioned row changed between read and write and the service did not retry the edit.
+     */
+    @ExceptionHandler(OptimisticLockingFailureException.class)
+    public ResponseEntity<ApiResponse<Object>> handleOptimisticLockingFailure(OptimisticLockingFailureException ex) {
+        log.info("Edit conflict: {}", ex.getMessage());
+        ErrorCode errorCode = ErrorCode.EDIT_CONFLICT;
+        ApiResponse<Object> apiResponse = ApiResponse.<Object>builder()
+                .code(errorCode.getCode())
+                .message(errorCode.getMessage())
+                .build();
+
+        return ResponseEntity
+                .status(errorCode.getStatusCode())
+                .body(apiResponse);
+    }
+
     @ExceptionHandler(value = AccessDeniedException.class)
     ResponseEntity<ApiResponse> handlingAccessDeniedException(AccessDeniedException exception) {
         ErrorCode errorCode = ErrorCode.UNAUTHORIZED;
@@ -31,6 +31,7 @@ public interface CourseMapper {
     @Mapping(target = "instructor", ignore = true)
     @Mapping(target = "courseTests", ignore = true)
     @Mapping(target = "chapters", ignore = true)
+    @Mapping(target = "version", ignore = true)
     @Mapping(target = "price", source = "price")
     @Mapping(target = "draft", source = "draft")
     @Mapping(target = "currency", source = "currency")
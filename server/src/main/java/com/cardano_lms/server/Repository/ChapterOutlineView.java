@@ -0,0 +1,7 @@
+package com.cardano_lms.server.Repository;
+
+public interface ChapterOutlineView {
+    Long getId();
+    String getTitle();
+    int getOrderIndex();
+}
@@ -0,0 +1,6 @@
+package com.cardano_lms.server.Repository;
+
+public interface ChapterOwnerView {
+    Long getId();
+    String getCourseId();
+}
@@ -2,7 +2,24 @@ package com.cardano_lms.server.Repository;
 
 import com.cardano_lms.server.Entity.Chapter;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.List;
+import java.util.Optional;
+
 @Repository
-public interface ChapterRepository extends JpaRepository<Chapter, Long> {}
+public interface ChapterRepository extends JpaRepository<Chapter, Long> {
+
+    @Query("""
+            select ch.id as id, ch.title as title, ch.orderIndex as orderIndex
+            from Chapter ch
+            where ch.course.id = :courseId
+            order by ch.orderIndex, ch.id
+            """)
+    List<ChapterOutlineView> findOutlineByCourseId(@Param("courseId") String courseId);
+
+    @Query("select ch.id as id, ch.course.id as courseId from Chapter ch where ch.id = :id")
+    Optional<ChapterOwnerView> findOwnerById(@Param("id") Long id);
+}
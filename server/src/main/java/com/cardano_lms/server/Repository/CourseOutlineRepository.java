@@ -0,0 +1,8 @@
+package com.cardano_lms.server.Repository;
+
+import com.cardano_lms.server.Entity.CourseOutline;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface CourseOutlineRepository extends JpaRepository<CourseOutline, String> {}
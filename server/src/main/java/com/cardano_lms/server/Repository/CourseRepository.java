@@ -1,9 +1,77 @@
 package com.cardano_lms.server.Repository;
 
+import com.cardano_lms.server.Constant.Currency;
 import com.cardano_lms.server.Entity.Course;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
+
 @Repository
-public interface CourseRepository extends JpaRepository<Course, String> {
+public interface CourseRepository extends JpaRepository<Course, String>, CourseRepositoryCustom {
+
+    @Query("""
+            select c.id as id, c.title as title, c.description as description,
+                   c.shortDescription as shortDescription, c.requirement as requirement,
+                   c.imageUrl as imageUrl, c.isDraft as draft, c.discount as discount,
+                   c.currency as currency, c.discountEndTime as discountEndTime,
+                   c.policyId as policyId, c.createdAt as createdAt, i.name as instructorName
+            from Course c join c.instructor i
+            where (:draft is null or c.isDraft = :draft)
+              and (:currency is null or c.currency = :currency)
+              and (:instructorId is null or i.id = :instructorId)
+              and (:cursorCreatedAt is null
+                   or c.createdAt < :cursorCreatedAt
+                   or (c.createdAt = :cursorCreatedAt and c.id < :cursorId))
+            order by c.createdAt desc, c.id desc
+            """)
+    List<CourseSummaryView> findCatalogPage(@Param("draft") Boolean draft,
+                                            @Param("currency") Currency currency,
+                                            @Param("instructorId") Long instructorId,
+                                            @Param("cursorCreatedAt") LocalDateTime cursorCreatedAt,
+                                            @Param("cursorId") String cursorId,
+                                            Pageable pageable);
+
+    /**
+     * The course detail embeds the instructor's profile, so its version is the later of the course's and
+     * the profile's {@code updatedAt}; editing either one makes cached copies stale.
+     */
+    @Query("""
+            select c.id as id,
+                   greatest(coalesce(c.updatedAt, i.updatedAt), coalesce(i.updatedAt, c.updatedAt)) as updatedAt
+            from Course c join c.instructor i
+            where c.id = :id
+            """)
+    Optional<CourseVersionView> findVersionById(@Param("id") String id);
+
+    @Query("select c.id as id, c.title as title from Course c where c.id = :id")
+    Optional<CourseTitleView> findTitleById(@Param("id") String id);
+
+    /**
+     * Marks the course as changed without loading it. Adding chapters, lectures or tests leaves the course's
+     * own fields alone, so the version is not bumped and concurrent appends never conflict; the row lock
+     * still orders them, so each outline rebuild sees every earlier append.
+     */
+    @Modifying
+    @Query("update Course c set c.updatedAt = :updatedAt where c.id = :id")
+    int touch(@Param("id") String id, @Param("updatedAt") LocalDateTime updatedAt);
+
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"))
+    @Query("""
+            select c.id, c.title, c.shortDescription, i.id, i.name, c.price, c.currency, c.discount,
+                   c.discountEndTime, c.isDraft, c.policyId, c.createdAt, c.updatedAt
+            from Course c join c.instructor i
+            order by c.createdAt, c.id
+            """)
+    Stream<Object[]> streamExportRows();
 }
@@ -0,0 +1,9 @@
+package com.cardano_lms.server.Repository;
+
+import com.cardano_lms.server.Entity.Course;
+
+import java.util.Optional;
+
+public interface CourseRepositoryCustom {
+    Optional<Course> findCourseTreeById(String id);
+}
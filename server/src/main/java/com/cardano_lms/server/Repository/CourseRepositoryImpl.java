@@ -0,0 +1,86 @@
+package com.cardano_lms.server.Repository;
+
+import com.cardano_lms.server.Entity.Chapter;
+import com.cardano_lms.server.Entity.Course;
+import com.cardano_lms.server.Entity.Question;
+import com.cardano_lms.server.Entity.Test;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.transaction.Transactional;
+
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Root and chapters come from the entity graph; each remaining bag gets its own query so the
+ * statement count is fixed regardless of course size.
+ */
+public class CourseRepositoryImpl implements CourseRepositoryCustom {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    @Transactional
+    public Optional<Course> findCourseTreeById(String id) {
+        Course course = entityManager.find(Course.class, id, Map.of(
+                "jakarta.persistence.loadgraph", entityManager.getEntityGraph(Course.DETAIL_GRAPH)));
+        if (course == null) {
+            return Optional.empty();
+        }
+
+        entityManager.createQuery("""
+                        select c from Course c
+                        left join fetch c.coursePaymentMethods cpm
+                        left join fetch cpm.paymentMethod
+                        where c.id = :id
+                        """, Course.class)
+                .setParameter("id", id)
+                .getResultList();
+
+        entityManager.createQuery("""
+                        select c from Course c
+                        left join fetch c.courseTests
+                        where c.id = :id
+                        """, Course.class)
+                .setParameter("id", id)
+                .getResultList();
+
+        entityManager.createQuery("""
+                        select ch from Chapter ch
+                        left join fetch ch.lectures
+                        where ch.course.id = :id
+                        """, Chapter.class)
+                .setParameter("id", id)
+                .getResultList();
+
+        entityManager.createQuery("""
+                        select ch from Chapter ch
+                        left join fetch ch.tests
+                        where ch.course.id = :id
+                        """, Chapter.class)
+                .setParameter("id", id)
+                .getResultList();
+
+        entityManager.createQuery("""
+                        select t from Test t
+                        left join t.chapter ch
+                        left join fetch t.questions
+                        where t.course.id = :id or ch.course.id = :id
+                        """, Test.class)
+                .setParameter("id", id)
+                .getResultList();
+
+        entityManager.createQuery("""
+                        select q from Question q
+                        join q.test t
+                        left join t.chapter ch
+                        left join fetch q.answers
+                        where t.course.id = :id or ch.course.id = :id
+                        """, Question.class)
+                .setParameter("id", id)
+                .getResultList();
+
+        return Optional.of(course);
+    }
+}
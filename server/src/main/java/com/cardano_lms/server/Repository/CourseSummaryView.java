@@ -0,0 +1,21 @@
+package com.cardano_lms.server.Repository;
+
+import com.cardano_lms.server.Constant.Currency;
+
+import java.time.LocalDateTime;
+
+public interface CourseSummaryView {
+    String getId();
+    String getTitle();
+    String getDescription();
+    String getShortDescription();
+    String getRequirement();
+    String getImageUrl();
+    Boolean getDraft();
+    Double getDiscount();
+    Currency getCurrency();
+    LocalDateTime getDiscountEndTime();
+    String getPolicyId();
+    LocalDateTime getCreatedAt();
+    String getInstructorName();
+}
@@ -0,0 +1,6 @@
+package com.cardano_lms.server.Repository;
+
+public interface CourseTitleView {
+    String getId();
+    String getTitle();
+}
@@ -0,0 +1,12 @@
+package com.cardano_lms.server.Repository;
+
+import com.cardano_lms.server.Constant.OrderStatus;
+
+public interface EnrollmentAccessView {
+    Long getId();
+    String getUserId();
+    String getCourseId();
+    OrderStatus getStatus();
+    Integer getCompletedItems();
+    Boolean getCompleted();
+}
@@ -0,0 +1,12 @@
+package com.cardano_lms.server.Repository;
+
+import com.cardano_lms.server.Constant.OrderStatus;
+
+public interface EnrollmentPaymentView {
+    Long getId();
+    String getTxHash();
+    double getPrice();
+    String getReceiverAddress();
+    OrderStatus getStatus();
+    Integer getVerificationAttempts();
+}
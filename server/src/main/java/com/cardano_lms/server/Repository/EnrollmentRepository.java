@@ -1,13 +1,66 @@
 package com.cardano_lms.server.Repository;
 
+import com.cardano_lms.server.Constant.OrderStatus;
 import com.cardano_lms.server.Entity.Enrollment;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 public interface EnrollmentRepository extends JpaRepository<Enrollment, Long> {
     Optional<Enrollment> findByOrderId(String orderId);
+    Optional<Enrollment> findByTxHash(String txHash);
     Optional<Enrollment> findByUserIdAndCourseId(String userId, String courseId);
     boolean existsByUserIdAndCourseId(String userId, String courseId);
+    boolean existsByUserIdAndCourseIdAndStatusIn(String userId, String courseId, Collection<OrderStatus> statuses);
 
-}
\ No newline at end of file
+    @Query("select e.id as id, e.txHash as txHash, e.price as price, m.receiverAddress as receiverAddress, " +
+            "e.status as status, e.verificationAttempts as verificationAttempts " +
+            "from Enrollment e join e.coursePaymentMethod m where e.id = :id")
+    Optional<EnrollmentPaymentView> findPaymentViewById(@Param("id") Long id);
+
+    @Query("select e.id as id, e.user.id as userId, e.course.id as courseId, e.status as status, " +
+            "e.completedItems as completedItems, e.completed as completed from Enrollment e where e.id = :id")
+    Optional<EnrollmentAccessView> findAccessById(@Param("id") Long id);
+
+    @Query("select e.id from Enrollment e where e.status = :status and e.nextCheckAt <= :dueBefore")
+    List<Long> findIdsDueForCheck(@Param("status") OrderStatus status, @Param("dueBefore") LocalDateTime dueBefore);
+
+    @Modifying
+    @Transactional
+    @Query("update Enrollment e set e.status = :to where e.id = :id and e.status = :from")
+    int transition(@Param("id") Long id, @Param("from") OrderStatus from, @Param("to") OrderStatus to);
+
+    @Modifying
+    @Transactional
+    @Query("update Enrollment e set e.verificationAttempts = :attempts, e.nextCheckAt = :nextCheckAt " +
+            "where e.id = :id and e.status = com.cardano_lms.server.Constant.OrderStatus.PENDING")
+    int recordAttempt(@Param("id") Long id, @Param("attempts") int attempts,
+                      @Param("nextCheckAt") LocalDateTime nextCheckAt);
+
+    @Modifying
+    @Transactional
+    @Query("update Enrollment e set e.status = com.cardano_lms.server.Constant.OrderStatus.PENDING, " +
+            "e.verificationAttempts = 0, e.nextCheckAt = :nextCheckAt " +
+            "where e.id = :id and e.status = com.cardano_lms.server.Constant.OrderStatus.FAILED")
+    int reopen(@Param("id") Long id, @Param("nextCheckAt") LocalDateTime nextCheckAt);
+
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"))
+    @Query("""
+            select e.id, e.orderId, u.id, c.id, m.paymentMethod.name, e.price, e.status, e.txHash,
+                   e.completed, e.enrolledAt
+            from Enrollment e join e.user u join e.course c join e.coursePaymentMethod m
+            order by e.id
+            """)
+    Stream<Object[]> streamExportRows();
+}
@@ -0,0 +1,38 @@
+package com.cardano_lms.server.Repository;
+
+import com.cardano_lms.server.Constant.ExamSessionStatus;
+import com.cardano_lms.server.DTO.Request.SubmittedAnswerRequest;
+import com.cardano_lms.server.DTO.Response.TestResultResponse;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * A learner's attempt at a timed test. Times are epoch millis so the record survives restarts and moves
+ * between nodes unchanged.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder(toBuilder = true)
+public class ExamSession {
+    private String id;
+    private String userId;
+    private Long enrollmentId;
+    private Long testId;
+    private ExamSessionStatus status;
+    private long startedAt;
+    private long deadline;
+    private long savedAt;
+    private long submittedAt;
+    private boolean autoSubmitted;
+
+    @Builder.Default
+    private List<SubmittedAnswerRequest> answers = new ArrayList<>();
+
+    private TestResultResponse result;
+}
@@ -0,0 +1,47 @@
+package com.cardano_lms.server.Repository;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Storage for exam sessions. Open sessions are also tracked in an "open set" keyed by deadline; removing a
+ * session from that set is the single point that decides who submits it, so timers on several nodes, the
+ * overdue sweep and the learner's own submit can race safely.
+ */
+public interface ExamSessionStore {
+
+    /**
+     * Stores a new open session, or returns the learner's already open session for the same test.
+     */
+    ExamSession createIfAbsent(ExamSession session);
+
+    Optional<ExamSession> find(String sessionId);
+
+    /**
+     * Replaces the stored answers only while the session is still open.
+     */
+    boolean saveIfOpen(ExamSession session);
+
+    /**
+     * Stores the final state of a claimed session.
+     */
+    void saveClosed(ExamSession session);
+
+    /**
+     * Removes the session from the open set; exactly one caller gets {@code true}.
+     */
+    boolean claim(String sessionId);
+
+    /**
+     * Puts a claimed session back into the open set after a failed submission so the sweep retries it.
+     */
+    void release(ExamSession session);
+
+    /**
+     * Deadlines of every open session, by session id.
+     */
+    Map<String, Long> openDeadlines();
+
+    List<String> findOpenDueBefore(long epochMillis, int limit);
+}
@@ -0,0 +1,113 @@
+package com.cardano_lms.server.Repository;
+
+import com.cardano_lms.server.Constant.ExamSessionStatus;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import lombok.AccessLevel;
+import lombok.experimental.FieldDefaults;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Repository;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Single-node session store. Sessions are lost on restart, so use it only where Redis is not available.
+ */
+@Repository
+@ConditionalOnProperty(name = "exam.session.store", havingValue = "memory")
+@FieldDefaults(level = AccessLevel.PRIVATE, makeFinal = true)
+public class InMemoryExamSessionStore implements ExamSessionStore {
+    Cache<String, ExamSession> sessions;
+    Map<String, String> active = new ConcurrentHashMap<>();
+    Map<String, Long> open = new ConcurrentHashMap<>();
+
+    public InMemoryExamSessionStore(@Value("${exam.session.retention-ms:86400000}") long retentionMillis) {
+        this.sessions = Caffeine.newBuilder()
+                .expireAfter(new Expiry<String, ExamSession>() {
+                    @Override
+                    public long expireAfterCreate(String key, ExamSession session, long currentTime) {
+                        long millis = Math.max(session.getDeadline() - System.currentTimeMillis(), 0) + retentionMillis;
+                        return TimeUnit.MILLISECONDS.toNanos(millis);
+                    }
+
+                    @Override
+                    public long expireAfterUpdate(String key, ExamSession session, long currentTime,
+                                                  long currentDuration) {
+                        return expireAfterCreate(key, session, currentTime);
+                    }
+
+                    @Override
+                    public long expireAfterRead(String key, ExamSession session, long currentTime,
+                                                long currentDuration) {
+                        return currentDuration;
+                    }
+                })
+                .build();
+    }
+
+    @Override
+    public ExamSession createIfAbsent(ExamSession session) {
+        String activeKey = session.getUserId() + ":" + session.getTestId();
+        String winner = active.compute(activeKey, (key, existingId) -> {
+            ExamSession existing = existingId == null ? null : sessions.getIfPresent(existingId);
+            if (existing != null && existing.getStatus() == ExamSessionStatus.OPEN) {
+                return existingId;
+            }
+            sessions.put(session.getId(), copy(session));
+            open.put(session.getId(), session.getDeadline());
+            return session.getId();
+        });
+        return winner.equals(session.getId()) ? session : copy(sessions.getIfPresent(winner));
+    }
+
+    @Override
+    public Optional<ExamSession> find(String sessionId) {
+        return Optional.ofNullable(sessions.getIfPresent(sessionId)).map(this::copy);
+    }
+
+    @Override
+    public boolean saveIfOpen(ExamSession session) {
+        return open.computeIfPresent(session.getId(), (id, deadline) -> {
+            sessions.put(id, copy(session));
+            return deadline;
+        }) != null;
+    }
+
+    @Override
+    public void saveClosed(ExamSession session) {
+        sessions.put(session.getId(), copy(session));
+        active.remove(session.getUserId() + ":" + session.getTestId(), session.getId());
+    }
+
+    @Override
+    public boolean claim(String sessionId) {
+        return open.remove(sessionId) != null;
+    }
+
+    @Override
+    public void release(ExamSession session) {
+        open.put(session.getId(), session.getDeadline());
+    }
+
+    @Override
+    public Map<String, Long> openDeadlines() {
+        return new HashMap<>(open);
+    }
+
+    @Override
+    public List<String> findOpenDueBefore(long epochMillis, int limit) {
+        return open.entrySet().stream()
+                .filter(entry -> entry.getValue() <= epochMillis)
+                .limit(limit)
+                .map(Map.Entry::getKey)
+                .toList();
+    }
+
+    private ExamSession copy(ExamSession session) {
+        return session.toBuilder().answers(new ArrayList<>(session.getAnswers())).build();
+    }
+}
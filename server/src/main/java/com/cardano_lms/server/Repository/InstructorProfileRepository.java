@@ -3,6 +3,8 @@ package com.cardano_lms.server.Repository;
 import com.cardano_lms.server.Entity.InstructorProfile;
 import com.cardano_lms.server.Entity.User;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.util.Optional;
@@ -12,4 +14,10 @@ import java.util.UUID;
 public interface InstructorProfileRepository extends JpaRepository<InstructorProfile, Long> {
     Optional<InstructorProfile> findByUser(User user);
     Optional<InstructorProfile> findByUserId(String id);
+
+    @Query("select p.id as id, p.updatedAt as updatedAt from InstructorProfile p where p.id = :id")
+    Optional<InstructorProfileVersionView> findVersionById(@Param("id") Long id);
+
+    @Query("select p.id as id, p.updatedAt as updatedAt from InstructorProfile p where p.user.id = :userId")
+    Optional<InstructorProfileVersionView> findVersionByUserId(@Param("userId") String userId);
 }
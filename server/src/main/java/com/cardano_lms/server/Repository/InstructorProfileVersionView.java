@@ -0,0 +1,8 @@
+package com.cardano_lms.server.Repository;
+
+import java.time.LocalDateTime;
+
+public interface InstructorProfileVersionView {
+    Long getId();
+    LocalDateTime getUpdatedAt();
+}
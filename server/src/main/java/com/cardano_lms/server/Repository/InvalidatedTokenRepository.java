@@ -3,7 +3,23 @@ package com.cardano_lms.server.Repository;
 
 import com.cardano_lms.server.Entity.InvalidatedToken;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Date;
+import java.util.List;
 
 @Repository
-public interface InvalidatedTokenRepository extends JpaRepository<InvalidatedToken, String> {}
+public interface InvalidatedTokenRepository extends JpaRepository<InvalidatedToken, String> {
+
+    @Query("select t.id from InvalidatedToken t where t.expiryTime > :now")
+    List<String> findActiveIds(@Param("now") Date now);
+
+    @Modifying
+    @Transactional
+    @Query("delete from InvalidatedToken t where t.expiryTime <= :now")
+    int deleteExpired(@Param("now") Date now);
+}
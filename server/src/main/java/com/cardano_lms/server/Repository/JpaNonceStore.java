@@ -0,0 +1,48 @@
+package com.cardano_lms.server.Repository;
+
+import com.cardano_lms.server.Entity.Nonce;
+import lombok.AccessLevel;
+import lombok.RequiredArgsConstructor;
+import lombok.experimental.FieldDefaults;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Repository;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+/**
+ * Nonce table for deployments without Redis. Consumption is a conditional delete, so it stays single-use
+ * under concurrency, and a sweeper removes nonces that were issued but never used.
+ */
+@Repository
+@ConditionalOnProperty(name = "auth.nonce.store", havingValue = "jpa")
+@RequiredArgsConstructor
+@Slf4j
+@FieldDefaults(level = AccessLevel.PRIVATE, makeFinal = true)
+public class JpaNonceStore implements NonceStore {
+    NonceRepository nonceRepository;
+
+    @Override
+    public void issue(String nonce, String address, Duration ttl) {
+        nonceRepository.save(Nonce.builder()
+                .nonce(nonce)
+                .address(address)
+                .expiresAt(LocalDateTime.now().plus(ttl))
+                .build());
+    }
+
+    @Override
+    public boolean consume(String nonce, String address) {
+        return nonceRepository.consume(nonce, address, LocalDateTime.now()) == 1;
+    }
+
+    @Scheduled(fixedDelayString = "${auth.nonce.sweep-interval-ms:60000}")
+    public void sweepExpired() {
+        int deleted = nonceRepository.deleteExpired(LocalDateTime.now());
+        if (deleted > 0) {
+            log.debug("Removed {} expired nonces", deleted);
+        }
+    }
+}
@@ -0,0 +1,10 @@
+package com.cardano_lms.server.Repository;
+
+public interface LectureOutlineView {
+    Long getId();
+    Long getChapterId();
+    String getTitle();
+    int getTime();
+    int getOrderIndex();
+    Boolean getPreviewFree();
+}
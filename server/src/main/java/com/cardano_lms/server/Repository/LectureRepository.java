@@ -2,7 +2,24 @@ package com.cardano_lms.server.Repository;
 
 import com.cardano_lms.server.Entity.Lecture;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.List;
+
 @Repository
-public interface LectureRepository extends JpaRepository<Lecture, Long> {}
\ No newline at end of file
+public interface LectureRepository extends JpaRepository<Lecture, Long> {
+
+    @Query("select l.id from Lecture l where l.chapter.course.id = :courseId")
+    List<Long> findIdsByCourseId(@Param("courseId") String courseId);
+
+    @Query("""
+            select l.id as id, ch.id as chapterId, l.title as title, l.time as time,
+                   l.orderIndex as orderIndex, l.previewFree as previewFree
+            from Lecture l join l.chapter ch
+            where ch.course.id = :courseId
+            order by l.orderIndex, l.id
+            """)
+    List<LectureOutlineView> findOutlineByCourseId(@Param("courseId") String courseId);
+}
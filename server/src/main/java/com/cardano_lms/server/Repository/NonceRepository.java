@@ -2,9 +2,27 @@ package com.cardano_lms.server.Repository;
 
 import com.cardano_lms.server.Entity.Nonce;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
 
 @Repository
 public interface NonceRepository extends JpaRepository<Nonce, Long> {
-    Boolean existsByNonce(String nonce);
+
+    /**
+     * Deletes the nonce if it is still valid for the address; a result of 1 means this caller consumed it.
+     */
+    @Modifying
+    @Transactional
+    @Query("delete from Nonce n where n.nonce = :nonce and n.address = :address and n.expiresAt > :now")
+    int consume(@Param("nonce") String nonce, @Param("address") String address, @Param("now") LocalDateTime now);
+
+    @Modifying
+    @Transactional
+    @Query("delete from Nonce n where n.expiresAt <= :now")
+    int deleteExpired(@Param("now") LocalDateTime now);
 }
@@ -0,0 +1,17 @@
+package com.cardano_lms.server.Repository;
+
+import java.time.Duration;
+
+/**
+ * Short-lived, single-use wallet login challenges bound to the address they were issued for.
+ */
+public interface NonceStore {
+
+    void issue(String nonce, String address, Duration ttl);
+
+    /**
+     * Atomically removes the nonce. Returns {@code true} only for the first caller, only before it expires,
+     * and only for the address it was issued to.
+     */
+    boolean consume(String nonce, String address);
+}
@@ -0,0 +1,121 @@
+package com.cardano_lms.server.Repository;
+
+import com.cardano_lms.server.Constant.CourseContentType;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.Date;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.util.*;
+
+/**
+ * Applies coalesced progress as a handful of JDBC batches per flush. Rows are created without
+ * completion, then completion is set by a conditional UPDATE whose row count tells exactly which items
+ * were completed for the first time; only those bump the enrollment's counter, so replays are harmless.
+ */
+@Repository
+@RequiredArgsConstructor
+public class ProgressBatchRepository {
+    static final String INSERT_MISSING = """
+            insert into progress (enrollment_id, %s, type, score, position_seconds, completed, updated_at)
+            values (?, ?, ?, 0, 0, false, ?)
+            on conflict do nothing
+            """;
+    static final String UPDATE_POSITION = """
+            update progress
+            set position_seconds = greatest(coalesce(position_seconds, 0), ?),
+                score = greatest(score, ?),
+                updated_at = ?
+            where enrollment_id = ? and %s = ?
+            """;
+    static final String MARK_COMPLETED = """
+            update progress
+            set completed = true, completed_at = ?
+            where enrollment_id = ? and %s = ? and (completed is null or completed = false)
+            """;
+    static final String ADD_COMPLETED_ITEMS = """
+            update enrollments
+            set completed_items = coalesce(completed_items, 0) + ?,
+                completed = (completed or coalesce(completed_items, 0) + ? >= ?)
+            where id = ?
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Transactional
+    public void upsert(Collection<ProgressDelta> deltas) {
+        Map<Long, Integer> newlyCompleted = new HashMap<>();
+        Map<Long, Integer> courseItems = new HashMap<>();
+
+        for (CourseContentType type : CourseContentType.values()) {
+            List<ProgressDelta> rows = deltas.stream().filter(delta -> delta.getType() == type).toList();
+            if (rows.isEmpty()) {
+                continue;
+            }
+            String column = type == CourseContentType.LECTURE ? "lecture_id" : "test_id";
+
+            batch(INSERT_MISSING.formatted(column), rows, (ps, delta) -> {
+                ps.setLong(1, delta.getEnrollmentId());
+                ps.setLong(2, delta.getContentId());
+                ps.setString(3, delta.getType().name());
+                ps.setTimestamp(4, Timestamp.valueOf(delta.getLastEventAt()));
+            });
+            batch(UPDATE_POSITION.formatted(column), rows, (ps, delta) -> {
+                ps.setInt(1, delta.getPositionSeconds());
+                ps.setInt(2, delta.getScore());
+                ps.setTimestamp(3, Timestamp.valueOf(delta.getLastEventAt()));
+                ps.setLong(4, delta.getEnrollmentId());
+                ps.setLong(5, delta.getContentId());
+            });
+
+            List<ProgressDelta> completions = rows.stream().filter(ProgressDelta::isCompleted).toList();
+            int[] marked = batch(MARK_COMPLETED.formatted(column), completions, (ps, delta) -> {
+                ps.setDate(1, Date.valueOf(delta.getCompletedAt()));
+                ps.setLong(2, delta.getEnrollmentId());
+                ps.setLong(3, delta.getContentId());
+            });
+            for (int i = 0; i < marked.length; i++) {
+                if (marked[i] > 0) {
+                    ProgressDelta delta = completions.get(i);
+                    newlyCompleted.merge(delta.getEnrollmentId(), 1, Integer::sum);
+                    courseItems.put(delta.getEnrollmentId(), delta.getCourseItems());
+                }
+            }
+        }
+
+        List<Map.Entry<Long, Integer>> counters = new ArrayList<>(newlyCompleted.entrySet());
+        batch(ADD_COMPLETED_ITEMS, counters, (ps, counter) -> {
+            ps.setInt(1, counter.getValue());
+            ps.setInt(2, counter.getValue());
+            ps.setInt(3, Math.max(1, courseItems.get(counter.getKey())));
+            ps.setLong(4, counter.getKey());
+        });
+    }
+
+    private <T> int[] batch(String sql, List<T> rows, RowBinder<T> binder) {
+        if (rows.isEmpty()) {
+            return new int[0];
+        }
+        return jdbcTemplate.batchUpdate(sql, new BatchPreparedStatementSetter() {
+            @Override
+            public void setValues(PreparedStatement ps, int i) throws SQLException {
+                binder.bind(ps, rows.get(i));
+            }
+
+            @Override
+            public int getBatchSize() {
+                return rows.size();
+            }
+        });
+    }
+
+    @FunctionalInterface
+    private interface RowBinder<T> {
+        void bind(PreparedStatement ps, T row) throws SQLException;
+    }
+}
@@ -0,0 +1,69 @@
+package com.cardano_lms.server.Repository;
+
+import com.cardano_lms.server.Constant.CourseContentType;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * Accumulated progress for one (enrollment, lecture or test) pair between two flushes. Merging keeps the
+ * furthest position, best score and first completion, so applying a delta twice changes nothing.
+ */
+@Getter
+@AllArgsConstructor
+public class ProgressDelta {
+    private final long enrollmentId;
+    private final CourseContentType type;
+    private final long contentId;
+    private int positionSeconds;
+    private int score;
+    private boolean completed;
+    private LocalDate completedAt;
+    private LocalDateTime lastEventAt;
+    private int courseItems;
+
+    public String key() {
+        return enrollmentId + ":" + type + ":" + contentId;
+    }
+
+    public void merge(ProgressDelta other) {
+        positionSeconds = Math.max(positionSeconds, other.positionSeconds);
+        score = Math.max(score, other.score);
+        if (other.completed && (!completed || other.completedAt.isBefore(completedAt))) {
+            completedAt = other.completedAt;
+        }
+        completed = completed || other.completed;
+        if (other.lastEventAt.isAfter(lastEventAt)) {
+            lastEventAt = other.lastEventAt;
+            courseItems = other.courseItems;
+        }
+    }
+
+    public String toLine() {
+        return String.join(",",
+                String.valueOf(enrollmentId),
+                type.name(),
+                String.valueOf(contentId),
+                String.valueOf(positionSeconds),
+                String.valueOf(score),
+                completed ? String.valueOf(completedAt) : "",
+                lastEventAt.toString(),
+                String.valueOf(courseItems));
+    }
+
+    public static ProgressDelta fromLine(String line) {
+        String[] fields = line.split(",", -1);
+        return new ProgressDelta(
+                Long.parseLong(fields[0]),
+                CourseContentType.valueOf(fields[1]),
+                Long.parseLong(fields[2]),
+                Integer.parseInt(fields[3]),
+                Integer.parseInt(fields[4]),
+                !fields[5].isEmpty(),
+                fields[5].isEmpty() ? null : LocalDate.parse(fields[5]),
+                LocalDateTime.parse(fields[6]),
+                Integer.parseInt(fields[7]));
+    }
+}
@@ -2,7 +2,23 @@ package com.cardano_lms.server.Repository;
 
 import com.cardano_lms.server.Entity.Question;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.List;
+
 @Repository
-public interface QuestionRepository extends JpaRepository<Question, Long> {}
\ No newline at end of file
+public interface QuestionRepository extends JpaRepository<Question, Long> {
+
+    /**
+     * Flat (questionId, score, answerId, isCorrect) rows for compiling an answer key without loading entities.
+     */
+    @Query("""
+            select q.id, q.score, a.id, a.isCorrect
+            from Question q left join q.answers a
+            where q.test.id = :testId
+            order by q.id, a.id
+            """)
+    List<Object[]> findAnswerKeyRows(@Param("testId") Long testId);
+}
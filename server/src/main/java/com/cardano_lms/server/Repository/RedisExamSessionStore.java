@@ -0,0 +1,159 @@
+package com.cardano_lms.server.Repository;
+
+import com.cardano_lms.server.Constant.ExamSessionStatus;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.AccessLevel;
+import lombok.experimental.FieldDefaults;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ZSetOperations;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Repository;
+
+import java.time.Duration;
+import java.util.*;
+
+/**
+ * Shared session store: one JSON value per session, a pointer from (user, test) to the open session, and a
+ * sorted set of open session ids scored by deadline.
+ */
+@Repository
+@ConditionalOnProperty(name = "exam.session.store", havingValue = "redis", matchIfMissing = true)
+@FieldDefaults(level = AccessLevel.PRIVATE, makeFinal = true)
+public class RedisExamSessionStore implements ExamSessionStore {
+    static final String SESSION_KEY_PREFIX = "lms:exam:session:";
+    static final String ACTIVE_KEY_PREFIX = "lms:exam:active:";
+    static final String OPEN_KEY = "lms:exam:open";
+
+    /**
+     * Hands back the id of the learner's open session if there is one; otherwise writes the new session, adds
+     * it to the open set and only then points the (user, test) key at it, all in one step, so a concurrent
+     * start never sees a pointer to a session that does not exist yet.
+     */
+    static final RedisScript<String> CREATE_IF_ABSENT = new DefaultRedisScript<>("""
+            local existingId = redis.call('GET', KEYS[1])
+            if existingId then
+                local existing = redis.call('GET', ARGV[5] .. existingId)
+                if existing and cjson.decode(existing)['status'] == 'OPEN' then
+                    return existingId
+                end
+            end
+            redis.call('SET', KEYS[2], ARGV[2], 'PX', ARGV[3])
+            redis.call('ZADD', KEYS[3], ARGV[4], ARGV[1])
+            redis.call('SET', KEYS[1], ARGV[1], 'PX', ARGV[3])
+            return ARGV[1]
+            """, String.class);
+
+    static final RedisScript<Long> SAVE_IF_OPEN = new DefaultRedisScript<>("""
+            if redis.call('ZSCORE', KEYS[1], ARGV[1]) then
+                redis.call('SET', KEYS[2], ARGV[2], 'PX', ARGV[3])
+                return 1
+            end
+            return 0
+            """, Long.class);
+
+    StringRedisTemplate redisTemplate;
+    ObjectMapper objectMapper;
+    long retentionMillis;
+
+    public RedisExamSessionStore(StringRedisTemplate redisTemplate,
+                                 ObjectMapper objectMapper,
+                                 @Value("${exam.session.retention-ms:86400000}") long retentionMillis) {
+        this.redisTemplate = redisTemplate;
+        this.objectMapper = objectMapper;
+        this.retentionMillis = retentionMillis;
+    }
+
+    @Override
+    public ExamSession createIfAbsent(ExamSession session) {
+        String winnerId = redisTemplate.execute(CREATE_IF_ABSENT,
+                List.of(activeKey(session), SESSION_KEY_PREFIX + session.getId(), OPEN_KEY),
+                session.getId(), write(session), String.valueOf(ttl(session.getDeadline()).toMillis()),
+                String.valueOf(session.getDeadline()), SESSION_KEY_PREFIX);
+        if (session.getId().equals(winnerId)) {
+            return session;
+        }
+        if (winnerId == null) {
+            throw new IllegalStateException("Exam session could not be stored");
+        }
+        // The open session can only disappear here by expiring; start over rather than hand back nothing.
+        return find(winnerId)
+                .filter(existing -> existing.getStatus() == ExamSessionStatus.OPEN)
+                .orElseGet(() -> createIfAbsent(session));
+    }
+
+    @Override
+    public Optional<ExamSession> find(String sessionId) {
+        String json = redisTemplate.opsForValue().get(SESSION_KEY_PREFIX + sessionId);
+        return json == null ? Optional.empty() : Optional.of(read(json));
+    }
+
+    @Override
+    public boolean saveIfOpen(ExamSession session) {
+        Long saved = redisTemplate.execute(SAVE_IF_OPEN,
+                List.of(OPEN_KEY, SESSION_KEY_PREFIX + session.getId()),
+                session.getId(), write(session), String.valueOf(ttl(session.getDeadline()).toMillis()));
+        return saved != null && saved == 1L;
+    }
+
+    @Override
+    public void saveClosed(ExamSession session) {
+        redisTemplate.opsForValue().set(SESSION_KEY_PREFIX + session.getId(), write(session),
+                Duration.ofMillis(retentionMillis));
+        redisTemplate.delete(activeKey(session));
+    }
+
+    @Override
+    public boolean claim(String sessionId) {
+        Long removed = redisTemplate.opsForZSet().remove(OPEN_KEY, sessionId);
+        return removed != null && removed > 0;
+    }
+
+    @Override
+    public void release(ExamSession session) {
+        redisTemplate.opsForZSet().add(OPEN_KEY, session.getId(), session.getDeadline());
+    }
+
+    @Override
+    public Map<String, Long> openDeadlines() {
+        Set<ZSetOperations.TypedTuple<String>> open = redisTemplate.opsForZSet().rangeWithScores(OPEN_KEY, 0, -1);
+        Map<String, Long> deadlines = new HashMap<>();
+        if (open != null) {
+            open.forEach(tuple -> deadlines.put(tuple.getValue(), tuple.getScore().longValue()));
+        }
+        return deadlines;
+    }
+
+    @Override
+    public List<String> findOpenDueBefore(long epochMillis, int limit) {
+        Set<String> due = redisTemplate.opsForZSet().rangeByScore(OPEN_KEY, 0, epochMillis, 0, limit);
+        return due == null ? List.of() : new ArrayList<>(due);
+    }
+
+    private Duration ttl(long deadline) {
+        return Duration.ofMillis(Math.max(deadline - System.currentTimeMillis(), 0) + retentionMillis);
+    }
+
+    private String activeKey(ExamSession session) {
+        return ACTIVE_KEY_PREFIX + session.getUserId() + ":" + session.getTestId();
+    }
+
+    private String write(ExamSession session) {
+        try {
+            return objectMapper.writeValueAsString(session);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Exam session could not be serialized", e);
+        }
+    }
+
+    private ExamSession read(String json) {
+        try {
+            return objectMapper.readValue(json, ExamSession.class);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Exam session could not be read", e);
+        }
+    }
+}
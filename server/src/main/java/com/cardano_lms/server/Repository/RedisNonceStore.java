@@ -0,0 +1,35 @@
+package com.cardano_lms.server.Repository;
+
+import lombok.AccessLevel;
+import lombok.RequiredArgsConstructor;
+import lombok.experimental.FieldDefaults;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.time.Duration;
+
+/**
+ * One key per nonce holding the bound address; Redis expiry removes unused nonces and GETDEL makes
+ * consumption a single atomic round trip.
+ */
+@Repository
+@ConditionalOnProperty(name = "auth.nonce.store", havingValue = "redis", matchIfMissing = true)
+@RequiredArgsConstructor
+@FieldDefaults(level = AccessLevel.PRIVATE, makeFinal = true)
+public class RedisNonceStore implements NonceStore {
+    static final String NONCE_KEY_PREFIX = "lms:nonce:";
+
+    StringRedisTemplate redisTemplate;
+
+    @Override
+    public void issue(String nonce, String address, Duration ttl) {
+        redisTemplate.opsForValue().set(NONCE_KEY_PREFIX + nonce, address, ttl);
+    }
+
+    @Override
+    public boolean consume(String nonce, String address) {
+        String boundAddress = redisTemplate.opsForValue().getAndDelete(NONCE_KEY_PREFIX + nonce);
+        return boundAddress != null && boundAddress.equals(address);
+    }
+}
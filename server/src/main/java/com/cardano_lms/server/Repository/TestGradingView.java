@@ -0,0 +1,11 @@
+package com.cardano_lms.server.Repository;
+
+import java.time.LocalDateTime;
+
+public interface TestGradingView {
+    Long getId();
+    int getPassScore();
+    int getDurationMinutes();
+    String getCourseId();
+    LocalDateTime getCourseUpdatedAt();
+}
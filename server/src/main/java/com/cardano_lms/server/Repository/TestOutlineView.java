@@ -0,0 +1,9 @@
+package com.cardano_lms.server.Repository;
+
+public interface TestOutlineView {
+    Long getId();
+    Long getChapterId();
+    String getTitle();
+    int getDurationMinutes();
+    int getOrderIndex();
+}
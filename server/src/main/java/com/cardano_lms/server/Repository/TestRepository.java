@@ -2,7 +2,41 @@ package com.cardano_lms.server.Repository;
 
 import com.cardano_lms.server.Entity.Test;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.List;
+import java.util.Optional;
+
 @Repository
-public interface TestRepository extends JpaRepository<Test, Long> {}
\ No newline at end of file
+public interface TestRepository extends JpaRepository<Test, Long> {
+
+    @Query("""
+            select t.id from Test t where t.course.id = :courseId
+            union
+            select t.id from Test t join t.chapter ch where ch.course.id = :courseId
+            """)
+    List<Long> findIdsByCourseId(@Param("courseId") String courseId);
+
+    @Query("""
+            select t.id as id, t.passScore as passScore, t.durationMinutes as durationMinutes,
+                   coalesce(c.id, chc.id) as courseId,
+                   coalesce(c.updatedAt, chc.updatedAt) as courseUpdatedAt
+            from Test t
+            left join t.course c
+            left join t.chapter ch
+            left join ch.course chc
+            where t.id = :id
+            """)
+    Optional<TestGradingView> findGradingViewById(@Param("id") Long id);
+
+    @Query("""
+            select t.id as id, ch.id as chapterId, t.title as title,
+                   t.durationMinutes as durationMinutes, t.orderIndex as orderIndex
+            from Test t left join t.chapter ch
+            where t.course.id = :courseId or ch.course.id = :courseId
+            order by t.orderIndex, t.id
+            """)
+    List<TestOutlineView> findOutlineByCourseId(@Param("courseId") String courseId);
+}
@@ -0,0 +1,47 @@
+package com.cardano_lms.server.Repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+
+/**
+ * Stores a graded submission as one delete plus one JDBC batch. {@code UserAnswer} uses identity ids,
+ * which Hibernate cannot batch, so the rows are written directly.
+ */
+@Repository
+@RequiredArgsConstructor
+public class UserAnswerBatchRepository {
+    static final String DELETE_PREVIOUS = """
+            delete from user_answers
+            where user_id = ? and question_id in (select id from questions where test_id = ?)
+            """;
+    static final String INSERT = "insert into user_answers (user_id, question_id, answer_id) values (?, ?, ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Transactional
+    public void replace(String userId, long testId, long[] questionIds, long[] answerIds) {
+        jdbcTemplate.update(DELETE_PREVIOUS, userId, testId);
+        if (questionIds.length == 0) {
+            return;
+        }
+        jdbcTemplate.batchUpdate(INSERT, new BatchPreparedStatementSetter() {
+            @Override
+            public void setValues(PreparedStatement ps, int i) throws SQLException {
+                ps.setString(1, userId);
+                ps.setLong(2, questionIds[i]);
+                ps.setLong(3, answerIds[i]);
+            }
+
+            @Override
+            public int getBatchSize() {
+                return questionIds.length;
+            }
+        });
+    }
+}
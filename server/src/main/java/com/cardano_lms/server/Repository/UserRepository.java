@@ -1,10 +1,15 @@
 package com.cardano_lms.server.Repository;
 
 import com.cardano_lms.server.Entity.User;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.stereotype.Repository;
 
 import java.util.Optional;
+import java.util.stream.Stream;
 
 @Repository
 public interface UserRepository extends JpaRepository<User, String> {
@@ -12,4 +17,13 @@ public interface UserRepository extends JpaRepository<User, String> {
     Optional<User> findByEmail(String email);
     Optional<User> findByUsername(String username);
     Optional<User> findByWalletAddress(String walletAddress);
+
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"))
+    @Query("""
+            select u.id, u.username, u.email, u.firstName, u.lastName, u.dob, u.walletAddress,
+                   r.name, l.name
+            from User u left join u.role r left join u.loginMethod l
+            order by u.id
+            """)
+    Stream<Object[]> streamExportRows();
 }
@@ -0,0 +1,188 @@
+package com.cardano_lms.server.Service;
+
+import com.cardano_lms.server.DTO.Request.SubmittedAnswerRequest;
+import com.cardano_lms.server.Exception.AppException;
+import com.cardano_lms.server.Exception.ErrorCode;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.experimental.FieldDefaults;
+
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Immutable, compiled form of a test's questions and answers. Questions are kept sorted by id with the
+ * answers of each question in a contiguous, id-sorted slice, so grading is a couple of binary searches per
+ * selected answer and never touches JPA. A question scores when exactly its correct answers are selected, so
+ * one with no correct answer ("none of the above") scores when it is submitted with an empty selection.
+ */
+@Getter
+@FieldDefaults(level = AccessLevel.PRIVATE, makeFinal = true)
+public final class AnswerKey {
+    long testId;
+    String version;
+    int passScore;
+    int maxScore;
+
+    @Getter(AccessLevel.NONE)
+    long[] questionIds;
+    @Getter(AccessLevel.NONE)
+    int[] questionScores;
+    @Getter(AccessLevel.NONE)
+    int[] answerStart;
+    @Getter(AccessLevel.NONE)
+    int[] correctCounts;
+    @Getter(AccessLevel.NONE)
+    long[] answerIds;
+    @Getter(AccessLevel.NONE)
+    boolean[] correct;
+
+    private AnswerKey(long testId, String version, int passScore, long[] questionIds, int[] questionScores,
+                      int[] answerStart, int[] correctCounts, long[] answerIds, boolean[] correct) {
+        this.testId = testId;
+        this.version = version;
+        this.passScore = passScore;
+        this.questionIds = questionIds;
+        this.questionScores = questionScores;
+        this.answerStart = answerStart;
+        this.correctCounts = correctCounts;
+        this.answerIds = answerIds;
+        this.correct = correct;
+        this.maxScore = Arrays.stream(questionScores).sum();
+    }
+
+    /**
+     * Builds a key from rows of (questionId, score, answerId, isCorrect) ordered by question id then answer id;
+     * answerId is null for a question without answers.
+     */
+    public static AnswerKey compile(long testId, String version, int passScore, List<Object[]> rows) {
+        int questionCount = 0;
+        int answerCount = 0;
+        long previousQuestion = Long.MIN_VALUE;
+        for (Object[] row : rows) {
+            long questionId = ((Number) row[0]).longValue();
+            if (questionCount == 0 || questionId != previousQuestion) {
+                questionCount++;
+                previousQuestion = questionId;
+            }
+            if (row[2] != null) {
+                answerCount++;
+            }
+        }
+
+        long[] questionIds = new long[questionCount];
+        int[] questionScores = new int[questionCount];
+        int[] answerStart = new int[questionCount + 1];
+        int[] correctCounts = new int[questionCount];
+        long[] answerIds = new long[answerCount];
+        boolean[] correct = new boolean[answerCount];
+
+        int q = -1;
+        int a = 0;
+        for (Object[] row : rows) {
+            long questionId = ((Number) row[0]).longValue();
+            if (q < 0 || questionIds[q] != questionId) {
+                q++;
+                questionIds[q] = questionId;
+                questionScores[q] = ((Number) row[1]).intValue();
+                answerStart[q] = a;
+            }
+            if (row[2] != null) {
+                answerIds[a] = ((Number) row[2]).longValue();
+                correct[a] = Boolean.TRUE.equals(row[3]);
+                if (correct[a]) {
+                    correctCounts[q]++;
+                }
+                a++;
+            }
+        }
+        answerStart[questionCount] = a;
+
+        return new AnswerKey(testId, version, passScore, questionIds, questionScores,
+                answerStart, correctCounts, answerIds, correct);
+    }
+
+    public int questionCount() {
+        return questionIds.length;
+    }
+
+    /**
+     * Grades a submission in time linear in the number of selected answers. Unknown questions, answers that
+     * belong to another question and repeated questions are rejected as invalid input.
+     */
+    public Grade grade(List<SubmittedAnswerRequest> submission) {
+        boolean[] answered = new boolean[questionIds.length];
+        int selections = 0;
+        for (SubmittedAnswerRequest item : submission) {
+            selections += item.getAnswerIds() == null ? 0 : item.getAnswerIds().size();
+        }
+
+        long[] selectedQuestions = new long[selections];
+        long[] selectedAnswers = new long[selections];
+        int selected = 0;
+        int earned = 0;
+        int correctQuestions = 0;
+
+        for (SubmittedAnswerRequest item : submission) {
+            int q = item.getQuestionId() == null ? -1 : Arrays.binarySearch(questionIds, item.getQuestionId());
+            if (q < 0 || answered[q]) {
+                throw new AppException(ErrorCode.INVALID_INPUT);
+            }
+            answered[q] = true;
+
+            List<Long> choices = item.getAnswerIds() == null ? List.of() : item.getAnswerIds();
+            int hits = 0;
+            boolean wrong = false;
+            int first = selected;
+            for (Long answerId : choices) {
+                int position = answerId == null ? -1
+                        : Arrays.binarySearch(answerIds, answerStart[q], answerStart[q + 1], answerId);
+                if (position < 0) {
+                    throw new AppException(ErrorCode.INVALID_INPUT);
+                }
+                for (int i = first; i < selected; i++) {
+                    if (selectedAnswers[i] == answerId) {
+                        throw new AppException(ErrorCode.INVALID_INPUT);
+                    }
+                }
+                if (correct[position]) {
+                    hits++;
+                } else {
+                    wrong = true;
+                }
+                selectedQuestions[selected] = questionIds[q];
+                selectedAnswers[selected] = answerId;
+                selected++;
+            }
+
+            if (!wrong && hits == correctCounts[q]) {
+                earned += questionScores[q];
+                correctQuestions++;
+            }
+        }
+
+        int percent = maxScore == 0 ? 0 : (int) ((long) earned * 100 / maxScore);
+        return new Grade(earned, percent, correctQuestions, percent >= passScore,
+                selectedQuestions, selectedAnswers);
+    }
+
+    @Getter
+    @FieldDefaults(level = AccessLevel.PRIVATE, makeFinal = true)
+    public static final class Grade {
+        int score;
+        int percent;
+        int correctQuestions;
+        boolean passed;
+        long[] questionIds;
+        long[] answerIds;
+
+        Grade(int score, int percent, int correctQuestions, boolean passed, long[] questionIds, long[] answerIds) {
+            this.score = score;
+            this.percent = percent;
+            this.correctQuestions = correctQuestions;
+            this.passed = passed;
+            this.questionIds = questionIds;
+            this.answerIds = answerIds;
+        }
+    }
+}
@@ -1,23 +1,20 @@
 package com.cardano_lms.server.Service;
 
+import com.cardano_lms.server.Config.VerifiedTokenCache;
 import com.cardano_lms.server.Constant.PredefineLoginMethod;
 import com.cardano_lms.server.Constant.PredefinedRole;
 import com.cardano_lms.server.DTO.Request.*;
 import com.cardano_lms.server.DTO.Response.AuthenticationResponse;
 import com.cardano_lms.server.DTO.Response.IntrospectResponse;
 import com.cardano_lms.server.DTO.Response.LogoutResponse;
-import com.cardano_lms.server.Entity.InvalidatedToken;
 import com.cardano_lms.server.Entity.Role;
 import com.cardano_lms.server.Entity.User;
 import com.cardano_lms.server.Exception.AppException;
 import com.cardano_lms.server.Exception.ErrorCode;
 import com.cardano_lms.server.Mapper.UserMapper;
-import com.cardano_lms.server.Repository.InvalidatedTokenRepository;
 import com.cardano_lms.server.Repository.RoleRepository;
 import com.cardano_lms.server.Repository.UserRepository;
 import com.nimbusds.jose.*;
-import com.nimbusds.jose.crypto.MACSigner;
-import com.nimbusds.jose.crypto.MACVerifier;
 import com.nimbusds.jwt.JWTClaimsSet;
 import com.nimbusds.jwt.SignedJWT;
 import lombok.AccessLevel;
@@ -28,8 +25,6 @@ import lombok.extern.slf4j.Slf4j;
 import org.cardanofoundation.cip30.AddressFormat;
 import org.cardanofoundation.cip30.CIP30Verifier;
 import org.springframework.beans.factory.annotation.Value;
-import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
-import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 import org.springframework.util.CollectionUtils;
 
@@ -49,11 +44,10 @@ public class AuthenticationService {
     UserService userService;
     UserMapper  userMapper;
     NonceService nonceService;
-    InvalidatedTokenRepository invalidatedTokenRepository;
-
-    @NonFinal
-    @Value("${jwt.signerKey}")
-    protected String SIGNER_KEY;
+    TokenRevocationService tokenRevocationService;
+    VerifiedTokenCache verifiedTokenCache;
+    TokenCryptoService tokenCryptoService;
+    PasswordVerificationService passwordVerificationService;
 
     @NonFinal
     @Value("${jwt.valid-duration}")
@@ -91,8 +85,7 @@ public class AuthenticationService {
                     .findByUsername(request.getUsername())
                     .orElseThrow(() -> new AppException(ErrorCode.USER_NOT_EXISTED));
 
-            PasswordEncoder passwordEncoder = new BCryptPasswordEncoder(10);
-            boolean authenticated = passwordEncoder.matches(request.getPassword(), user.getPassword());
+            boolean authenticated = passwordVerificationService.verify(user, request.getPassword());
 
             if (!authenticated) {
                 throw new AppException(ErrorCode.UNAUTHENTICATED);
@@ -116,6 +109,7 @@ public class AuthenticationService {
 
             Boolean isValid = nonceService.validateNonce(
                     request.getNonce(),
+                    request.getAddress(),
                     request.getSignature(),
                     request.getKey()
             );
@@ -152,12 +146,9 @@ public class AuthenticationService {
             var signToken = verifyToken(request.getToken(), true);
 
             String jit = signToken.getJWTClaimsSet().getJWTID();
-            Date expiryTime = signToken.getJWTClaimsSet().getExpirationTime();
-
-            InvalidatedToken invalidatedToken =
-                    InvalidatedToken.builder().id(jit).expiryTime(expiryTime).build();
 
-            invalidatedTokenRepository.save(invalidatedToken);
+            tokenRevocationService.revoke(jit, revocationExpiry(signToken.getJWTClaimsSet()));
+            verifiedTokenCache.evict(request.getToken());
             return LogoutResponse.builder().success(true).message("Logout successful").build();
         } catch (AppException exception) {
             log.info("Token already expired");
@@ -169,12 +160,9 @@ public class AuthenticationService {
         var signedJWT = verifyToken(request.getToken(), true);
 
         var jit = signedJWT.getJWTClaimsSet().getJWTID();
-        var expiryTime = signedJWT.getJWTClaimsSet().getExpirationTime();
 
-        InvalidatedToken invalidatedToken =
-                InvalidatedToken.builder().id(jit).expiryTime(expiryTime).build();
-
-        invalidatedTokenRepository.save(invalidatedToken);
+        tokenRevocationService.revoke(jit, revocationExpiry(signedJWT.getJWTClaimsSet()));
+        verifiedTokenCache.evict(request.getToken());
 
         var username = signedJWT.getJWTClaimsSet().getSubject();
 
@@ -187,8 +175,6 @@ public class AuthenticationService {
     }
 
     public String generateToken(User user) {
-        JWSHeader header = new JWSHeader(JWSAlgorithm.HS512);
-
         JWTClaimsSet jwtClaimsSet = new JWTClaimsSet.Builder()
                 .subject(user.getId())
                 .issuer("c2vn-lms")
@@ -199,22 +185,15 @@ public class AuthenticationService {
                 .claim("scope", buildScope(user))
                 .build();
 
-        Payload payload = new Payload(jwtClaimsSet.toJSONObject());
-
-        JWSObject jwsObject = new JWSObject(header, payload);
-
         try {
-            jwsObject.sign(new MACSigner(SIGNER_KEY.getBytes()));
-            return jwsObject.serialize();
+            return tokenCryptoService.sign(jwtClaimsSet);
         } catch (JOSEException e) {
             log.error("Cannot create token", e);
             throw new RuntimeException(e);
         }
     }
 
-    private SignedJWT verifyToken(String token, boolean isRefresh) throws JOSEException, ParseException {
-        JWSVerifier verifier = new MACVerifier(SIGNER_KEY.getBytes());
-
+    public SignedJWT verifyToken(String token, boolean isRefresh) throws JOSEException, ParseException {
         SignedJWT signedJWT = SignedJWT.parse(token);
 
         Date expiryTime = (isRefresh)
@@ -226,16 +205,28 @@ public class AuthenticationService {
                         .toEpochMilli())
                 : signedJWT.getJWTClaimsSet().getExpirationTime();
 
-        var verified = signedJWT.verify(verifier);
+        var verified = tokenCryptoService.verify(signedJWT);
 
         if (!(verified && expiryTime.after(new Date()))) throw new AppException(ErrorCode.UNAUTHENTICATED);
 
-        if (invalidatedTokenRepository.existsById(signedJWT.getJWTClaimsSet().getJWTID()))
+        if (tokenRevocationService.isRevoked(signedJWT.getJWTClaimsSet().getJWTID()))
             throw new AppException(ErrorCode.UNAUTHENTICATED);
 
         return signedJWT;
     }
 
+    /**
+     * A revoked token must stay revoked for as long as {@link #verifyToken} could accept it, and refresh
+     * accepts it until {@code iat + refreshable-duration}, usually well past {@code exp}.
+     */
+    private Date revocationExpiry(JWTClaimsSet claims) {
+        Date refreshableUntil = new Date(claims.getIssueTime().toInstant()
+                .plus(REFRESHABLE_DURATION, ChronoUnit.SECONDS)
+                .toEpochMilli());
+        Date expiry = claims.getExpirationTime();
+        return expiry != null && expiry.after(refreshableUntil) ? expiry : refreshableUntil;
+    }
+
     private String buildScope(User user) {
         StringJoiner stringJoiner = new StringJoiner(" ");
         Role role = user.getRole();
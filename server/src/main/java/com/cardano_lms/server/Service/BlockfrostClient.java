@@ -0,0 +1,174 @@
+package com.cardano_lms.server.Service;
+
+import com.cardano_lms.server.Exception.AppException;
+import com.cardano_lms.server.Exception.ErrorCode;
+import com.cardano_lms.server.Util.CircuitBreaker;
+import com.cardano_lms.server.Util.TokenBucket;
+import com.cardano_lms.server.Util.UtxoScanner;
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.AccessLevel;
+import lombok.experimental.FieldDefaults;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.client.JdkClientHttpRequestFactory;
+import org.springframework.stereotype.Service;
+import org.springframework.web.client.HttpClientErrorException;
+import org.springframework.web.client.HttpStatusCodeException;
+import org.springframework.web.client.ResponseExtractor;
+import org.springframework.web.client.RestClientException;
+import org.springframework.web.client.RestTemplate;
+import org.springframework.web.util.DefaultUriBuilderFactory;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.http.HttpClient;
+import java.time.Duration;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Blockfrost API client shared by every payment check. One keep-alive {@link HttpClient} serves all calls,
+ * guarded by a circuit breaker and a token bucket sized to the project's Blockfrost quota. Lookups of
+ * transactions the chain has not seen yet come back empty instead of throwing.
+ */
+@Service
+@Slf4j
+@FieldDefaults(level = AccessLevel.PRIVATE, makeFinal = true)
+public class BlockfrostClient {
+    static final String TRANSACTION = "/txs/{hash}";
+    static final String TRANSACTION_UTXOS = "/txs/{hash}/utxos";
+    static final String LATEST_BLOCK = "/blocks/latest";
+
+    RestTemplate restTemplate;
+    ObjectMapper objectMapper;
+    JsonFactory jsonFactory;
+    MeterRegistry meterRegistry;
+    CircuitBreaker circuitBreaker;
+    TokenBucket rateLimiter;
+    long rateLimitWaitMillis;
+
+    public BlockfrostClient(ObjectMapper objectMapper,
+                            MeterRegistry meterRegistry,
+                            @Value("${BLOCKFROST_API}") String blockfrostApi,
+                            @Value("${BLOCKFROST_PROJECT_ID}") String blockfrostProjectId,
+                            @Value("${blockfrost.connect-timeout-ms:2000}") long connectTimeoutMillis,
+                            @Value("${blockfrost.read-timeout-ms:5000}") long readTimeoutMillis,
+                            @Value("${blockfrost.rate-limit.requests-per-second:10}") double requestsPerSecond,
+                            @Value("${blockfrost.rate-limit.burst:500}") int burst,
+                            @Value("${blockfrost.rate-limit.max-wait-ms:2000}") long rateLimitWaitMillis,
+                            @Value("${blockfrost.circuit-breaker.failure-threshold:5}") int failureThreshold,
+                            @Value("${blockfrost.circuit-breaker.open-ms:30000}") long openMillis) {
+        this.objectMapper = objectMapper;
+        this.jsonFactory = objectMapper.getFactory();
+        this.meterRegistry = meterRegistry;
+        this.rateLimitWaitMillis = rateLimitWaitMillis;
+        this.circuitBreaker = new CircuitBreaker(failureThreshold, openMillis);
+        // Blockfrost quotas are per project id, and this client only ever sends one.
+        this.rateLimiter = new TokenBucket(requestsPerSecond, burst);
+
+        HttpClient httpClient = HttpClient.newBuilder()
+                .connectTimeout(Duration.ofMillis(connectTimeoutMillis))
+                .build();
+        JdkClientHttpRequestFactory requestFactory = new JdkClientHttpRequestFactory(httpClient);
+        requestFactory.setReadTimeout(Duration.ofMillis(readTimeoutMillis));
+
+        RestTemplate template = new RestTemplate(requestFactory);
+        template.setUriTemplateHandler(new DefaultUriBuilderFactory(blockfrostApi));
+        template.getInterceptors().add((request, body, execution) -> {
+            request.getHeaders().set("project_id", blockfrostProjectId);
+            return execution.execute(request, body);
+        });
+        this.restTemplate = template;
+
+        Gauge.builder("lms.blockfrost.circuit.open", circuitBreaker,
+                        breaker -> breaker.state() == CircuitBreaker.State.CLOSED ? 0 : 1)
+                .description("1 while Blockfrost calls are short-circuited")
+                .register(meterRegistry);
+    }
+
+    public Optional<JsonNode> getTransaction(String txHash) {
+        return call(TRANSACTION, body -> objectMapper.readTree(body), txHash);
+    }
+
+    public Optional<JsonNode> getLatestBlock() {
+        return call(LATEST_BLOCK, body -> objectMapper.readTree(body));
+    }
+
+    /**
+     * Largest single-output lovelace per receiving address; empty while Blockfrost does not know the transaction.
+     */
+    public Optional<Map<String, Long>> getTransactionOutputs(String txHash) {
+        return call(TRANSACTION_UTXOS, body -> {
+            try (JsonParser parser = jsonFactory.createParser(body)) {
+                return UtxoScanner.lovelaceByAddress(parser);
+            }
+        }, txHash);
+    }
+
+    private <T> Optional<T> call(String endpoint, BodyReader<T> reader, Object... uriVariables) {
+        if (!rateLimiter.tryAcquire(rateLimitWaitMillis)) {
+            record(endpoint, "rate_limited", 0);
+            throw new AppException(ErrorCode.CHAIN_API_UNAVAILABLE);
+        }
+        if (!circuitBreaker.tryAcquire()) {
+            record(endpoint, "short_circuited", 0);
+            throw new AppException(ErrorCode.CHAIN_API_UNAVAILABLE);
+        }
+
+        long start = System.nanoTime();
+        ResponseExtractor<T> extractor = response -> reader.read(response.getBody());
+        try {
+            T result = restTemplate.execute(endpoint, HttpMethod.GET, null, extractor, uriVariables);
+            circuitBreaker.onSuccess();
+            record(endpoint, "success", System.nanoTime() - start);
+            return Optional.ofNullable(result);
+        } catch (HttpClientErrorException.NotFound e) {
+            circuitBreaker.onSuccess();
+            record(endpoint, "not_found", System.nanoTime() - start);
+            return Optional.empty();
+        } catch (HttpStatusCodeException e) {
+            boolean upstreamFault = e.getStatusCode().is5xxServerError() || e.getStatusCode().value() == 429;
+            if (upstreamFault) {
+                circuitBreaker.onFailure();
+            } else {
+                circuitBreaker.onSuccess();
+            }
+            record(endpoint, "http_" + e.getStatusCode().value(), System.nanoTime() - start);
+            log.warn("Blockfrost {} answered {}", endpoint, e.getStatusCode());
+            throw new AppException(ErrorCode.CHAIN_API_UNAVAILABLE);
+        } catch (RestClientException e) {
+            circuitBreaker.onFailure();
+            record(endpoint, "io_error", System.nanoTime() - start);
+            log.warn("Blockfrost {} failed: {}", endpoint, e.getMessage());
+            throw new AppException(ErrorCode.CHAIN_API_UNAVAILABLE);
+        } catch (RuntimeException e) {
+            // Anything else (a body the reader cannot make sense of) still has to settle the breaker, or a
+            // half-open probe that ends this way leaves it refusing every call.
+            circuitBreaker.onFailure();
+            record(endpoint, "error", System.nanoTime() - start);
+            log.warn("Blockfrost {} answered with an unreadable body", endpoint, e);
+            throw new AppException(ErrorCode.CHAIN_API_UNAVAILABLE);
+        }
+    }
+
+    private void record(String endpoint, String outcome, long nanos) {
+        Timer.builder("lms.blockfrost.requests")
+                .description("Blockfrost API calls by endpoint and outcome")
+                .tag("endpoint", endpoint)
+                .tag("outcome", outcome)
+                .register(meterRegistry)
+                .record(Duration.ofNanos(nanos));
+    }
+
+    @FunctionalInterface
+    private interface BodyReader<T> {
+        T read(InputStream body) throws IOException;
+    }
+}
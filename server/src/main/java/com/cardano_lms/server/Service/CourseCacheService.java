@@ -0,0 +1,200 @@
+package com.cardano_lms.server.Service;
+
+import com.cardano_lms.server.DTO.Response.CourseCatalogResponse;
+import com.cardano_lms.server.DTO.Response.CourseCreationResponse;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import lombok.AccessLevel;
+import lombok.experimental.FieldDefaults;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * Two-tier read-through cache for course reads: a per-node Caffeine L1 in front of a shared Redis L2.
+ * Detail entries are keyed by course id and a version covering both the course and its instructor's
+ * profile, so a write to either makes older entries unreachable even before the pub/sub invalidation
+ * reaches other nodes. Catalog entries are keyed by a catalog generation that each node keeps in memory:
+ * it is read from Redis once, then advanced by its own writes and by the generation carried in every
+ * invalidation message, so an L1 catalog hit costs no Redis round trip. A node that misses a message
+ * serves the old generation for at most the catalog TTL.
+ */
+@Service
+@Slf4j
+@FieldDefaults(level = AccessLevel.PRIVATE, makeFinal = true)
+public class CourseCacheService implements MessageListener {
+    public static final String INVALIDATION_CHANNEL = "lms:course:invalidation";
+
+    static final String DETAIL_KEY_PREFIX = "lms:course:detail:";
+    static final String CATALOG_KEY_PREFIX = "lms:course:catalog:";
+    static final String CATALOG_GENERATION_KEY = "lms:course:catalog-generation";
+    static final String CATALOG_ONLY = "*";
+    static final long UNKNOWN_GENERATION = -1;
+
+    StringRedisTemplate redisTemplate;
+    ObjectMapper objectMapper;
+    Cache<String, CourseCreationResponse> detailCache;
+    Cache<String, CourseCatalogResponse> catalogCache;
+    Duration detailTtl;
+    Duration catalogTtl;
+    AtomicLong catalogGeneration = new AtomicLong(UNKNOWN_GENERATION);
+
+    public CourseCacheService(StringRedisTemplate redisTemplate,
+                              ObjectMapper objectMapper,
+                              @Value("${course.cache.l1-max-size:2000}") long l1MaxSize,
+                              @Value("${course.cache.detail-ttl-seconds:3600}") long detailTtlSeconds,
+                              @Value("${course.cache.catalog-ttl-seconds:30}") long catalogTtlSeconds) {
+        this.redisTemplate = redisTemplate;
+        this.objectMapper = objectMapper;
+        this.detailTtl = Duration.ofSeconds(detailTtlSeconds);
+        this.catalogTtl = Duration.ofSeconds(catalogTtlSeconds);
+        this.detailCache = Caffeine.newBuilder()
+                .maximumSize(l1MaxSize)
+                .expireAfterWrite(detailTtl)
+                .build();
+        this.catalogCache = Caffeine.newBuilder()
+                .maximumSize(l1MaxSize)
+                .expireAfterWrite(catalogTtl)
+                .build();
+    }
+
+    public CourseCreationResponse getCourseDetail(String courseId, String version,
+                                                  Supplier<CourseCreationResponse> loader) {
+        String key = courseId + ":" + version;
+        return detailCache.get(key, k ->
+                readThrough(DETAIL_KEY_PREFIX + k, CourseCreationResponse.class, detailTtl, loader));
+    }
+
+    public CourseCatalogResponse getCatalog(String queryKey, Supplier<CourseCatalogResponse> loader) {
+        String key = catalogGeneration() + ":" + queryKey;
+        return catalogCache.get(key, k ->
+                readThrough(CATALOG_KEY_PREFIX + k, CourseCatalogResponse.class, catalogTtl, loader));
+    }
+
+    public void evictCourse(String courseId) {
+        afterCommit(() -> {
+            evictLocal(courseId);
+            publish(bumpCatalogGeneration(), courseId);
+        });
+    }
+
+    public void evictCatalog() {
+        afterCommit(() -> {
+            catalogCache.invalidateAll();
+            publish(bumpCatalogGeneration(), CATALOG_ONLY);
+        });
+    }
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String body = new String(message.getBody(), StandardCharsets.UTF_8);
+        int separator = body.indexOf(':');
+        if (separator > 0) {
+            advanceCatalogGeneration(Long.parseLong(body.substring(0, separator)));
+        }
+        body = body.substring(separator + 1);
+        if (CATALOG_ONLY.equals(body)) {
+            catalogCache.invalidateAll();
+        } else {
+            evictLocal(body);
+        }
+    }
+
+    private void evictLocal(String courseId) {
+        String prefix = courseId + ":";
+        detailCache.asMap().keySet().removeIf(key -> key.startsWith(prefix));
+        catalogCache.invalidateAll();
+    }
+
+    private <T> T readThrough(String redisKey, Class<T> type, Duration ttl, Supplier<T> loader) {
+        try {
+            String json = redisTemplate.opsForValue().get(redisKey);
+            if (json != null) {
+                return objectMapper.readValue(json, type);
+            }
+        } catch (Exception e) {
+            log.warn("Course cache read failed for {}: {}", redisKey, e.getMessage());
+        }
+
+        T value = loader.get();
+
+        try {
+            redisTemplate.opsForValue().set(redisKey, objectMapper.writeValueAsString(value), ttl);
+        } catch (Exception e) {
+            log.warn("Course cache write failed for {}: {}", redisKey, e.getMessage());
+        }
+        return value;
+    }
+
+    private String catalogGeneration() {
+        long known = catalogGeneration.get();
+        if (known != UNKNOWN_GENERATION) {
+            return String.valueOf(known);
+        }
+        try {
+            String generation = redisTemplate.opsForValue().get(CATALOG_GENERATION_KEY);
+            return String.valueOf(advanceCatalogGeneration(generation != null ? Long.parseLong(generation) : 0));
+        } catch (Exception e) {
+            log.warn("Course catalog generation unavailable: {}", e.getMessage());
+            return "local";
+        }
+    }
+
+    /**
+     * Returns the new generation, or {@link #UNKNOWN_GENERATION} if Redis could not be reached; the next
+     * catalog read then asks Redis again.
+     */
+    private long bumpCatalogGeneration() {
+        try {
+            Long next = redisTemplate.opsForValue().increment(CATALOG_GENERATION_KEY);
+            if (next != null) {
+                return advanceCatalogGeneration(next);
+            }
+        } catch (Exception e) {
+            log.warn("Course catalog generation bump failed: {}", e.getMessage());
+        }
+        catalogGeneration.set(UNKNOWN_GENERATION);
+        return UNKNOWN_GENERATION;
+    }
+
+    private long advanceCatalogGeneration(long generation) {
+        return catalogGeneration.accumulateAndGet(generation, Math::max);
+    }
+
+    /**
+     * Messages read "generation:target", where target is a course id or {@link #CATALOG_ONLY}; the
+     * generation is left out when the bump did not reach Redis.
+     */
+    private void publish(long generation, String target) {
+        String payload = generation == UNKNOWN_GENERATION ? ":" + target : generation + ":" + target;
+        try {
+            redisTemplate.convertAndSend(INVALIDATION_CHANNEL, payload);
+        } catch (Exception e) {
+            log.warn("Course cache invalidation publish failed: {}", e.getMessage());
+        }
+    }
+
+    private void afterCommit(Runnable action) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    action.run();
+                }
+            });
+        } else {
+            action.run();
+        }
+    }
+}
@@ -0,0 +1,166 @@
+package com.cardano_lms.server.Service;
+
+import com.cardano_lms.server.DTO.Request.CourseCreationRequest;
+import com.cardano_lms.server.DTO.Response.CourseImportFailure;
+import com.cardano_lms.server.DTO.Response.CourseImportResponse;
+import com.cardano_lms.server.Entity.InstructorProfile;
+import com.cardano_lms.server.Entity.PaymentMethod;
+import com.cardano_lms.server.Exception.AppException;
+import com.cardano_lms.server.Exception.ErrorCode;
+import com.cardano_lms.server.Repository.CourseRepository;
+import com.cardano_lms.server.Repository.InstructorProfileRepository;
+import com.cardano_lms.server.Repository.PaymentMethodRepository;
+import com.fasterxml.jackson.databind.MappingIterator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.persistence.EntityManager;
+import lombok.AccessLevel;
+import lombok.experimental.FieldDefaults;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.*;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Imports a stream of courses (a JSON array or NDJSON) without holding the whole payload in memory.
+ * Courses are read in chunks so instructor lookups are batched, and each course commits on its own:
+ * a bad course is reported and skipped instead of rolling back the ones before it.
+ */
+@Service
+@Slf4j
+@FieldDefaults(level = AccessLevel.PRIVATE, makeFinal = true)
+public class CourseImportService {
+    CourseService courseService;
+    CourseRepository courseRepository;
+    InstructorProfileRepository instructorProfileRepository;
+    PaymentMethodRepository paymentMethodRepository;
+    CourseCacheService courseCacheService;
+    CourseOutlineService courseOutlineService;
+    ObjectMapper objectMapper;
+    TransactionTemplate transactionTemplate;
+    EntityManager entityManager;
+    int chunkSize;
+
+    public CourseImportService(CourseService courseService,
+                               CourseRepository courseRepository,
+                               InstructorProfileRepository instructorProfileRepository,
+                               PaymentMethodRepository paymentMethodRepository,
+                               CourseCacheService courseCacheService,
+                               CourseOutlineService courseOutlineService,
+                               ObjectMapper objectMapper,
+                               TransactionTemplate transactionTemplate,
+                               EntityManager entityManager,
+                               @Value("${course.import.chunk-size:50}") int chunkSize) {
+        this.courseService = courseService;
+        this.courseRepository = courseRepository;
+        this.instructorProfileRepository = instructorProfileRepository;
+        this.paymentMethodRepository = paymentMethodRepository;
+        this.courseCacheService = courseCacheService;
+        this.courseOutlineService = courseOutlineService;
+        this.objectMapper = objectMapper;
+        this.transactionTemplate = transactionTemplate;
+        this.entityManager = entityManager;
+        this.chunkSize = Math.max(1, chunkSize);
+    }
+
+    @PreAuthorize("hasRole('ADMIN')")
+    public CourseImportResponse importCourses(InputStream body) {
+        long start = System.nanoTime();
+        Map<String, PaymentMethod> paymentMethods = paymentMethodRepository.findAll().stream()
+                .collect(Collectors.toMap(PaymentMethod::getName, Function.identity()));
+        List<String> importedIds = new ArrayList<>();
+        List<CourseImportFailure> failures = new ArrayList<>();
+        List<CourseCreationRequest> chunk = new ArrayList<>(chunkSize);
+        int received = 0;
+
+        try (MappingIterator<CourseCreationRequest> requests =
+                     objectMapper.readerFor(CourseCreationRequest.class).readValues(body)) {
+            while (requests.hasNextValue()) {
+                chunk.add(requests.nextValue());
+                if (chunk.size() == chunkSize) {
+                    importChunk(chunk, received, paymentMethods, importedIds, failures);
+                    received += chunk.size();
+                    chunk.clear();
+                }
+            }
+        } catch (IOException e) {
+            failures.add(CourseImportFailure.builder()
+                    .index(received + chunk.size())
+                    .error("Unreadable course, import stopped: " + e.getMessage())
+                    .build());
+        }
+
+        if (!chunk.isEmpty()) {
+            importChunk(chunk, received, paymentMethods, importedIds, failures);
+            received += chunk.size();
+        }
+
+        if (!importedIds.isEmpty()) {
+            courseCacheService.evictCatalog();
+        }
+
+        return CourseImportResponse.builder()
+                .received(received)
+                .imported(importedIds.size())
+                .failed(failures.size())
+                .elapsedMillis((System.nanoTime() - start) / 1_000_000)
+                .importedIds(importedIds)
+                .failures(failures)
+                .build();
+    }
+
+    private void importChunk(List<CourseCreationRequest> chunk, int offset,
+                             Map<String, PaymentMethod> paymentMethods,
+                             List<String> importedIds, List<CourseImportFailure> failures) {
+        Set<Long> instructorIds = chunk.stream()
+                .map(CourseCreationRequest::getInstructorId)
+                .filter(Objects::nonNull)
+                .collect(Collectors.toSet());
+        Map<Long, InstructorProfile> instructors = instructorProfileRepository.findAllById(instructorIds).stream()
+                .collect(Collectors.toMap(InstructorProfile::getId, Function.identity()));
+
+        for (int i = 0; i < chunk.size(); i++) {
+            CourseCreationRequest request = chunk.get(i);
+            try {
+                InstructorProfile instructor = instructors.get(request.getInstructorId());
+                if (instructor == null) {
+                    throw new AppException(ErrorCode.YOU_ARE_NOT_INSTRUCTOR);
+                }
+                String id = transactionTemplate.execute(status -> {
+                    String saved = courseRepository.save(courseService.buildCourse(request, instructor,
+                            name -> Optional.ofNullable(paymentMethods.get(name))
+                                    .orElseThrow(() -> new AppException(ErrorCode.PAYMENT_METHOD_NOT_FOUND)))).getId();
+                    courseOutlineService.rebuild(saved);
+                    // Drop the course graph from this transaction's context once it is written, so
+                    // the dirty check at commit does not walk every chapter and lecture again.
+                    entityManager.flush();
+                    entityManager.clear();
+                    return saved;
+                });
+                importedIds.add(id);
+            } catch (AppException e) {
+                failures.add(failure(offset + i, request, e.getErrorCode().getMessage()));
+            } catch (RuntimeException e) {
+                log.warn("Course import failed at index {}", offset + i, e);
+                failures.add(failure(offset + i, request, e.getMessage()));
+            }
+        }
+
+        log.info("Course import progress: {} read, {} imported, {} failed",
+                offset + chunk.size(), importedIds.size(), failures.size());
+    }
+
+    private CourseImportFailure failure(int index, CourseCreationRequest request, String error) {
+        return CourseImportFailure.builder()
+                .index(index)
+                .title(request.getTitle())
+                .error(error)
+                .build();
+    }
+}
@@ -0,0 +1,157 @@
+package com.cardano_lms.server.Service;
+
+import com.cardano_lms.server.DTO.Response.ChapterOutlineResponse;
+import com.cardano_lms.server.DTO.Response.CourseOutlineResponse;
+import com.cardano_lms.server.DTO.Response.LectureOutlineResponse;
+import com.cardano_lms.server.DTO.Response.TestOutlineResponse;
+import com.cardano_lms.server.Entity.CourseOutline;
+import com.cardano_lms.server.Exception.AppException;
+import com.cardano_lms.server.Exception.ErrorCode;
+import com.cardano_lms.server.Repository.*;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.transaction.Transactional;
+import lombok.AccessLevel;
+import lombok.RequiredArgsConstructor;
+import lombok.experimental.FieldDefaults;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.LocalDateTime;
+import java.util.*;
+
+/**
+ * Maintains the course_outline read model: one row per course holding its chapter, lecture and test
+ * titles with the counts and total duration already summed, so the outline endpoint is a primary-key
+ * lookup. Course writes rebuild only the edited course's row, from narrow projections that never touch
+ * questions or answers, inside the writing transaction so the outline commits with the change.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+@FieldDefaults(level = AccessLevel.PRIVATE, makeFinal = true)
+public class CourseOutlineService {
+    static final int ETAG_BYTES = 16;
+
+    CourseOutlineRepository courseOutlineRepository;
+    CourseRepository courseRepository;
+    ChapterRepository chapterRepository;
+    LectureRepository lectureRepository;
+    TestRepository testRepository;
+    ObjectMapper objectMapper;
+    TransactionTemplate transactionTemplate;
+
+    /**
+     * Courses created before the read model existed, or written around the service, are built on first
+     * read. Two first reads may race to insert the row; the loser reads the winner's copy.
+     */
+    public CourseOutline getOutline(String courseId) {
+        return courseOutlineRepository.findById(courseId).orElseGet(() -> {
+            try {
+                return transactionTemplate.execute(status -> rebuild(courseId));
+            } catch (DataIntegrityViolationException e) {
+                return courseOutlineRepository.findById(courseId)
+                        .orElseThrow(() -> new AppException(ErrorCode.COURSE_NOT_FOUND));
+            }
+        });
+    }
+
+    @Transactional
+    public CourseOutline rebuild(String courseId) {
+        CourseTitleView course = courseRepository.findTitleById(courseId)
+                .orElseThrow(() -> new AppException(ErrorCode.COURSE_NOT_FOUND));
+
+        Map<Long, ChapterOutlineResponse> chapters = new LinkedHashMap<>();
+        for (ChapterOutlineView chapter : chapterRepository.findOutlineByCourseId(courseId)) {
+            chapters.put(chapter.getId(), ChapterOutlineResponse.builder()
+                    .id(chapter.getId())
+                    .title(chapter.getTitle())
+                    .orderIndex(chapter.getOrderIndex())
+                    .lectures(new ArrayList<>())
+                    .tests(new ArrayList<>())
+                    .build());
+        }
+
+        int lectureCount = 0;
+        long totalSeconds = 0;
+        for (LectureOutlineView lecture : lectureRepository.findOutlineByCourseId(courseId)) {
+            ChapterOutlineResponse chapter = chapters.get(lecture.getChapterId());
+            chapter.getLectures().add(LectureOutlineResponse.builder()
+                    .id(lecture.getId())
+                    .title(lecture.getTitle())
+                    .orderIndex(lecture.getOrderIndex())
+                    .durationSeconds(lecture.getTime())
+                    .previewFree(lecture.getPreviewFree())
+                    .build());
+            chapter.setLectureCount(chapter.getLectureCount() + 1);
+            chapter.setDurationSeconds(chapter.getDurationSeconds() + lecture.getTime());
+            lectureCount++;
+            totalSeconds += lecture.getTime();
+        }
+
+        int testCount = 0;
+        List<TestOutlineResponse> courseTests = new ArrayList<>();
+        for (TestOutlineView test : testRepository.findOutlineByCourseId(courseId)) {
+            TestOutlineResponse item = TestOutlineResponse.builder()
+                    .id(test.getId())
+                    .title(test.getTitle())
+                    .orderIndex(test.getOrderIndex())
+                    .durationMinutes(test.getDurationMinutes())
+                    .build();
+            long testSeconds = test.getDurationMinutes() * 60L;
+            ChapterOutlineResponse chapter = test.getChapterId() != null ? chapters.get(test.getChapterId()) : null;
+            if (chapter != null) {
+                chapter.getTests().add(item);
+                chapter.setDurationSeconds(chapter.getDurationSeconds() + testSeconds);
+            } else {
+                courseTests.add(item);
+            }
+            testCount++;
+            totalSeconds += testSeconds;
+        }
+
+        CourseOutlineResponse outline = CourseOutlineResponse.builder()
+                .courseId(courseId)
+                .title(course.getTitle())
+                .chapterCount(chapters.size())
+                .lectureCount(lectureCount)
+                .testCount(testCount)
+                .totalDurationSeconds(totalSeconds)
+                .chapters(new ArrayList<>(chapters.values()))
+                .courseTests(courseTests)
+                .build();
+
+        CourseOutline row = courseOutlineRepository.findById(courseId)
+                .orElseGet(() -> CourseOutline.builder().courseId(courseId).build());
+        String etag = etag(outline);
+        if (etag.equals(row.getEtag())) {
+            return row;
+        }
+        row.setOutline(outline);
+        row.setEtag(etag);
+        row.setChapterCount(outline.getChapterCount());
+        row.setLectureCount(lectureCount);
+        row.setTestCount(testCount);
+        row.setTotalDurationSeconds(totalSeconds);
+        row.setUpdatedAt(LocalDateTime.now());
+        return courseOutlineRepository.save(row);
+    }
+
+    @Transactional
+    public void remove(String courseId) {
+        courseOutlineRepository.deleteById(courseId);
+    }
+
+    private String etag(CourseOutlineResponse outline) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(objectMapper.writeValueAsBytes(outline));
+            return HexFormat.of().formatHex(digest, 0, ETAG_BYTES);
+        } catch (JsonProcessingException | NoSuchAlgorithmException e) {
+            throw new IllegalStateException("Could not fingerprint course outline", e);
+        }
+    }
+}
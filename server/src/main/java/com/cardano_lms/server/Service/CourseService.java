@@ -1,5 +1,6 @@
 package com.cardano_lms.server.Service;
 
+import com.cardano_lms.server.Constant.Currency;
 import com.cardano_lms.server.DTO.Request.*;
 import com.cardano_lms.server.DTO.Response.*;
 import com.cardano_lms.server.Entity.*;
@@ -12,18 +13,28 @@ import lombok.AccessLevel;
 import lombok.RequiredArgsConstructor;
 import lombok.experimental.FieldDefaults;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
 
+import java.nio.charset.StandardCharsets;
 import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
 import java.util.List;
 import java.util.Optional;
+import java.util.function.Function;
 
 @Service
 @RequiredArgsConstructor
 @Slf4j
 @FieldDefaults(level = AccessLevel.PRIVATE, makeFinal = true)
 public class CourseService {
+    static final int MAX_CATALOG_PAGE_SIZE = 100;
+    static final int MAX_EDIT_ATTEMPTS = 3;
+
     CourseRepository courseRepository;
     InstructorProfileRepository instructorProfileRepository;
     PaymentMethodRepository paymentMethodRepository;
@@ -36,13 +47,27 @@ public class CourseService {
     QuestionMapper questionMapper;
     AnswerMapper answerMapper;
     LectureMapper lectureMapper;
+    CourseCacheService courseCacheService;
+    CourseOutlineService courseOutlineService;
+    TransactionTemplate transactionTemplate;
 
+    @Transactional
     public CourseCreationResponse createCourse(CourseCreationRequest courseCreationRequest) {
 
         InstructorProfile instructor = instructorProfileRepository.findById(courseCreationRequest.getInstructorId())
                 .orElseThrow(() -> new AppException(ErrorCode.YOU_ARE_NOT_INSTRUCTOR));
 
+        Course course = buildCourse(courseCreationRequest, instructor, name -> paymentMethodRepository.findByName(name)
+                .orElseThrow(() -> new AppException(ErrorCode.PAYMENT_METHOD_NOT_FOUND)));
+
+        Course saved = courseRepository.save(course);
+        courseOutlineService.rebuild(saved.getId());
+        courseCacheService.evictCatalog();
+        return courseMapper.toResponse(saved);
+    }
 
+    Course buildCourse(CourseCreationRequest courseCreationRequest, InstructorProfile instructor,
+                       Function<String, PaymentMethod> paymentMethodByName) {
         Course course = courseMapper.toCourse(courseCreationRequest);
         course.setInstructor(instructor);
         course.setCreatedAt(LocalDateTime.now());
@@ -51,8 +76,7 @@ public class CourseService {
 
         if (courseCreationRequest.getPaymentMethods() != null && !courseCreationRequest.getPaymentMethods().isEmpty()) {
             for (PaymentOptionRequest option : courseCreationRequest.getPaymentMethods()) {
-                PaymentMethod method = paymentMethodRepository.findByName(option.getPaymentMethodId())
-                        .orElseThrow(() -> new AppException(ErrorCode.PAYMENT_METHOD_NOT_FOUND));
+                PaymentMethod method = paymentMethodByName.apply(option.getPaymentMethodId());
 
                 CoursePaymentMethod cpm = CoursePaymentMethod.builder()
                         .course(course)
@@ -66,7 +90,7 @@ public class CourseService {
 
         if (courseCreationRequest.getCourseTests() != null) {
             courseCreationRequest.getCourseTests().forEach(testReq -> {
-                buildTestWithQuestions(testReq, course, null);
+                course.addTest(buildTestWithQuestions(testReq));
             });
         }
 
@@ -84,29 +108,19 @@ public class CourseService {
 
                 if (chReq.getTests() != null) {
                     chReq.getTests().forEach(testReq -> {
-                      buildTestWithQuestions(testReq, null, chapter);
+                      chapter.addTest(buildTestWithQuestions(testReq));
                     });
                 }
             });
         }
 
-        Course saved = courseRepository.save(course);
-        return courseMapper.toResponse(saved);
+        return course;
     }
 
 
-    private Test buildTestWithQuestions(TestRequest testReq,
-                                        Course course,
-                                        Chapter chapter) {
+    private Test buildTestWithQuestions(TestRequest testReq) {
         Test test = testMapper.toEntity(testReq);
 
-        if (course != null) {
-            course.addTest(test);
-        }
-        if (chapter != null) {
-            chapter.addTest(test);
-        }
-
         if (testReq.getQuestions() != null) {
             testReq.getQuestions().forEach(qReq -> {
                 Question question = questionMapper.toQuestion(qReq);
@@ -125,65 +139,171 @@ public class CourseService {
     }
 
 
-    public List<CourseCreationResponse> getCourses() {
-        return courseRepository.findAll().stream()
-                .map(courseMapper::toResponse)
-                .toList();
+    public CourseCatalogResponse getCourseCatalog(String cursor, int size, Boolean draft,
+                                                  Currency currency, Long instructorId) {
+        int pageSize = Math.min(Math.max(size, 1), MAX_CATALOG_PAGE_SIZE);
+        String queryKey = String.join("|", String.valueOf(cursor), String.valueOf(pageSize),
+                String.valueOf(draft), String.valueOf(currency), String.valueOf(instructorId));
+
+        return courseCacheService.getCatalog(queryKey,
+                () -> loadCourseCatalog(cursor, pageSize, draft, currency, instructorId));
     }
 
-    public CourseCreationResponse getCourseById(String id) {
-        Course course = courseRepository.findById(id)
+    private CourseCatalogResponse loadCourseCatalog(String cursor, int pageSize, Boolean draft,
+                                                    Currency currency, Long instructorId) {
+        LocalDateTime cursorCreatedAt = null;
+        String cursorId = null;
+        if (cursor != null && !cursor.isBlank()) {
+            String[] parts = decodeCursor(cursor);
+            cursorCreatedAt = LocalDateTime.parse(parts[0]);
+            cursorId = parts[1];
+        }
+
+        List<CourseSummaryView> rows = courseRepository.findCatalogPage(
+                draft, currency, instructorId, cursorCreatedAt, cursorId,
+                PageRequest.ofSize(pageSize + 1));
+
+        boolean hasMore = rows.size() > pageSize;
+        List<CourseSummaryView> page = hasMore ? rows.subList(0, pageSize) : rows;
+
+        String nextCursor = null;
+        if (hasMore) {
+            CourseSummaryView last = page.get(page.size() - 1);
+            nextCursor = encodeCursor(last.getCreatedAt(), last.getId());
+        }
+
+        return CourseCatalogResponse.builder()
+                .items(page.stream().map(this::toSummaryResponse).toList())
+                .nextCursor(nextCursor)
+                .hasMore(hasMore)
+                .build();
+    }
+
+    private CourseSummaryResponse toSummaryResponse(CourseSummaryView view) {
+        return CourseSummaryResponse.builder()
+                .id(view.getId())
+                .title(view.getTitle())
+                .description(view.getDescription())
+                .shortDescription(view.getShortDescription())
+                .requirement(view.getRequirement())
+                .imageUrl(view.getImageUrl())
+                .isDraft(Boolean.TRUE.equals(view.getDraft()))
+                .discount(view.getDiscount())
+                .currency(view.getCurrency() != null ? view.getCurrency().name() : null)
+                .discountEndTime(view.getDiscountEndTime())
+                .policyId(view.getPolicyId())
+                .instructorName(view.getInstructorName())
+                .build();
+    }
+
+    private String encodeCursor(LocalDateTime createdAt, String id) {
+        String raw = createdAt + "|" + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private String[] decodeCursor(String cursor) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            String[] parts = raw.split("\\|", 2);
+            if (parts.length != 2) {
+                throw new AppException(ErrorCode.INVALID_ARGUMENT);
+            }
+            LocalDateTime.parse(parts[0]);
+            return parts;
+        } catch (IllegalArgumentException | DateTimeParseException e) {
+            throw new AppException(ErrorCode.INVALID_ARGUMENT);
+        }
+    }
+
+    public CourseVersionView getCourseVersion(String id) {
+        return courseRepository.findVersionById(id)
                 .orElseThrow(() -> new AppException(ErrorCode.COURSE_NOT_FOUND));
-        return courseMapper.toResponse(course);
     }
 
-    @PreAuthorize("hasRole('INSTRUCTOR')")
     @Transactional
+    public CourseCreationResponse getCourseById(String id) {
+        return getCourseById(getCourseVersion(id));
+    }
+
+    /**
+     * Loads the detail for a version the caller has already looked up, so a conditional GET that misses
+     * does not query the version twice.
+     */
+    @Transactional
+    public CourseCreationResponse getCourseById(CourseVersionView version) {
+        String id = version.getId();
+        return courseCacheService.getCourseDetail(id, String.valueOf(version.getUpdatedAt()), () -> {
+            Course course = courseRepository.findCourseTreeById(id)
+                    .orElseThrow(() -> new AppException(ErrorCode.COURSE_NOT_FOUND));
+            return courseMapper.toResponse(course);
+        });
+    }
+
+    /**
+     * Course fields are guarded by the course version. A client that sends the version it read gets a 409
+     * if anyone edited the course since; without one, an edit that loses a race is re-applied to the fresh
+     * row, as a full update would have overwritten the other writer's fields anyway.
+     */
+    @PreAuthorize("hasRole('INSTRUCTOR')")
     public CourseUpdateResponse updateCourse(String id, CourseUpdateRequest request) {
+        for (int attempt = 1; ; attempt++) {
+            try {
+                return transactionTemplate.execute(status -> applyCourseUpdate(id, request));
+            } catch (OptimisticLockingFailureException e) {
+                if (request.getVersion() != null || attempt >= MAX_EDIT_ATTEMPTS) {
+                    throw new AppException(ErrorCode.EDIT_CONFLICT);
+                }
+                log.debug("Course {} changed during update, retrying (attempt {})", id, attempt);
+            }
+        }
+    }
+
+    private CourseUpdateResponse applyCourseUpdate(String id, CourseUpdateRequest request) {
         Course course = courseRepository.findById(id)
                 .orElseThrow(() -> new AppException(ErrorCode.COURSE_NOT_FOUND));
+        if (request.getVersion() != null && !request.getVersion().equals(course.getVersion())) {
+            throw new AppException(ErrorCode.EDIT_CONFLICT);
+        }
 
         courseMapper.updateCourseFromRequest(request, course);
         course.setUpdatedAt(LocalDateTime.now());
 
-        Course saved = courseRepository.save(course);
+        Course saved = courseRepository.saveAndFlush(course);
+        courseOutlineService.rebuild(id);
+        courseCacheService.evictCourse(id);
         return courseMapper.toCourseUpdateResponse(saved);
     }
 
 
 
     @PreAuthorize("hasRole('ADMIN')")
+    @Transactional
     public void deleteCourse(String id) {
         if (!courseRepository.existsById(id)) {
             throw new AppException(ErrorCode.COURSE_NOT_FOUND);
         }
+        courseOutlineService.remove(id);
         courseRepository.deleteById(id);
+        courseCacheService.evictCourse(id);
     }
 
-
     @PreAuthorize("hasRole('INSTRUCTOR')")
     @Transactional
     public ChapterResponse addChapterToCourse(String courseId, ChapterRequest request) {
+        touchCourse(courseId);
 
-        Course course = courseRepository.findById(courseId)
-                .orElseThrow(() -> new AppException(ErrorCode.COURSE_NOT_FOUND));
         Chapter newChapter = chapterMapper.toEntity(request);
-        newChapter.setCourse(course);
-        Chapter savedChapter = chapterRepository.save(newChapter);
+        newChapter.setCourse(courseRepository.getReferenceById(courseId));
 
         Optional.ofNullable(request.getLectures())
-                .ifPresent(list -> list.forEach(lecReq -> {
-                    Lecture lecture = lectureMapper.toEntity(lecReq);
-                    newChapter.addLecture(lecture);
-                }));
+                .ifPresent(list -> list.forEach(lecReq -> newChapter.addLecture(lectureMapper.toEntity(lecReq))));
 
         Optional.ofNullable(request.getTests())
-                .ifPresent(list -> list.forEach(testReq ->
-                        buildTestWithQuestions(testReq, null, newChapter)));
+                .ifPresent(list -> list.forEach(testReq -> newChapter.addTest(buildTestWithQuestions(testReq))));
 
-        course.addChapter(newChapter);
-        course.setUpdatedAt(LocalDateTime.now());
-        courseRepository.save(course);
+        Chapter savedChapter = chapterRepository.save(newChapter);
+        courseOutlineService.rebuild(courseId);
+        courseCacheService.evictCourse(courseId);
 
         return chapterMapper.toResponse(savedChapter);
     }
@@ -191,18 +311,19 @@ public class CourseService {
     @PreAuthorize("hasRole('INSTRUCTOR')")
     @Transactional
     public LectureResponse addLectureToChapter(Long chapterId, LectureRequest request) {
-        Chapter chapter = chapterRepository.findById(chapterId)
+        ChapterOwnerView chapter = chapterRepository.findOwnerById(chapterId)
                 .orElseThrow(() -> new AppException(ErrorCode.CHAPTER_NOT_FOUND));
+        if (chapter.getCourseId() != null) {
+            touchCourse(chapter.getCourseId());
+        }
 
         Lecture newLecture = lectureMapper.toEntity(request);
-        newLecture.setChapter(chapter);
-
+        newLecture.setChapter(chapterRepository.getReferenceById(chapterId));
         Lecture savedLecture = lectureRepository.save(newLecture);
 
-        chapter.addLecture(newLecture);
-        if (chapter.getCourse() != null) {
-            chapter.getCourse().setUpdatedAt(LocalDateTime.now());
-            courseRepository.save(chapter.getCourse());
+        if (chapter.getCourseId() != null) {
+            courseOutlineService.rebuild(chapter.getCourseId());
+            courseCacheService.evictCourse(chapter.getCourseId());
         }
 
         return lectureMapper.toResponse(savedLecture);
@@ -215,37 +336,38 @@ public class CourseService {
         if (chapterId == null && courseId == null) {
             throw new AppException(ErrorCode.INVALID_INPUT);
         }
-        Test newTest = null;
-        Course course = null;
+        Test newTest = buildTestWithQuestions(request);
+        String ownerCourseId;
         if (chapterId != null) {
-            Chapter chapter = chapterRepository.findById(chapterId)
+            ChapterOwnerView chapter = chapterRepository.findOwnerById(chapterId)
                     .orElseThrow(() -> new AppException(ErrorCode.CHAPTER_NOT_FOUND));
-            newTest = buildTestWithQuestions(request, null, chapter);
-        }
-        if (courseId != null && chapterId == null) {
-            course = courseRepository.findById(courseId)
-                    .orElseThrow(() -> new AppException(ErrorCode.COURSE_NOT_FOUND));
-            newTest = buildTestWithQuestions(request, course, null);
+            ownerCourseId = chapter.getCourseId();
+            if (ownerCourseId != null) {
+                touchCourse(ownerCourseId);
+            }
+            newTest.setChapter(chapterRepository.getReferenceById(chapterId));
+        } else {
+            ownerCourseId = courseId;
+            touchCourse(courseId);
+            newTest.setCourse(courseRepository.getReferenceById(courseId));
         }
+
         Test saved = testRepository.save(newTest);
-        if (course != null) {
-            course.setUpdatedAt(LocalDateTime.now());
-            courseRepository.save(course);
+        if (ownerCourseId != null) {
+            courseOutlineService.rebuild(ownerCourseId);
+            courseCacheService.evictCourse(ownerCourseId);
         }
         return testMapper.toResponse(saved);
     }
 
-
-
-
-
-
-
-
-
-
-
-
-
-
+    /**
+     * Chapters, lectures and tests are added as targeted inserts against references to their parent, so the
+     * course aggregate is never loaded, re-saved or dirty checked. Touching the course row first confirms it
+     * exists and orders concurrent appends to the same course.
+     */
+    private void touchCourse(String courseId) {
+        if (courseRepository.touch(courseId, LocalDateTime.now()) == 0) {
+            throw new AppException(ErrorCode.COURSE_NOT_FOUND);
+        }
+    }
 }
@@ -1,6 +1,7 @@
 package com.cardano_lms.server.Service;
 
 import com.cardano_lms.server.Constant.OrderStatus;
+import com.cardano_lms.server.DTO.Response.EnrollmentStatusResponse;
 import com.cardano_lms.server.Entity.Course;
 import com.cardano_lms.server.Entity.CoursePaymentMethod;
 import com.cardano_lms.server.Entity.Enrollment;
@@ -11,83 +12,48 @@ import com.cardano_lms.server.Repository.CoursePaymentMethodRepository;
 import com.cardano_lms.server.Repository.CourseRepository;
 import com.cardano_lms.server.Repository.EnrollmentRepository;
 import com.cardano_lms.server.Repository.UserRepository;
-import com.fasterxml.jackson.databind.JsonNode;
-import com.fasterxml.jackson.databind.ObjectMapper;
-import jakarta.transaction.Transactional;
 import lombok.RequiredArgsConstructor;
-import org.springframework.beans.factory.annotation.Value;
-import org.springframework.http.*;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Service;
-import org.springframework.web.client.RestTemplate;
 
 import java.time.LocalDateTime;
+import java.util.EnumSet;
+import java.util.Set;
 import java.util.UUID;
 
 @Service
 @RequiredArgsConstructor
 public class EnrollmentService {
+    private static final Set<OrderStatus> ACTIVE_STATUSES = EnumSet.of(OrderStatus.PENDING, OrderStatus.SUCCESS);
 
     private final EnrollmentRepository enrollmentRepository;
     private final UserRepository userRepository;
     private final CourseRepository courseRepository;
     private final CoursePaymentMethodRepository coursePaymentMethodRepository;
+    private final PaymentVerificationService paymentVerificationService;
+    private final EnrollmentVerificationWorker enrollmentVerificationWorker;
 
-    @Value("${BLOCKFROST_PROJECT_ID}")
-    private String blockfrostProjectId;
-
-    @Value("${BLOCKFROST_API}")
-    private String blockfrostApi;
     public boolean verifyPayment(String expectedReceiver, String expectedSender,
                                  double expectedAmountAda, String txHash) {
-
-        String url = blockfrostApi + "/txs/" + txHash + "/utxos";
-        RestTemplate restTemplate = new RestTemplate();
-        HttpHeaders headers = new HttpHeaders();
-        headers.set("project_id", blockfrostProjectId);
-        HttpEntity<String> entity = new HttpEntity<>(headers);
-
-        try {
-            ResponseEntity<String> response = restTemplate.exchange(url, HttpMethod.GET, entity, String.class);
-            ObjectMapper mapper = new ObjectMapper();
-            JsonNode json = mapper.readTree(response.getBody());
-
-            JsonNode inputs = json.get("inputs");
-            if (inputs == null || inputs.isEmpty()) return false;
-            String senderAddress = inputs.get(0).get("address").asText();
-
-            long expectedLovelace = (long) (expectedAmountAda * 1_000_000);
-
-            JsonNode outputs = json.get("outputs");
-            if (outputs == null || outputs.isEmpty()) return false;
-
-            for (JsonNode output : outputs) {
-                String receiverAddress = output.get("address").asText();
-                for (JsonNode amount : output.get("amount")) {
-                    if ("lovelace".equals(amount.get("unit").asText())) {
-                        long value = amount.get("quantity").asLong();
-                        if (receiverAddress.trim().equals(expectedReceiver.trim())
-                                && value >= expectedLovelace) {
-                            System.out.println("Payment verified!");
-                            return true;
-                        }
-                    }
-                }
-            }
-
-            System.out.println("Payment not verified.");
-            return false;
-
-        } catch (Exception e) {
-            e.printStackTrace();
-            return false;
-        }
+        return paymentVerificationService.matchesPayment(expectedReceiver, expectedAmountAda, txHash);
     }
 
+    /**
+     * Records the order as PENDING and hands the chain check to the verification worker. Submitting the
+     * same txHash again returns the existing order instead of creating a second one, re-queueing it if it FAILED.
+     */
+    public EnrollmentStatusResponse createEnrollmentAfterPayment(String userId, String courseId,
+                                                                 Long coursePaymentMethodId, double priceAda, String txHash) {
+        if (txHash == null || txHash.isBlank()) {
+            throw new AppException(ErrorCode.INVALID_INPUT);
+        }
 
+        Enrollment existing = enrollmentRepository.findByTxHash(txHash).orElse(null);
+        if (existing != null) {
+            return toStatusResponse(retryIfFailed(sameOrder(existing, userId, courseId)));
+        }
 
-    @Transactional
-    public Enrollment createEnrollmentAfterPayment(String userId, String courseId,
-                                                   Long coursePaymentMethodId, double priceAda, String txHash) {
         User user = userRepository.findById(userId).orElseThrow(
                 () -> new AppException(ErrorCode.USER_NOT_EXISTED)
         );
@@ -95,31 +61,97 @@ public class EnrollmentService {
                 () -> new AppException(ErrorCode.COURSE_NOT_FOUND)
         );
 
-        if(enrollmentRepository.existsByUserIdAndCourseId(userId, courseId)){
+        if (enrollmentRepository.existsByUserIdAndCourseIdAndStatusIn(userId, courseId, ACTIVE_STATUSES)) {
             throw new AppException(ErrorCode.ALREADY_JOIN_THIS_COURSE);
         }
 
         CoursePaymentMethod method = coursePaymentMethodRepository.findById(coursePaymentMethodId)
+                .filter(found -> found.getCourse() != null && courseId.equals(found.getCourse().getId()))
                 .orElseThrow(() -> new AppException(ErrorCode.NOT_HAVE_METHOD));
 
-
-        String receiverWallet = coursePaymentMethodRepository.findById(coursePaymentMethodId).get().getReceiverAddress();
-
-        boolean validTx = verifyPayment(receiverWallet, user.getWalletAddress(), priceAda, txHash);
-        if (!validTx) {
-            throw new AppException(ErrorCode.CARDANO_TRANSACTION_NOT_VALID);
-        }
-
         Enrollment enrollment = Enrollment.builder()
                 .enrolledAt(LocalDateTime.now())
                 .completed(false)
                 .price(priceAda)
                 .coursePaymentMethod(method)
                 .orderId(UUID.randomUUID().toString())
-                .status(OrderStatus.SUCCESS)
+                .status(OrderStatus.PENDING)
+                .txHash(txHash)
+                .verificationAttempts(0)
+                .nextCheckAt(LocalDateTime.now())
                 .course(course)
                 .user(user)
                 .build();
-        return enrollmentRepository.save(enrollment);
+
+        try {
+            enrollment = enrollmentRepository.saveAndFlush(enrollment);
+        } catch (DataIntegrityViolationException e) {
+            // Either this txHash was just used, or a concurrent order for the same course won the
+            // one-live-enrollment-per-course index.
+            Enrollment raced = enrollmentRepository.findByTxHash(txHash)
+                    .orElseThrow(() -> new AppException(ErrorCode.ALREADY_JOIN_THIS_COURSE));
+            return toStatusResponse(sameOrder(raced, userId, courseId));
+        }
+
+        enrollmentVerificationWorker.submit(enrollment.getId());
+        return toStatusResponse(enrollment);
+    }
+
+    public EnrollmentStatusResponse getEnrollmentStatus(String orderId) {
+        Enrollment enrollment = enrollmentRepository.findByOrderId(orderId)
+                .orElseThrow(() -> new AppException(ErrorCode.ENROLLMENT_NOT_FOUND));
+        String currentUserId = SecurityContextHolder.getContext().getAuthentication().getName();
+        if (!enrollment.getUser().getId().equals(currentUserId)) {
+            throw new AppException(ErrorCode.UNAUTHORIZED);
+        }
+        return toStatusResponse(enrollment);
+    }
+
+    /**
+     * txHash is unique, so a FAILED order is the only record that transaction can ever have. Resubmitting it
+     * puts the order back in the queue (a chain outage may have outlasted the retry budget) unless the
+     * learner has since started another live order for the course.
+     */
+    private Enrollment retryIfFailed(Enrollment enrollment) {
+        if (enrollment.getStatus() != OrderStatus.FAILED) {
+            return enrollment;
+        }
+        if (enrollmentRepository.existsByUserIdAndCourseIdAndStatusIn(
+                enrollment.getUser().getId(), enrollment.getCourse().getId(), ACTIVE_STATUSES)) {
+            throw new AppException(ErrorCode.ALREADY_JOIN_THIS_COURSE);
+        }
+
+        LocalDateTime now = LocalDateTime.now();
+        try {
+            if (enrollmentRepository.reopen(enrollment.getId(), now) == 0) {
+                return enrollment;
+            }
+        } catch (DataIntegrityViolationException e) {
+            throw new AppException(ErrorCode.ALREADY_JOIN_THIS_COURSE);
+        }
+
+        enrollment.setStatus(OrderStatus.PENDING);
+        enrollment.setVerificationAttempts(0);
+        enrollment.setNextCheckAt(now);
+        enrollmentVerificationWorker.submit(enrollment.getId());
+        return enrollment;
+    }
+
+    private Enrollment sameOrder(Enrollment enrollment, String userId, String courseId) {
+        if (!enrollment.getUser().getId().equals(userId) || !enrollment.getCourse().getId().equals(courseId)) {
+            throw new AppException(ErrorCode.TRANSACTION_ALREADY_USED);
+        }
+        return enrollment;
+    }
+
+    private EnrollmentStatusResponse toStatusResponse(Enrollment enrollment) {
+        return EnrollmentStatusResponse.builder()
+                .orderId(enrollment.getOrderId())
+                .courseId(enrollment.getCourse().getId())
+                .txHash(enrollment.getTxHash())
+                .status(enrollment.getStatus())
+                .verificationAttempts(enrollment.getVerificationAttempts() == null ? 0 : enrollment.getVerificationAttempts())
+                .enrolledAt(enrollment.getEnrolledAt())
+                .build();
     }
 }
@@ -0,0 +1,153 @@
+package com.cardano_lms.server.Service;
+
+import com.cardano_lms.server.Constant.OrderStatus;
+import com.cardano_lms.server.Constant.PaymentCheckResult;
+import com.cardano_lms.server.Repository.EnrollmentPaymentView;
+import com.cardano_lms.server.Repository.EnrollmentRepository;
+import jakarta.annotation.PreDestroy;
+import lombok.AccessLevel;
+import lombok.experimental.FieldDefaults;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Drives PENDING enrollments to SUCCESS or FAILED off the request thread. Each check runs without a
+ * database transaction open, so a slow chain API only ties up a worker thread, never a pooled connection.
+ * The next check time is persisted with every retry; the sweep picks up overdue rows after a restart.
+ * Only answers from the chain count toward {@code max-attempts}: while the chain API is unavailable
+ * (errors, rate limiting, an open circuit) the order stays PENDING and is re-checked at a capped backoff.
+ */
+@Service
+@Slf4j
+@FieldDefaults(level = AccessLevel.PRIVATE, makeFinal = true)
+public class EnrollmentVerificationWorker {
+    EnrollmentRepository enrollmentRepository;
+    PaymentVerificationService paymentVerificationService;
+    ScheduledThreadPoolExecutor scheduler;
+    Set<Long> inFlight = ConcurrentHashMap.newKeySet();
+    Map<Long, Integer> unavailableStreaks = new ConcurrentHashMap<>();
+    int maxAttempts;
+    long baseBackoffMillis;
+    long maxBackoffMillis;
+    long sweepGraceMillis;
+
+    public EnrollmentVerificationWorker(EnrollmentRepository enrollmentRepository,
+                                        PaymentVerificationService paymentVerificationService,
+                                        @Value("${payment.verification.threads:4}") int threads,
+                                        @Value("${payment.verification.max-attempts:30}") int maxAttempts,
+                                        @Value("${payment.verification.base-backoff-ms:5000}") long baseBackoffMillis,
+                                        @Value("${payment.verification.max-backoff-ms:120000}") long maxBackoffMillis,
+                                        @Value("${payment.verification.sweep-grace-ms:30000}") long sweepGraceMillis) {
+        this.enrollmentRepository = enrollmentRepository;
+        this.paymentVerificationService = paymentVerificationService;
+        this.maxAttempts = maxAttempts;
+        this.baseBackoffMillis = baseBackoffMillis;
+        this.maxBackoffMillis = maxBackoffMillis;
+        this.sweepGraceMillis = sweepGraceMillis;
+
+        AtomicInteger threadIndex = new AtomicInteger();
+        this.scheduler = new ScheduledThreadPoolExecutor(threads, runnable -> {
+            Thread thread = new Thread(runnable, "payment-verify-" + threadIndex.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        this.scheduler.setRemoveOnCancelPolicy(true);
+    }
+
+    public void submit(Long enrollmentId) {
+        if (inFlight.add(enrollmentId)) {
+            scheduler.execute(() -> verify(enrollmentId));
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${payment.verification.sweep-interval-ms:60000}")
+    void sweepOverdue() {
+        LocalDateTime dueBefore = LocalDateTime.now().minusNanos(sweepGraceMillis * 1_000_000);
+        enrollmentRepository.findIdsDueForCheck(OrderStatus.PENDING, dueBefore).forEach(this::submit);
+    }
+
+    void verify(Long enrollmentId) {
+        boolean rescheduled = false;
+        try {
+            Optional<EnrollmentPaymentView> found = enrollmentRepository.findPaymentViewById(enrollmentId);
+            if (found.isEmpty() || found.get().getStatus() != OrderStatus.PENDING) {
+                return;
+            }
+            EnrollmentPaymentView payment = found.get();
+
+            int attempts = payment.getVerificationAttempts() == null ? 0 : payment.getVerificationAttempts();
+
+            PaymentCheckResult result;
+            try {
+                result = paymentVerificationService.check(
+                        payment.getReceiverAddress(), payment.getPrice(), payment.getTxHash());
+            } catch (RuntimeException e) {
+                int streak = unavailableStreaks.merge(enrollmentId, 1, Integer::sum);
+                log.warn("Payment check for enrollment {} could not reach the chain, will retry: {}",
+                        enrollmentId, e.getMessage());
+                rescheduled = reschedule(enrollmentId, attempts, backoffMillis(attempts + streak));
+                return;
+            }
+            unavailableStreaks.remove(enrollmentId);
+
+            switch (result) {
+                case VERIFIED -> complete(enrollmentId, OrderStatus.SUCCESS);
+                case REJECTED -> complete(enrollmentId, OrderStatus.FAILED);
+                case PENDING -> rescheduled = retry(enrollmentId, attempts + 1);
+            }
+        } catch (RuntimeException e) {
+            log.error("Verification of enrollment {} aborted; the sweep will pick it up again", enrollmentId, e);
+        } finally {
+            if (!rescheduled) {
+                unavailableStreaks.remove(enrollmentId);
+                inFlight.remove(enrollmentId);
+            }
+        }
+    }
+
+    private boolean retry(Long enrollmentId, int attempt) {
+        if (attempt >= maxAttempts) {
+            log.info("Giving up on enrollment {} after {} payment checks", enrollmentId, attempt);
+            complete(enrollmentId, OrderStatus.FAILED);
+            return false;
+        }
+
+        return reschedule(enrollmentId, attempt, backoffMillis(attempt));
+    }
+
+    private boolean reschedule(Long enrollmentId, int attempts, long delayMillis) {
+        enrollmentRepository.recordAttempt(enrollmentId, attempts,
+                LocalDateTime.now().plusNanos(delayMillis * 1_000_000));
+        scheduler.schedule(() -> verify(enrollmentId), delayMillis, TimeUnit.MILLISECONDS);
+        return true;
+    }
+
+    private long backoffMillis(int attempt) {
+        long exponential = baseBackoffMillis << Math.max(0, Math.min(attempt - 1, 20));
+        long capped = Math.min(exponential, maxBackoffMillis);
+        return capped + ThreadLocalRandom.current().nextLong(capped / 5 + 1);
+    }
+
+    private void complete(Long enrollmentId, OrderStatus status) {
+        if (enrollmentRepository.transition(enrollmentId, OrderStatus.PENDING, status) > 0) {
+            log.info("Enrollment {} payment {}", enrollmentId, status);
+        }
+    }
+
+    @PreDestroy
+    void shutdown() {
+        scheduler.shutdownNow();
+    }
+}
@@ -0,0 +1,294 @@
+package com.cardano_lms.server.Service;
+
+import com.cardano_lms.server.Constant.ExamSessionStatus;
+import com.cardano_lms.server.DTO.Request.SubmittedAnswerRequest;
+import com.cardano_lms.server.DTO.Response.ExamSessionResponse;
+import com.cardano_lms.server.DTO.Response.TestResultResponse;
+import com.cardano_lms.server.Exception.AppException;
+import com.cardano_lms.server.Exception.ErrorCode;
+import com.cardano_lms.server.Repository.ExamSession;
+import com.cardano_lms.server.Repository.ExamSessionStore;
+import com.cardano_lms.server.Util.HashedWheelTimer;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.AccessLevel;
+import lombok.experimental.FieldDefaults;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Service;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Timed exam sessions. Each open session has one entry in a {@link HashedWheelTimer}, so tens of thousands
+ * of deadlines cost a bucket walk per tick rather than a scheduled task each. When a deadline passes the
+ * saved answers are graded as if the learner had submitted them. Open sessions are re-armed from the store
+ * on startup, and a periodic sweep picks up sessions whose timer lived on a node that has gone away.
+ */
+@Service
+@Slf4j
+@FieldDefaults(level = AccessLevel.PRIVATE, makeFinal = true)
+public class ExamSessionService {
+    ExamSessionStore store;
+    GradingService gradingService;
+    ProgressService progressService;
+    ThreadPoolExecutor submitExecutor;
+    HashedWheelTimer timer;
+    Map<String, HashedWheelTimer.Timeout> timeouts = new ConcurrentHashMap<>();
+    long graceMillis;
+    long untimedMaxMillis;
+    int sweepBatchSize;
+    Counter autoSubmitCounter;
+
+    public ExamSessionService(ExamSessionStore store,
+                              GradingService gradingService,
+                              ProgressService progressService,
+                              MeterRegistry meterRegistry,
+                              @Value("${exam.session.tick-ms:100}") long tickMillis,
+                              @Value("${exam.session.wheel-size:512}") int wheelSize,
+                              @Value("${exam.session.submit-threads:4}") int submitThreads,
+                              @Value("${exam.session.grace-ms:5000}") long graceMillis,
+                              @Value("${exam.session.untimed-max-minutes:1440}") long untimedMaxMinutes,
+                              @Value("${exam.session.sweep-batch-size:500}") int sweepBatchSize) {
+        this.store = store;
+        this.gradingService = gradingService;
+        this.progressService = progressService;
+        this.graceMillis = graceMillis;
+        this.untimedMaxMillis = TimeUnit.MINUTES.toMillis(untimedMaxMinutes);
+        this.sweepBatchSize = sweepBatchSize;
+
+        AtomicInteger threadIndex = new AtomicInteger();
+        this.submitExecutor = new ThreadPoolExecutor(submitThreads, submitThreads, 0L, TimeUnit.MILLISECONDS,
+                new LinkedBlockingQueue<>(),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "exam-auto-submit-" + threadIndex.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                });
+        this.timer = new HashedWheelTimer("exam-session-timer", tickMillis, wheelSize, submitExecutor);
+
+        this.autoSubmitCounter = Counter.builder("lms.exam.auto-submitted")
+                .description("Exam sessions graded because their deadline passed")
+                .register(meterRegistry);
+        Gauge.builder("lms.exam.timers", timer, HashedWheelTimer::size)
+                .description("Exam session deadlines armed on this node")
+                .register(meterRegistry);
+        Gauge.builder("lms.exam.auto-submit.queue", submitExecutor, pool -> pool.getQueue().size())
+                .description("Expired exam sessions waiting to be graded")
+                .register(meterRegistry);
+    }
+
+    public ExamSessionResponse start(Long testId, Long enrollmentId) {
+        String userId = currentUserId();
+        progressService.checkTestAccess(userId, enrollmentId, testId);
+
+        int durationMinutes = gradingService.gradingView(testId).getDurationMinutes();
+        long now = System.currentTimeMillis();
+        long duration = durationMinutes > 0 ? TimeUnit.MINUTES.toMillis(durationMinutes) : untimedMaxMillis;
+
+        ExamSession candidate = ExamSession.builder()
+                .id(UUID.randomUUID().toString())
+                .userId(userId)
+                .enrollmentId(enrollmentId)
+                .testId(testId)
+                .status(ExamSessionStatus.OPEN)
+                .startedAt(now)
+                .deadline(now + duration)
+                .savedAt(now)
+                .build();
+
+        ExamSession session = store.createIfAbsent(candidate);
+        if (session.getId().equals(candidate.getId())) {
+            arm(session.getId(), session.getDeadline());
+        }
+        return toResponse(session);
+    }
+
+    public ExamSessionResponse getSession(String sessionId) {
+        return toResponse(ownedSession(sessionId));
+    }
+
+    /**
+     * Replaces the saved answers. Rejected once the deadline has passed or the session has been submitted.
+     */
+    public ExamSessionResponse autosave(String sessionId, List<SubmittedAnswerRequest> answers) {
+        ExamSession session = ownedSession(sessionId);
+        saveAnswers(session, answers);
+        return toResponse(session);
+    }
+
+    /**
+     * Grades the session now. Answers sent with the submit are saved first if the deadline (plus grace)
+     * has not passed; a session that was already graded just returns its result. If the deadline timer or
+     * the sweep is grading it right now the submit is refused with {@code EXAM_GRADING_IN_PROGRESS}.
+     */
+    public ExamSessionResponse submit(String sessionId, List<SubmittedAnswerRequest> answers) {
+        ExamSession session = ownedSession(sessionId);
+        if (session.getStatus() == ExamSessionStatus.SUBMITTED) {
+            return toResponse(session);
+        }
+        if (answers != null && System.currentTimeMillis() <= session.getDeadline() + graceMillis) {
+            saveAnswers(session, answers);
+        }
+
+        boolean graded = finish(sessionId, false);
+        ExamSession latest = store.find(sessionId)
+                .orElseThrow(() -> new AppException(ErrorCode.EXAM_SESSION_NOT_FOUND));
+        if (!graded && latest.getStatus() == ExamSessionStatus.OPEN) {
+            throw new AppException(ErrorCode.EXAM_GRADING_IN_PROGRESS);
+        }
+        return toResponse(latest);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void reloadOpenSessions() {
+        Map<String, Long> open;
+        try {
+            open = store.openDeadlines();
+        } catch (RuntimeException e) {
+            log.warn("Could not reload open exam sessions, the sweep will pick them up: {}", e.getMessage());
+            return;
+        }
+        open.forEach(this::arm);
+        if (!open.isEmpty()) {
+            log.info("Re-armed {} open exam sessions", open.size());
+        }
+    }
+
+    /**
+     * Catches sessions whose timer was lost, for example because the node that armed it stopped.
+     */
+    @Scheduled(fixedDelayString = "${exam.session.sweep-interval-ms:30000}")
+    public void sweepOverdue() {
+        List<String> due;
+        try {
+            due = store.findOpenDueBefore(System.currentTimeMillis() - graceMillis, sweepBatchSize);
+        } catch (RuntimeException e) {
+            log.warn("Exam session sweep skipped: {}", e.getMessage());
+            return;
+        }
+        due.forEach(sessionId -> submitExecutor.execute(() -> finish(sessionId, true)));
+    }
+
+    private void arm(String sessionId, long deadline) {
+        HashedWheelTimer.Timeout timeout = timer.schedule(deadline + graceMillis, () -> finish(sessionId, true));
+        HashedWheelTimer.Timeout previous = timeouts.put(sessionId, timeout);
+        if (previous != null) {
+            previous.cancel();
+        }
+    }
+
+    /**
+     * True only when this call claimed, graded and closed the session.
+     */
+    private boolean finish(String sessionId, boolean automatic) {
+        HashedWheelTimer.Timeout timeout = timeouts.remove(sessionId);
+        if (timeout != null) {
+            timeout.cancel();
+        }
+        if (!store.claim(sessionId)) {
+            return false;
+        }
+
+        ExamSession session = store.find(sessionId).orElse(null);
+        if (session == null) {
+            log.warn("Exam session {} was claimed but has expired from the store", sessionId);
+            return false;
+        }
+
+        TestResultResponse result;
+        try {
+            result = gradingService.grade(session.getUserId(), session.getTestId(),
+                    session.getEnrollmentId(), session.getAnswers());
+        } catch (RuntimeException e) {
+            log.warn("Grading exam session {} failed, will retry: {}", sessionId, e.getMessage());
+            store.release(session);
+            if (!automatic) {
+                throw e;
+            }
+            return false;
+        }
+
+        session.setStatus(ExamSessionStatus.SUBMITTED);
+        session.setSubmittedAt(System.currentTimeMillis());
+        session.setAutoSubmitted(automatic);
+        session.setResult(result);
+        store.saveClosed(session);
+        if (automatic) {
+            autoSubmitCounter.increment();
+        }
+        return true;
+    }
+
+    private void saveAnswers(ExamSession session, List<SubmittedAnswerRequest> answers) {
+        if (answers == null) {
+            throw new AppException(ErrorCode.INVALID_INPUT);
+        }
+        if (session.getStatus() != ExamSessionStatus.OPEN
+                || System.currentTimeMillis() > session.getDeadline() + graceMillis) {
+            throw new AppException(ErrorCode.EXAM_SESSION_CLOSED);
+        }
+        gradingService.answerKey(session.getTestId()).grade(answers);
+
+        session.setAnswers(new ArrayList<>(answers));
+        session.setSavedAt(System.currentTimeMillis());
+        if (!store.saveIfOpen(session)) {
+            throw new AppException(ErrorCode.EXAM_SESSION_CLOSED);
+        }
+    }
+
+    private ExamSession ownedSession(String sessionId) {
+        ExamSession session = store.find(sessionId)
+                .orElseThrow(() -> new AppException(ErrorCode.EXAM_SESSION_NOT_FOUND));
+        if (!currentUserId().equals(session.getUserId())) {
+            throw new AppException(ErrorCode.UNAUTHORIZED);
+        }
+        return session;
+    }
+
+    private ExamSessionResponse toResponse(ExamSession session) {
+        long remaining = session.getStatus() == ExamSessionStatus.OPEN
+                ? Math.max(0, session.getDeadline() - System.currentTimeMillis()) / 1000
+                : 0;
+        return ExamSessionResponse.builder()
+                .sessionId(session.getId())
+                .testId(session.getTestId())
+                .enrollmentId(session.getEnrollmentId())
+                .status(session.getStatus())
+                .startedAt(toLocalDateTime(session.getStartedAt()))
+                .deadline(toLocalDateTime(session.getDeadline()))
+                .remainingSeconds(remaining)
+                .autoSubmitted(session.isAutoSubmitted())
+                .answers(session.getAnswers())
+                .result(session.getResult())
+                .build();
+    }
+
+    private LocalDateTime toLocalDateTime(long epochMillis) {
+        return LocalDateTime.ofInstant(Instant.ofEpochMilli(epochMillis), ZoneId.systemDefault());
+    }
+
+    private String currentUserId() {
+        return SecurityContextHolder.getContext().getAuthentication().getName();
+    }
+
+    @PreDestroy
+    void shutdown() {
+        timer.close();
+        submitExecutor.shutdown();
+    }
+}
@@ -0,0 +1,161 @@
+package com.cardano_lms.server.Service;
+
+import com.cardano_lms.server.Constant.ExportDataset;
+import com.cardano_lms.server.Constant.ExportFormat;
+import com.cardano_lms.server.Repository.CourseRepository;
+import com.cardano_lms.server.Repository.EnrollmentRepository;
+import com.cardano_lms.server.Repository.UserRepository;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.persistence.EntityManager;
+import lombok.AccessLevel;
+import lombok.experimental.FieldDefaults;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.*;
+import java.nio.charset.StandardCharsets;
+import java.util.Iterator;
+import java.util.List;
+import java.util.stream.Stream;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Streams whole tables as NDJSON or CSV. Rows are scalar projections read through a forward-only cursor
+ * inside a read-only transaction, so memory stays flat however many rows the table holds.
+ */
+@Service
+@Slf4j
+@FieldDefaults(level = AccessLevel.PRIVATE, makeFinal = true)
+public class ExportService {
+    static final int BUFFER_SIZE = 64 * 1024;
+
+    CourseRepository courseRepository;
+    EnrollmentRepository enrollmentRepository;
+    UserRepository userRepository;
+    ObjectMapper objectMapper;
+    EntityManager entityManager;
+    TransactionTemplate readOnlyTransaction;
+    int clearInterval;
+
+    public ExportService(CourseRepository courseRepository,
+                         EnrollmentRepository enrollmentRepository,
+                         UserRepository userRepository,
+                         ObjectMapper objectMapper,
+                         EntityManager entityManager,
+                         PlatformTransactionManager transactionManager,
+                         @Value("${export.clear-interval:1000}") int clearInterval) {
+        this.courseRepository = courseRepository;
+        this.enrollmentRepository = enrollmentRepository;
+        this.userRepository = userRepository;
+        this.objectMapper = objectMapper;
+        this.entityManager = entityManager;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+        this.clearInterval = Math.max(1, clearInterval);
+    }
+
+    @PreAuthorize("hasRole('ADMIN')")
+    public StreamingResponseBody export(ExportDataset dataset, ExportFormat format, boolean gzip) {
+        return outputStream -> readOnlyTransaction.executeWithoutResult(status -> {
+            try {
+                write(dataset, format, gzip, outputStream);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        });
+    }
+
+    private void write(ExportDataset dataset, ExportFormat format, boolean gzip, OutputStream target) throws IOException {
+        long start = System.nanoTime();
+        GZIPOutputStream compressed = gzip ? new GZIPOutputStream(target, BUFFER_SIZE) : null;
+        OutputStream out = new BufferedOutputStream(compressed != null ? compressed : target, BUFFER_SIZE);
+
+        long count;
+        try (Stream<Object[]> rows = rows(dataset)) {
+            count = format == ExportFormat.CSV
+                    ? writeCsv(dataset.getColumns(), rows.iterator(), out)
+                    : writeNdjson(dataset.getColumns(), rows.iterator(), out);
+        }
+
+        out.flush();
+        if (compressed != null) {
+            compressed.finish();
+        }
+        log.info("Exported {} {} rows as {} in {} ms", count, dataset, format, (System.nanoTime() - start) / 1_000_000);
+    }
+
+    private Stream<Object[]> rows(ExportDataset dataset) {
+        return switch (dataset) {
+            case COURSES -> courseRepository.streamExportRows();
+            case ENROLLMENTS -> enrollmentRepository.streamExportRows();
+            case USERS -> userRepository.streamExportRows();
+        };
+    }
+
+    private long writeNdjson(List<String> columns, Iterator<Object[]> rows, OutputStream out) throws IOException {
+        long count = 0;
+        try (JsonGenerator generator = objectMapper.getFactory().createGenerator(out)) {
+            generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+            while (rows.hasNext()) {
+                Object[] row = rows.next();
+                generator.writeStartObject();
+                for (int i = 0; i < columns.size(); i++) {
+                    generator.writeFieldName(columns.get(i));
+                    generator.writeObject(row[i]);
+                }
+                generator.writeEndObject();
+                generator.writeRaw('\n');
+                count = rowWritten(count);
+            }
+        }
+        return count;
+    }
+
+    private long writeCsv(List<String> columns, Iterator<Object[]> rows, OutputStream out) throws IOException {
+        long count = 0;
+        Writer writer = new OutputStreamWriter(out, StandardCharsets.UTF_8);
+        writer.write(String.join(",", columns));
+        writer.write("\r\n");
+        while (rows.hasNext()) {
+            Object[] row = rows.next();
+            for (int i = 0; i < row.length; i++) {
+                if (i > 0) {
+                    writer.write(',');
+                }
+                writeCsvValue(writer, row[i]);
+            }
+            writer.write("\r\n");
+            count = rowWritten(count);
+        }
+        writer.flush();
+        return count;
+    }
+
+    private void writeCsvValue(Writer writer, Object value) throws IOException {
+        if (value == null) {
+            return;
+        }
+        String text = value instanceof Enum<?> constant ? constant.name() : value.toString();
+        if (text.indexOf(',') < 0 && text.indexOf('"') < 0 && text.indexOf('\n') < 0 && text.indexOf('\r') < 0) {
+            writer.write(text);
+            return;
+        }
+        writer.write('"');
+        writer.write(text.replace("\"", "\"\""));
+        writer.write('"');
+    }
+
+    private long rowWritten(long count) {
+        long written = count + 1;
+        if (written % clearInterval == 0) {
+            entityManager.clear();
+        }
+        return written;
+    }
+}
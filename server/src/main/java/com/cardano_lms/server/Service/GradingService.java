@@ -0,0 +1,124 @@
+package com.cardano_lms.server.Service;
+
+import com.cardano_lms.server.DTO.Request.SubmittedAnswerRequest;
+import com.cardano_lms.server.DTO.Request.TestSubmissionRequest;
+import com.cardano_lms.server.DTO.Response.TestResultResponse;
+import com.cardano_lms.server.Exception.AppException;
+import com.cardano_lms.server.Exception.ErrorCode;
+import com.cardano_lms.server.Repository.QuestionRepository;
+import com.cardano_lms.server.Repository.TestGradingView;
+import com.cardano_lms.server.Repository.TestRepository;
+import com.cardano_lms.server.Repository.UserAnswerBatchRepository;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.AccessLevel;
+import lombok.experimental.FieldDefaults;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * Grades test submissions against compiled {@link AnswerKey}s. Keys are cached per test and course version,
+ * and the version lookup itself is cached briefly, so an exam-start burst costs one key compilation and
+ * then only CPU work plus a single answer batch per submission.
+ */
+@Service
+@Slf4j
+@FieldDefaults(level = AccessLevel.PRIVATE, makeFinal = true)
+public class GradingService {
+    TestRepository testRepository;
+    QuestionRepository questionRepository;
+    UserAnswerBatchRepository userAnswerBatchRepository;
+    ProgressService progressService;
+    Cache<Long, TestGradingView> versions;
+    Cache<String, AnswerKey> answerKeys;
+    Timer gradeTimer;
+
+    public GradingService(TestRepository testRepository,
+                          QuestionRepository questionRepository,
+                          UserAnswerBatchRepository userAnswerBatchRepository,
+                          ProgressService progressService,
+                          MeterRegistry meterRegistry,
+                          @Value("${grading.answer-key.max-size:5000}") long maxKeys,
+                          @Value("${grading.version-ttl-ms:5000}") long versionTtlMillis) {
+        this.testRepository = testRepository;
+        this.questionRepository = questionRepository;
+        this.userAnswerBatchRepository = userAnswerBatchRepository;
+        this.progressService = progressService;
+        this.versions = Caffeine.newBuilder()
+                .maximumSize(maxKeys)
+                .expireAfterWrite(Duration.ofMillis(versionTtlMillis))
+                .build();
+        this.answerKeys = Caffeine.newBuilder()
+                .maximumSize(maxKeys)
+                .expireAfterAccess(Duration.ofHours(1))
+                .build();
+        this.gradeTimer = Timer.builder("lms.grading.grade")
+                .description("Time spent grading a submission against its answer key")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Grades a direct submission. Timed tests must go through an exam session so the deadline is enforced.
+     */
+    public TestResultResponse submit(Long testId, TestSubmissionRequest request) {
+        if (request == null || request.getAnswers() == null) {
+            throw new AppException(ErrorCode.INVALID_INPUT);
+        }
+        if (gradingView(testId).getDurationMinutes() > 0) {
+            throw new AppException(ErrorCode.EXAM_SESSION_REQUIRED);
+        }
+        return grade(currentUserId(), testId, request.getEnrollmentId(), request.getAnswers());
+    }
+
+    public TestResultResponse grade(String userId, Long testId, Long enrollmentId,
+                                    List<SubmittedAnswerRequest> answers) {
+        progressService.checkTestAccess(userId, enrollmentId, testId);
+
+        AnswerKey key = answerKey(testId);
+        AnswerKey.Grade grade = gradeTimer.record(() -> key.grade(answers));
+
+        userAnswerBatchRepository.replace(userId, testId, grade.getQuestionIds(), grade.getAnswerIds());
+        progressService.recordTestResult(userId, enrollmentId, testId, grade.getPercent(), grade.isPassed());
+
+        return TestResultResponse.builder()
+                .testId(testId)
+                .score(grade.getScore())
+                .maxScore(key.getMaxScore())
+                .percent(grade.getPercent())
+                .passScore(key.getPassScore())
+                .passed(grade.isPassed())
+                .correctQuestions(grade.getCorrectQuestions())
+                .totalQuestions(key.questionCount())
+                .build();
+    }
+
+    TestGradingView gradingView(Long testId) {
+        TestGradingView test = versions.get(testId, id -> testRepository.findGradingViewById(id).orElse(null));
+        if (test == null) {
+            throw new AppException(ErrorCode.TEST_NOT_FOUND);
+        }
+        return test;
+    }
+
+    AnswerKey answerKey(Long testId) {
+        TestGradingView test = gradingView(testId);
+        String version = String.valueOf(test.getCourseUpdatedAt());
+        return answerKeys.get(testId + ":" + version, k -> {
+            AnswerKey compiled = AnswerKey.compile(testId, version, test.getPassScore(),
+                    questionRepository.findAnswerKeyRows(testId));
+            log.debug("Compiled answer key for test {} ({} questions)", testId, compiled.questionCount());
+            return compiled;
+        });
+    }
+
+    private String currentUserId() {
+        return SecurityContextHolder.getContext().getAuthentication().getName();
+    }
+}
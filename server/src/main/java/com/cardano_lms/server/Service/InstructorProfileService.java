@@ -9,6 +9,7 @@ import com.cardano_lms.server.Exception.AppException;
 import com.cardano_lms.server.Exception.ErrorCode;
 import com.cardano_lms.server.Mapper.InstructorProfileMapper;
 import com.cardano_lms.server.Repository.InstructorProfileRepository;
+import com.cardano_lms.server.Repository.InstructorProfileVersionView;
 import com.cardano_lms.server.Repository.SocialLinkRepository;
 import jakarta.transaction.Transactional;
 import lombok.AccessLevel;
@@ -18,6 +19,7 @@ import lombok.extern.slf4j.Slf4j;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.stereotype.Service;
 
+import java.time.LocalDateTime;
 import java.util.*;
 import java.util.function.Function;
 import java.util.stream.Collectors;
@@ -42,6 +44,17 @@ public class InstructorProfileService {
         return response;
     }
 
+    @PreAuthorize("hasRole('INSTRUCTOR')")
+    public InstructorProfileVersionView getProfileVersionByUserId(String userId) {
+        return instructorRepository.findVersionByUserId(userId)
+                .orElseThrow(() -> new AppException(ErrorCode.USER_NOT_EXISTED));
+    }
+
+    public InstructorProfileVersionView getProfileVersion(Long id) {
+        return instructorRepository.findVersionById(id)
+                .orElseThrow(() -> new AppException(ErrorCode.USER_NOT_EXISTED));
+    }
+
     @Transactional
     @PreAuthorize("hasRole('INSTRUCTOR')")
     public InstructorProfileResponse getProfileByUserId(String userId) {
@@ -72,6 +85,7 @@ public class InstructorProfileService {
                 request.getName(), request.getBio(), request.getExpertise());
 
         instructorProfileMapper.updateProfileFromRequest(request, profile);
+        profile.setUpdatedAt(LocalDateTime.now());
 
         if (request.getSocialLinks() != null) {
             syncSocialLinks(profile, request.getSocialLinks());
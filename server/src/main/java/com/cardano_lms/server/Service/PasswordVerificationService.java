@@ -0,0 +1,127 @@
+package com.cardano_lms.server.Service;
+
+import com.cardano_lms.server.Entity.User;
+import com.cardano_lms.server.Exception.AppException;
+import com.cardano_lms.server.Exception.ErrorCode;
+import com.cardano_lms.server.Repository.UserRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import lombok.AccessLevel;
+import lombok.experimental.FieldDefaults;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Service;
+
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Runs BCrypt checks on a CPU-sized pool with a bounded queue instead of on servlet threads.
+ * When the queue is full the login is rejected with 429 rather than piling up more hashing work.
+ */
+@Service
+@Slf4j
+@FieldDefaults(level = AccessLevel.PRIVATE, makeFinal = true)
+public class PasswordVerificationService {
+    PasswordEncoder passwordEncoder;
+    UserRepository userRepository;
+    ThreadPoolExecutor executor;
+    long timeoutMillis;
+    Timer verifyTimer;
+    Counter rejectedCounter;
+    Counter rehashCounter;
+
+    public PasswordVerificationService(PasswordEncoder passwordEncoder,
+                                       UserRepository userRepository,
+                                       MeterRegistry meterRegistry,
+                                       @Value("${security.password.threads:0}") int threads,
+                                       @Value("${security.password.queue-capacity:200}") int queueCapacity,
+                                       @Value("${security.password.timeout-ms:5000}") long timeoutMillis) {
+        this.passwordEncoder = passwordEncoder;
+        this.userRepository = userRepository;
+        this.timeoutMillis = timeoutMillis;
+
+        int poolSize = threads > 0 ? threads : Runtime.getRuntime().availableProcessors();
+        AtomicInteger threadIndex = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(poolSize, poolSize, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "password-verify-" + threadIndex.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                new ThreadPoolExecutor.AbortPolicy());
+
+        this.verifyTimer = Timer.builder("lms.password.verify")
+                .description("Time spent hashing login passwords, excluding queueing")
+                .register(meterRegistry);
+        this.rejectedCounter = Counter.builder("lms.password.rejected")
+                .description("Logins rejected because the password pool was saturated")
+                .register(meterRegistry);
+        this.rehashCounter = Counter.builder("lms.password.rehashed")
+                .description("Stored hashes upgraded to the configured BCrypt cost on login")
+                .register(meterRegistry);
+        Gauge.builder("lms.password.queue.depth", executor, pool -> pool.getQueue().size())
+                .description("Password checks waiting for a worker")
+                .register(meterRegistry);
+        Gauge.builder("lms.password.active", executor, ThreadPoolExecutor::getActiveCount)
+                .description("Password checks currently hashing")
+                .register(meterRegistry);
+    }
+
+    public boolean verify(User user, String rawPassword) {
+        String encoded = user.getPassword();
+        if (encoded == null) {
+            return false;
+        }
+
+        Future<Boolean> result;
+        try {
+            result = executor.submit(() -> verifyTimer.record(() -> passwordEncoder.matches(rawPassword, encoded)));
+        } catch (RejectedExecutionException e) {
+            rejectedCounter.increment();
+            throw new AppException(ErrorCode.LOGIN_THROTTLED);
+        }
+
+        boolean matched;
+        try {
+            matched = Boolean.TRUE.equals(result.get(timeoutMillis, TimeUnit.MILLISECONDS));
+        } catch (TimeoutException e) {
+            result.cancel(true);
+            rejectedCounter.increment();
+            throw new AppException(ErrorCode.LOGIN_THROTTLED);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new AppException(ErrorCode.LOGIN_THROTTLED);
+        } catch (ExecutionException e) {
+            log.error("Password verification failed", e.getCause());
+            return false;
+        }
+
+        if (matched && passwordEncoder.upgradeEncoding(encoded)) {
+            rehash(user.getId(), rawPassword);
+        }
+        return matched;
+    }
+
+    private void rehash(String userId, String rawPassword) {
+        try {
+            executor.execute(() -> userRepository.findById(userId).ifPresent(user -> {
+                user.setPassword(passwordEncoder.encode(rawPassword));
+                userRepository.save(user);
+                rehashCounter.increment();
+            }));
+        } catch (RejectedExecutionException e) {
+            log.debug("Skipping password rehash for {} while the pool is saturated", userId);
+        }
+    }
+
+    @PreDestroy
+    void shutdown() {
+        executor.shutdown();
+    }
+}
@@ -0,0 +1,61 @@
+package com.cardano_lms.server.Service;
+
+import com.cardano_lms.server.Constant.PaymentCheckResult;
+import lombok.AccessLevel;
+import lombok.experimental.FieldDefaults;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.util.Optional;
+
+@Service
+@Slf4j
+@FieldDefaults(level = AccessLevel.PRIVATE, makeFinal = true)
+public class PaymentVerificationService {
+    TransactionCacheService transactionCacheService;
+    int requiredConfirmations;
+
+    public PaymentVerificationService(TransactionCacheService transactionCacheService,
+                                      @Value("${payment.verification.required-confirmations:3}") int requiredConfirmations) {
+        this.transactionCacheService = transactionCacheService;
+        this.requiredConfirmations = requiredConfirmations;
+    }
+
+    /**
+     * PENDING means "ask again later": the transaction is not on chain yet or not buried deep enough.
+     * REJECTED is final: the transaction exists but does not pay the expected receiver enough.
+     */
+    public PaymentCheckResult check(String expectedReceiver, double expectedAmountAda, String txHash) {
+        Optional<TransactionCacheService.ChainTransaction> transaction = transactionCacheService.getTransaction(txHash);
+        if (transaction.isEmpty()) {
+            return PaymentCheckResult.PENDING;
+        }
+        if (!transaction.get().pays(expectedReceiver, toLovelace(expectedAmountAda))) {
+            return PaymentCheckResult.REJECTED;
+        }
+
+        long tipHeight = transactionCacheService.getTipHeight();
+        long confirmations = tipHeight < transaction.get().getBlockHeight()
+                ? 0
+                : tipHeight - transaction.get().getBlockHeight() + 1;
+        return confirmations >= requiredConfirmations
+                ? PaymentCheckResult.VERIFIED
+                : PaymentCheckResult.PENDING;
+    }
+
+    public boolean matchesPayment(String expectedReceiver, double expectedAmountAda, String txHash) {
+        try {
+            return transactionCacheService.getTransaction(txHash)
+                    .map(transaction -> transaction.pays(expectedReceiver, toLovelace(expectedAmountAda)))
+                    .orElse(false);
+        } catch (Exception e) {
+            log.warn("Payment lookup for {} failed: {}", txHash, e.getMessage());
+            return false;
+        }
+    }
+
+    private static long toLovelace(double ada) {
+        return (long) (ada * 1_000_000);
+    }
+}
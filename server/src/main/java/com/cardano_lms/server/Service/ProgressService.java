@@ -0,0 +1,204 @@
+package com.cardano_lms.server.Service;
+
+import com.cardano_lms.server.Constant.CourseContentType;
+import com.cardano_lms.server.Constant.OrderStatus;
+import com.cardano_lms.server.DTO.Request.ProgressEventRequest;
+import com.cardano_lms.server.DTO.Response.EnrollmentProgressResponse;
+import com.cardano_lms.server.Exception.AppException;
+import com.cardano_lms.server.Exception.ErrorCode;
+import com.cardano_lms.server.Repository.*;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import lombok.AccessLevel;
+import lombok.experimental.FieldDefaults;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+@Service
+@Slf4j
+@FieldDefaults(level = AccessLevel.PRIVATE, makeFinal = true)
+public class ProgressService {
+    EnrollmentRepository enrollmentRepository;
+    LectureRepository lectureRepository;
+    TestRepository testRepository;
+    ProgressWriteBehindService progressWriteBehindService;
+    Cache<Long, EnrollmentAccessView> enrollmentAccess;
+    Cache<String, CourseContent> courseContent;
+    int maxEventsPerRequest;
+
+    public ProgressService(EnrollmentRepository enrollmentRepository,
+                           LectureRepository lectureRepository,
+                           TestRepository testRepository,
+                           ProgressWriteBehindService progressWriteBehindService,
+                           @Value("${progress.max-events-per-request:500}") int maxEventsPerRequest,
+                           @Value("${progress.lookup-cache-ttl-seconds:300}") long lookupCacheTtlSeconds) {
+        this.enrollmentRepository = enrollmentRepository;
+        this.lectureRepository = lectureRepository;
+        this.testRepository = testRepository;
+        this.progressWriteBehindService = progressWriteBehindService;
+        this.maxEventsPerRequest = maxEventsPerRequest;
+        this.enrollmentAccess = Caffeine.newBuilder()
+                .maximumSize(100_000)
+                .expireAfterWrite(Duration.ofSeconds(lookupCacheTtlSeconds))
+                .build();
+        this.courseContent = Caffeine.newBuilder()
+                .maximumSize(5_000)
+                .expireAfterWrite(Duration.ofSeconds(lookupCacheTtlSeconds))
+                .build();
+    }
+
+    /**
+     * Validates and buffers a batch of player events; they reach the database on the next write-behind flush.
+     */
+    public int recordEvents(List<ProgressEventRequest> events) {
+        if (events == null || events.isEmpty() || events.size() > maxEventsPerRequest) {
+            throw new AppException(ErrorCode.INVALID_INPUT);
+        }
+
+        String userId = currentUserId();
+        LocalDateTime now = LocalDateTime.now();
+        List<ProgressDelta> deltas = new ArrayList<>(events.size());
+        for (ProgressEventRequest event : events) {
+            EnrollmentAccessView access = paidEnrollmentOf(event.getEnrollmentId(), userId);
+            deltas.add(toDelta(event, courseContent(access.getCourseId()), now));
+        }
+
+        progressWriteBehindService.record(deltas);
+        return deltas.size();
+    }
+
+    /**
+     * Fails unless the user holds a paid enrollment whose course contains the test.
+     */
+    public void checkTestAccess(String userId, Long enrollmentId, Long testId) {
+        testCourseContent(userId, enrollmentId, testId);
+    }
+
+    /**
+     * Records a server-graded test result; a pass completes the test item for the enrollment.
+     */
+    public void recordTestResult(String userId, Long enrollmentId, Long testId, int score, boolean passed) {
+        CourseContent content = testCourseContent(userId, enrollmentId, testId);
+        LocalDateTime now = LocalDateTime.now();
+        progressWriteBehindService.record(List.of(new ProgressDelta(
+                enrollmentId,
+                CourseContentType.TEST,
+                testId,
+                0,
+                score,
+                passed,
+                passed ? now.toLocalDate() : null,
+                now,
+                content.size())));
+    }
+
+    /**
+     * Reads the counter maintained by the flusher, so the cost is one row lookup whatever the course size.
+     */
+    public EnrollmentProgressResponse getProgress(Long enrollmentId) {
+        EnrollmentAccessView access = enrollmentRepository.findAccessById(enrollmentId)
+                .orElseThrow(() -> new AppException(ErrorCode.ENROLLMENT_NOT_FOUND));
+        if (!currentUserId().equals(access.getUserId())) {
+            throw new AppException(ErrorCode.UNAUTHORIZED);
+        }
+
+        int totalItems = courseContent(access.getCourseId()).size();
+        int completedItems = access.getCompletedItems() == null ? 0 : access.getCompletedItems();
+        double percent = totalItems == 0 ? 0 : Math.min(100.0, completedItems * 100.0 / totalItems);
+
+        return EnrollmentProgressResponse.builder()
+                .enrollmentId(access.getId())
+                .courseId(access.getCourseId())
+                .completedItems(completedItems)
+                .totalItems(totalItems)
+                .completionPercent(Math.round(percent * 10) / 10.0)
+                .completed(Boolean.TRUE.equals(access.getCompleted()))
+                .build();
+    }
+
+    private EnrollmentAccessView paidEnrollmentOf(Long enrollmentId, String userId) {
+        if (enrollmentId == null) {
+            throw new AppException(ErrorCode.INVALID_INPUT);
+        }
+        EnrollmentAccessView access = enrollmentAccess.get(enrollmentId,
+                id -> enrollmentRepository.findAccessById(id).orElse(null));
+        if (access == null) {
+            throw new AppException(ErrorCode.ENROLLMENT_NOT_FOUND);
+        }
+        if (access.getStatus() != OrderStatus.SUCCESS) {
+            // Payment may still be confirming; look again next time instead of caching the pending state.
+            enrollmentAccess.invalidate(enrollmentId);
+            throw new AppException(ErrorCode.UNAUTHORIZED);
+        }
+        if (!userId.equals(access.getUserId())) {
+            throw new AppException(ErrorCode.UNAUTHORIZED);
+        }
+        return access;
+    }
+
+    private CourseContent testCourseContent(String userId, Long enrollmentId, Long testId) {
+        EnrollmentAccessView access = paidEnrollmentOf(enrollmentId, userId);
+        CourseContent content = courseContent(access.getCourseId());
+        if (testId == null || !content.testIds.contains(testId)) {
+            throw new AppException(ErrorCode.INVALID_INPUT);
+        }
+        return content;
+    }
+
+    private ProgressDelta toDelta(ProgressEventRequest event, CourseContent content, LocalDateTime now) {
+        boolean lecture = event.getLectureId() != null;
+        if (lecture == (event.getTestId() != null)) {
+            throw new AppException(ErrorCode.INVALID_INPUT);
+        }
+        long contentId = lecture ? event.getLectureId() : event.getTestId();
+        if (!(lecture ? content.lectureIds : content.testIds).contains(contentId)) {
+            throw new AppException(ErrorCode.INVALID_INPUT);
+        }
+
+        // Test scores and completion come only from the grader; player events may just move the position.
+        boolean completed = lecture && event.isCompleted();
+        return new ProgressDelta(
+                event.getEnrollmentId(),
+                lecture ? CourseContentType.LECTURE : CourseContentType.TEST,
+                contentId,
+                Math.max(0, event.getPositionSeconds()),
+                0,
+                completed,
+                completed ? now.toLocalDate() : null,
+                now,
+                content.size());
+    }
+
+    private CourseContent courseContent(String courseId) {
+        return courseContent.get(courseId, id -> new CourseContent(
+                new HashSet<>(lectureRepository.findIdsByCourseId(id)),
+                new HashSet<>(testRepository.findIdsByCourseId(id))));
+    }
+
+    private String currentUserId() {
+        return SecurityContextHolder.getContext().getAuthentication().getName();
+    }
+
+    private static class CourseContent {
+        final Set<Long> lectureIds;
+        final Set<Long> testIds;
+
+        CourseContent(Set<Long> lectureIds, Set<Long> testIds) {
+            this.lectureIds = lectureIds;
+            this.testIds = testIds;
+        }
+
+        int size() {
+            return lectureIds.size() + testIds.size();
+        }
+    }
+}
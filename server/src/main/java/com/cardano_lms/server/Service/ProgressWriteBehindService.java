@@ -0,0 +1,138 @@
+package com.cardano_lms.server.Service;
+
+import com.cardano_lms.server.Repository.ProgressBatchRepository;
+import com.cardano_lms.server.Repository.ProgressDelta;
+import com.cardano_lms.server.Util.AppendOnlyJournal;
+import jakarta.annotation.PreDestroy;
+import lombok.AccessLevel;
+import lombok.experimental.FieldDefaults;
+import lombok.experimental.NonFinal;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Path;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Write-behind buffer for progress events. Each accepted batch is journaled to local disk before it is
+ * acknowledged, then folded into an in-memory map keyed by (enrollment, item) so a burst of heartbeats
+ * becomes one row update. A timer flushes the map through {@link ProgressBatchRepository}; journal segments
+ * are deleted only after the flush commits, and anything left over is replayed on the next start. Request
+ * threads hold the buffer lock across the journal write; it is a {@link ReentrantLock} for the reason given on
+ * {@link AppendOnlyJournal}.
+ */
+@Service
+@Slf4j
+@FieldDefaults(level = AccessLevel.PRIVATE, makeFinal = true)
+public class ProgressWriteBehindService {
+    ProgressBatchRepository progressBatchRepository;
+    AppendOnlyJournal journal;
+    ReentrantLock lock = new ReentrantLock();
+
+    @NonFinal
+    Map<String, ProgressDelta> pending = new HashMap<>();
+
+    public ProgressWriteBehindService(ProgressBatchRepository progressBatchRepository,
+                                      @Value("${progress.journal.dir:data/progress-journal}") String journalDirectory,
+                                      @Value("${progress.journal.fsync:false}") boolean fsync) throws IOException {
+        this.progressBatchRepository = progressBatchRepository;
+        this.journal = new AppendOnlyJournal(Path.of(journalDirectory), fsync);
+        replay();
+    }
+
+    public void record(List<ProgressDelta> deltas) {
+        List<String> lines = deltas.stream().map(ProgressDelta::toLine).toList();
+        lock.lock();
+        try {
+            journal.append(lines);
+            deltas.forEach(this::mergePending);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Progress journal write failed", e);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public int pendingCount() {
+        lock.lock();
+        try {
+            return pending.size();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${progress.flush-interval-ms:2000}")
+    public void flush() {
+        List<Path> sealed;
+        Map<String, ProgressDelta> batch;
+        lock.lock();
+        try {
+            if (pending.isEmpty()) {
+                return;
+            }
+            sealed = journal.seal();
+            batch = pending;
+            pending = new HashMap<>();
+        } catch (IOException e) {
+            log.error("Could not roll the progress journal, keeping {} rows pending", pending.size(), e);
+            return;
+        } finally {
+            lock.unlock();
+        }
+
+        try {
+            progressBatchRepository.upsert(batch.values());
+        } catch (RuntimeException e) {
+            log.warn("Progress flush of {} rows failed, will retry: {}", batch.size(), e.getMessage());
+            lock.lock();
+            try {
+                batch.values().forEach(this::mergePending);
+            } finally {
+                lock.unlock();
+            }
+            return;
+        }
+
+        try {
+            journal.delete(sealed);
+        } catch (IOException e) {
+            log.warn("Flushed progress journal segments could not be deleted and will be replayed", e);
+        }
+    }
+
+    private void replay() throws IOException {
+        int replayed = 0;
+        for (String line : journal.read(journal.segments())) {
+            try {
+                mergePending(ProgressDelta.fromLine(line));
+                replayed++;
+            } catch (RuntimeException e) {
+                log.warn("Skipping unreadable progress journal line: {}", line);
+            }
+        }
+        if (replayed > 0) {
+            log.info("Replayed {} progress events from the journal", replayed);
+        }
+    }
+
+    private void mergePending(ProgressDelta delta) {
+        pending.merge(delta.key(), delta, (existing, incoming) -> {
+            existing.merge(incoming);
+            return existing;
+        });
+    }
+
+    @PreDestroy
+    void shutdown() throws IOException {
+        flush();
+        journal.close();
+    }
+}
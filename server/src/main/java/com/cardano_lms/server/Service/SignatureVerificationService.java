@@ -0,0 +1,189 @@
+package com.cardano_lms.server.Service;
+
+import com.cardano_lms.server.Constant.SignatureCheckResult;
+import com.cardano_lms.server.Exception.AppException;
+import com.cardano_lms.server.Exception.ErrorCode;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import lombok.AccessLevel;
+import lombok.experimental.FieldDefaults;
+import lombok.experimental.NonFinal;
+import lombok.extern.slf4j.Slf4j;
+import org.cardanofoundation.cip30.AddressFormat;
+import org.cardanofoundation.cip30.CIP30Verifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.*;
+
+import static org.cardanofoundation.cip30.MessageFormat.TEXT;
+
+/**
+ * Verifies CIP-30 (COSE_Sign1 / Ed25519) wallet signatures on a CPU-sized set of workers instead of on
+ * servlet threads. Workers drain the queue in micro-batches, so a login burst costs one wake-up per batch
+ * rather than per signature, and a full queue turns into a 429 instead of unbounded latency. A worker takes
+ * only its share of what is queued, so a burst is spread over every core instead of landing on whichever
+ * worker woke first.
+ */
+@Service
+@Slf4j
+@FieldDefaults(level = AccessLevel.PRIVATE, makeFinal = true)
+public class SignatureVerificationService {
+    BlockingQueue<Job> queue;
+    List<Thread> workers = new ArrayList<>();
+    int batchSize;
+    int workerCount;
+    long timeoutMillis;
+    Timer queueTimer;
+    Map<SignatureCheckResult, Timer> verifyTimers = new EnumMap<>(SignatureCheckResult.class);
+    Counter rejectedCounter;
+    DistributionSummary batchSizes;
+
+    @NonFinal
+    volatile boolean running = true;
+
+    public SignatureVerificationService(MeterRegistry meterRegistry,
+                                        @Value("${wallet.signature.threads:0}") int threads,
+                                        @Value("${wallet.signature.queue-capacity:1000}") int queueCapacity,
+                                        @Value("${wallet.signature.batch-size:32}") int batchSize,
+                                        @Value("${wallet.signature.timeout-ms:5000}") long timeoutMillis) {
+        this.queue = new ArrayBlockingQueue<>(queueCapacity);
+        this.batchSize = Math.max(1, batchSize);
+        this.timeoutMillis = timeoutMillis;
+
+        this.queueTimer = Timer.builder("lms.wallet.signature.queued")
+                .description("Time a wallet signature waited for a verification worker")
+                .register(meterRegistry);
+        for (SignatureCheckResult result : SignatureCheckResult.values()) {
+            verifyTimers.put(result, Timer.builder("lms.wallet.signature.verify")
+                    .description("Time spent parsing and verifying a wallet signature, by result")
+                    .tag("result", result.name().toLowerCase())
+                    .register(meterRegistry));
+        }
+        this.rejectedCounter = Counter.builder("lms.wallet.signature.rejected")
+                .description("Wallet logins rejected because the verification queue was full or slow")
+                .register(meterRegistry);
+        this.batchSizes = DistributionSummary.builder("lms.wallet.signature.batch")
+                .description("Wallet signatures a worker verified per wake-up")
+                .register(meterRegistry);
+        Gauge.builder("lms.wallet.signature.queue.depth", queue, BlockingQueue::size)
+                .description("Wallet signatures waiting for a worker")
+                .register(meterRegistry);
+
+        this.workerCount = threads > 0 ? threads : Runtime.getRuntime().availableProcessors();
+        for (int i = 0; i < workerCount; i++) {
+            Thread worker = new Thread(this::work, "signature-verify-" + (i + 1));
+            worker.setDaemon(true);
+            worker.start();
+            workers.add(worker);
+        }
+    }
+
+    /**
+     * Checks that {@code signature} is a valid CIP-30 signature by {@code key} over exactly
+     * {@code expectedMessage}, made with {@code expectedAddress}.
+     */
+    public SignatureCheckResult verify(String signature, String key, String expectedMessage, String expectedAddress) {
+        Job job = new Job(signature, key, expectedMessage, expectedAddress);
+        if (!queue.offer(job)) {
+            rejectedCounter.increment();
+            throw new AppException(ErrorCode.LOGIN_THROTTLED);
+        }
+
+        try {
+            return job.result.get(timeoutMillis, TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            job.result.cancel(false);
+            rejectedCounter.increment();
+            throw new AppException(ErrorCode.LOGIN_THROTTLED);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new AppException(ErrorCode.LOGIN_THROTTLED);
+        } catch (ExecutionException e) {
+            log.error("Wallet signature verification failed", e.getCause());
+            return SignatureCheckResult.MALFORMED;
+        }
+    }
+
+    private void work() {
+        List<Job> batch = new ArrayList<>(batchSize);
+        while (running) {
+            try {
+                batch.add(queue.take());
+            } catch (InterruptedException e) {
+                return;
+            }
+            queue.drainTo(batch, batchShare(queue.size() + 1, workerCount, batchSize) - 1);
+            batchSizes.record(batch.size());
+            for (Job job : batch) {
+                if (!job.result.isDone()) {
+                    job.result.complete(check(job));
+                }
+            }
+            batch.clear();
+        }
+    }
+
+    /**
+     * How many of {@code queued} jobs one worker takes: an even split across the workers, rounded up and
+     * capped at the batch size, so the other workers find the rest still queued.
+     */
+    static int batchShare(int queued, int workers, int batchSize) {
+        return Math.max(1, Math.min(batchSize, (queued + workers - 1) / workers));
+    }
+
+    private SignatureCheckResult check(Job job) {
+        long started = System.nanoTime();
+        queueTimer.record(started - job.enqueuedAt, TimeUnit.NANOSECONDS);
+
+        SignatureCheckResult result;
+        try {
+            var verification = new CIP30Verifier(job.signature, job.key).verify();
+            if (!verification.isValid()) {
+                result = SignatureCheckResult.INVALID_SIGNATURE;
+            } else if (!job.expectedMessage.equals(verification.getMessage(TEXT))) {
+                result = SignatureCheckResult.MESSAGE_MISMATCH;
+            } else if (!verification.getAddress(AddressFormat.TEXT).map(job.expectedAddress::equals).orElse(false)) {
+                result = SignatureCheckResult.ADDRESS_MISMATCH;
+            } else {
+                result = SignatureCheckResult.VALID;
+            }
+        } catch (Exception e) {
+            log.debug("Unreadable wallet signature: {}", e.getMessage());
+            result = SignatureCheckResult.MALFORMED;
+        }
+
+        verifyTimers.get(result).record(System.nanoTime() - started, TimeUnit.NANOSECONDS);
+        return result;
+    }
+
+    @PreDestroy
+    void shutdown() {
+        running = false;
+        workers.forEach(Thread::interrupt);
+    }
+
+    private static final class Job {
+        final String signature;
+        final String key;
+        final String expectedMessage;
+        final String expectedAddress;
+        final long enqueuedAt = System.nanoTime();
+        final CompletableFuture<SignatureCheckResult> result = new CompletableFuture<>();
+
+        Job(String signature, String key, String expectedMessage, String expectedAddress) {
+            this.signature = signature;
+            this.key = key;
+            this.expectedMessage = expectedMessage;
+            this.expectedAddress = expectedAddress;
+        }
+    }
+}
@@ -0,0 +1,74 @@
+package com.cardano_lms.server.Service;
+
+import com.nimbusds.jose.JOSEException;
+import com.nimbusds.jose.JWSAlgorithm;
+import com.nimbusds.jose.JWSHeader;
+import com.nimbusds.jose.JWSSigner;
+import com.nimbusds.jose.JWSVerifier;
+import com.nimbusds.jose.crypto.MACSigner;
+import com.nimbusds.jose.crypto.MACVerifier;
+import com.nimbusds.jwt.JWTClaimsSet;
+import com.nimbusds.jwt.SignedJWT;
+import lombok.AccessLevel;
+import lombok.experimental.FieldDefaults;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Holds the HS512 signer and verifiers for access tokens, built once at startup (Nimbus MAC
+ * signers and verifiers are thread-safe). Tokens are signed with the active key and carry its
+ * {@code kid}; keys listed in {@code jwt.verification-keys} stay valid for verification so a key
+ * can be rotated without logging everyone out.
+ */
+@Service
+@Slf4j
+@FieldDefaults(level = AccessLevel.PRIVATE, makeFinal = true)
+public class TokenCryptoService {
+    String activeKid;
+    JWSHeader header;
+    JWSSigner signer;
+    JWSVerifier activeVerifier;
+    Map<String, JWSVerifier> verifiers;
+
+    public TokenCryptoService(@Value("${jwt.signerKey}") String signerKey,
+                              @Value("${jwt.signer-kid:primary}") String activeKid,
+                              @Value("#{${jwt.verification-keys:{:}}}") Map<String, String> verificationKeys)
+            throws JOSEException {
+        byte[] activeSecret = signerKey.getBytes(StandardCharsets.UTF_8);
+
+        this.activeKid = activeKid;
+        this.header = new JWSHeader.Builder(JWSAlgorithm.HS512).keyID(activeKid).build();
+        this.signer = new MACSigner(activeSecret);
+        this.activeVerifier = new MACVerifier(activeSecret);
+
+        Map<String, JWSVerifier> keyRing = new HashMap<>();
+        for (Map.Entry<String, String> key : verificationKeys.entrySet()) {
+            keyRing.put(key.getKey(), new MACVerifier(key.getValue().getBytes(StandardCharsets.UTF_8)));
+        }
+        keyRing.put(activeKid, activeVerifier);
+        this.verifiers = Map.copyOf(keyRing);
+
+        log.info("Token signing key '{}' active, {} verification key(s) loaded", activeKid, verifiers.size());
+    }
+
+    public String sign(JWTClaimsSet claims) throws JOSEException {
+        SignedJWT signedJWT = new SignedJWT(header, claims);
+        signedJWT.sign(signer);
+        return signedJWT.serialize();
+    }
+
+    public boolean verify(SignedJWT signedJWT) throws JOSEException {
+        if (!JWSAlgorithm.HS512.equals(signedJWT.getHeader().getAlgorithm())) {
+            return false;
+        }
+
+        String kid = signedJWT.getHeader().getKeyID();
+        JWSVerifier verifier = kid == null ? activeVerifier : verifiers.get(kid);
+        return verifier != null && signedJWT.verify(verifier);
+    }
+}
@@ -0,0 +1,124 @@
+package com.cardano_lms.server.Service;
+
+import com.cardano_lms.server.Entity.InvalidatedToken;
+import com.cardano_lms.server.Repository.InvalidatedTokenRepository;
+import com.cardano_lms.server.Util.BloomFilter;
+import lombok.AccessLevel;
+import lombok.experimental.FieldDefaults;
+import lombok.experimental.NonFinal;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Date;
+import java.util.List;
+
+/**
+ * Revoked JWT ids. A local Bloom filter answers the common "not revoked" case without any I/O;
+ * only filter hits go to Redis (one key per jti, expiring with the token) and, when Redis has no
+ * key or is unavailable, to the invalidated_token table, which stays the durable source.
+ */
+@Service
+@Slf4j
+@FieldDefaults(level = AccessLevel.PRIVATE, makeFinal = true)
+public class TokenRevocationService implements MessageListener {
+    public static final String REVOCATION_CHANNEL = "lms:token:revoked";
+
+    static final String REVOKED_KEY_PREFIX = "lms:token:revoked:";
+
+    InvalidatedTokenRepository invalidatedTokenRepository;
+    StringRedisTemplate redisTemplate;
+    long expectedInsertions;
+    double falsePositiveRate;
+
+    @NonFinal
+    volatile BloomFilter filter;
+
+    @NonFinal
+    volatile BloomFilter rebuilding;
+
+    public TokenRevocationService(InvalidatedTokenRepository invalidatedTokenRepository,
+                                  StringRedisTemplate redisTemplate,
+                                  @Value("${jwt.revocation.expected-insertions:200000}") long expectedInsertions,
+                                  @Value("${jwt.revocation.false-positive-rate:0.001}") double falsePositiveRate) {
+        this.invalidatedTokenRepository = invalidatedTokenRepository;
+        this.redisTemplate = redisTemplate;
+        this.expectedInsertions = expectedInsertions;
+        this.falsePositiveRate = falsePositiveRate;
+        this.filter = new BloomFilter(expectedInsertions, falsePositiveRate);
+    }
+
+    public boolean isRevoked(String jti) {
+        if (jti == null || !filter.mightContain(jti)) {
+            return false;
+        }
+        try {
+            if (Boolean.TRUE.equals(redisTemplate.hasKey(REVOKED_KEY_PREFIX + jti))) {
+                return true;
+            }
+        } catch (Exception e) {
+            log.warn("Revocation lookup in Redis failed, falling back to database: {}", e.getMessage());
+        }
+        // A filter hit without a Redis key is either a false positive or a key lost to a Redis restart,
+        // flush or failed write; hits are rare, so the table settles it.
+        return invalidatedTokenRepository.existsById(jti);
+    }
+
+    public void revoke(String jti, Date expiryTime) {
+        invalidatedTokenRepository.save(InvalidatedToken.builder().id(jti).expiryTime(expiryTime).build());
+        addLocal(jti);
+
+        try {
+            Duration ttl = Duration.ofMillis(expiryTime.getTime() - System.currentTimeMillis());
+            if (!ttl.isNegative() && !ttl.isZero()) {
+                redisTemplate.opsForValue().set(REVOKED_KEY_PREFIX + jti, "1", ttl);
+            }
+            redisTemplate.convertAndSend(REVOCATION_CHANNEL, jti);
+        } catch (Exception e) {
+            log.warn("Revocation of {} not propagated through Redis: {}", jti, e.getMessage());
+        }
+    }
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        addLocal(new String(message.getBody(), StandardCharsets.UTF_8));
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        BloomFilter next = new BloomFilter(expectedInsertions, falsePositiveRate);
+        rebuilding = next;
+        try {
+            List<String> activeIds = invalidatedTokenRepository.findActiveIds(new Date());
+            activeIds.forEach(next::put);
+            filter = next;
+            log.info("Token revocation filter rebuilt with {} active entries", activeIds.size());
+        } finally {
+            rebuilding = null;
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${jwt.revocation.purge-interval-ms:3600000}",
+            initialDelayString = "${jwt.revocation.purge-interval-ms:3600000}")
+    public void purgeExpired() {
+        int purged = invalidatedTokenRepository.deleteExpired(new Date());
+        log.info("Purged {} expired invalidated tokens", purged);
+        rebuild();
+    }
+
+    private void addLocal(String jti) {
+        filter.put(jti);
+        BloomFilter next = rebuilding;
+        if (next != null) {
+            next.put(jti);
+        }
+    }
+}
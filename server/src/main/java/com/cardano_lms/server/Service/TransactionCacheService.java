@@ -0,0 +1,128 @@
+package com.cardano_lms.server.Service;
+
+import com.github.benmanes.caffeine.cache.AsyncCache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import lombok.AccessLevel;
+import lombok.experimental.FieldDefaults;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.function.Function;
+
+/**
+ * Caches parsed Blockfrost lookups by txHash. A transaction that made it into a block never changes, so
+ * hits are kept until evicted by size; "not seen yet" answers expire quickly so confirmation is noticed.
+ * Concurrent callers for the same hash wait on the one in-flight Blockfrost call instead of issuing their own.
+ */
+@Service
+@FieldDefaults(level = AccessLevel.PRIVATE, makeFinal = true)
+public class TransactionCacheService {
+    static final String TIP_KEY = "tip";
+
+    BlockfrostClient blockfrostClient;
+    AsyncCache<String, Optional<ChainTransaction>> transactions;
+    AsyncCache<String, Long> tipHeight;
+
+    public TransactionCacheService(BlockfrostClient blockfrostClient,
+                                   @Value("${payment.cache.max-size:100000}") long maxSize,
+                                   @Value("${payment.cache.negative-ttl-ms:10000}") long negativeTtlMillis,
+                                   @Value("${payment.cache.tip-ttl-ms:5000}") long tipTtlMillis) {
+        this.blockfrostClient = blockfrostClient;
+        long negativeTtlNanos = Duration.ofMillis(negativeTtlMillis).toNanos();
+        this.transactions = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfter(new Expiry<String, Optional<ChainTransaction>>() {
+                    @Override
+                    public long expireAfterCreate(String key, Optional<ChainTransaction> value, long currentTime) {
+                        return value.isPresent() ? Long.MAX_VALUE : negativeTtlNanos;
+                    }
+
+                    @Override
+                    public long expireAfterUpdate(String key, Optional<ChainTransaction> value,
+                                                  long currentTime, long currentDuration) {
+                        return expireAfterCreate(key, value, currentTime);
+                    }
+
+                    @Override
+                    public long expireAfterRead(String key, Optional<ChainTransaction> value,
+                                                long currentTime, long currentDuration) {
+                        return currentDuration;
+                    }
+                })
+                .buildAsync();
+        this.tipHeight = Caffeine.newBuilder()
+                .expireAfterWrite(Duration.ofMillis(tipTtlMillis))
+                .buildAsync();
+    }
+
+    public Optional<ChainTransaction> getTransaction(String txHash) {
+        return coalesce(transactions, txHash, this::loadTransaction);
+    }
+
+    public long getTipHeight() {
+        return coalesce(tipHeight, TIP_KEY, key -> blockfrostClient.getLatestBlock()
+                .map(block -> block.path("height").asLong(-1))
+                .orElse(-1L));
+    }
+
+    private Optional<ChainTransaction> loadTransaction(String txHash) {
+        Optional<Long> blockHeight = blockfrostClient.getTransaction(txHash)
+                .map(transaction -> transaction.path("block_height").asLong(-1))
+                .filter(height -> height >= 0);
+        if (blockHeight.isEmpty()) {
+            return Optional.empty();
+        }
+        return blockfrostClient.getTransactionOutputs(txHash)
+                .map(outputs -> new ChainTransaction(blockHeight.get(), outputs));
+    }
+
+    private static <V> V coalesce(AsyncCache<String, V> cache, String key, Function<String, V> loader) {
+        CompletableFuture<V> pending = new CompletableFuture<>();
+        CompletableFuture<V> inFlight = cache.asMap().putIfAbsent(key, pending);
+        if (inFlight != null) {
+            try {
+                return inFlight.join();
+            } catch (CompletionException e) {
+                if (e.getCause() instanceof RuntimeException cause) {
+                    throw cause;
+                }
+                throw e;
+            }
+        }
+
+        try {
+            V value = loader.apply(key);
+            pending.complete(value);
+            return value;
+        } catch (RuntimeException e) {
+            cache.asMap().remove(key, pending);
+            pending.completeExceptionally(e);
+            throw e;
+        }
+    }
+
+    public static class ChainTransaction {
+        private final long blockHeight;
+        private final Map<String, Long> lovelaceByAddress;
+
+        ChainTransaction(long blockHeight, Map<String, Long> lovelaceByAddress) {
+            this.blockHeight = blockHeight;
+            this.lovelaceByAddress = Map.copyOf(lovelaceByAddress);
+        }
+
+        public long getBlockHeight() {
+            return blockHeight;
+        }
+
+        public boolean pays(String receiverAddress, long minLovelace) {
+            Long lovelace = lovelaceByAddress.get(receiverAddress.trim());
+            return lovelace != null && lovelace >= minLovelace;
+        }
+    }
+}
@@ -26,6 +26,7 @@ import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
@@ -127,6 +128,7 @@ public class UserService {
                         .orElseGet(() -> {
                             InstructorProfile profile = new InstructorProfile();
                             profile.setUser(user);
+                            profile.setUpdatedAt(LocalDateTime.now());
                             return instructorProfileRepository.save(profile);
                         });
             }
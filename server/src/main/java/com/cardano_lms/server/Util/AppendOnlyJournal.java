@@ -0,0 +1,128 @@
+package com.cardano_lms.server.Util;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.stream.Stream;
+
+/**
+ * Line-oriented write-ahead journal split into numbered segment files. Writers append to the open segment;
+ * {@link #seal()} rolls over to a fresh segment and returns every older one, which the caller deletes once
+ * their contents are safely stored elsewhere. Whatever is still on disk after a crash is replayed on start.
+ * Writes are serialized by a {@link ReentrantLock}, not a monitor. The thread doing the write and fsync stays
+ * pinned to its carrier either way (the JDK adds a carrier to compensate), but threads queued behind it park
+ * and unmount instead of pinning a carrier each while they wait.
+ */
+public class AppendOnlyJournal implements Closeable {
+    private static final String PREFIX = "segment-";
+    private static final String SUFFIX = ".log";
+
+    private final Path directory;
+    private final boolean fsync;
+    private final ReentrantLock lock = new ReentrantLock();
+    private FileChannel current;
+    private long sequence;
+
+    public AppendOnlyJournal(Path directory, boolean fsync) throws IOException {
+        this.directory = Files.createDirectories(directory);
+        this.fsync = fsync;
+        this.sequence = segments().stream().mapToLong(AppendOnlyJournal::sequenceOf).max().orElse(0);
+        openNext();
+    }
+
+    public void append(List<String> lines) throws IOException {
+        StringBuilder text = new StringBuilder();
+        for (String line : lines) {
+            text.append(line).append('\n');
+        }
+        ByteBuffer buffer = ByteBuffer.wrap(text.toString().getBytes(StandardCharsets.UTF_8));
+        lock.lock();
+        try {
+            while (buffer.hasRemaining()) {
+                current.write(buffer);
+            }
+            if (fsync) {
+                current.force(false);
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public List<Path> seal() throws IOException {
+        lock.lock();
+        try {
+            openNext();
+            Path open = segmentPath(sequence);
+            return segments().stream().filter(segment -> !segment.equals(open)).toList();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public List<Path> segments() throws IOException {
+        lock.lock();
+        try (Stream<Path> files = Files.list(directory)) {
+            return files.filter(file -> file.getFileName().toString().startsWith(PREFIX))
+                    .sorted((a, b) -> Long.compare(sequenceOf(a), sequenceOf(b)))
+                    .toList();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public List<String> read(List<Path> segments) throws IOException {
+        List<String> lines = new ArrayList<>();
+        for (Path segment : segments) {
+            for (String line : Files.readAllLines(segment, StandardCharsets.UTF_8)) {
+                if (!line.isBlank()) {
+                    lines.add(line);
+                }
+            }
+        }
+        return lines;
+    }
+
+    public void delete(List<Path> segments) throws IOException {
+        for (Path segment : segments) {
+            Files.deleteIfExists(segment);
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        lock.lock();
+        try {
+            current.close();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void openNext() throws IOException {
+        if (current != null) {
+            current.force(false);
+            current.close();
+        }
+        sequence++;
+        current = FileChannel.open(segmentPath(sequence),
+                StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.APPEND);
+    }
+
+    private Path segmentPath(long segmentSequence) {
+        return directory.resolve(PREFIX + String.format("%019d", segmentSequence) + SUFFIX);
+    }
+
+    private static long sequenceOf(Path segment) {
+        String name = segment.getFileName().toString();
+        return Long.parseLong(name.substring(PREFIX.length(), name.length() - SUFFIX.length()));
+    }
+}
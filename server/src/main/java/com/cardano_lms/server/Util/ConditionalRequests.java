@@ -0,0 +1,36 @@
+package com.cardano_lms.server.Util;
+
+import org.springframework.web.context.request.WebRequest;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+
+/**
+ * Conditional GET for resources versioned by an {@code updatedAt} timestamp. The version is looked up on
+ * its own first, so a client holding the current copy gets a 304 without the body ever being loaded.
+ */
+public final class ConditionalRequests {
+
+    private ConditionalRequests() {
+    }
+
+    /**
+     * Sets ETag and Last-Modified from the version and reports whether the request's validators still
+     * match it. Rows that predate their timestamp column carry no version and are always sent in full.
+     */
+    public static boolean notModified(WebRequest request, LocalDateTime updatedAt) {
+        if (updatedAt == null) {
+            return false;
+        }
+        long lastModified = updatedAt.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+        return request.checkNotModified(weakEtag(Long.toString(lastModified, 36)), lastModified);
+    }
+
+    /**
+     * The body is wrapped in an ApiResponse envelope and may be re-encoded by the container, so the tag
+     * only promises semantic equality.
+     */
+    public static String weakEtag(String version) {
+        return "W/\"" + version + "\"";
+    }
+}
@@ -0,0 +1,43 @@
+package com.cardano_lms.server.Util;
+
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Token bucket rate limiter: bursts up to {@code capacity} calls, then refills at a steady rate.
+ * Callers that would need to wait longer than their budget are refused instead of queued.
+ */
+public class TokenBucket {
+    private final double capacity;
+    private final double tokensPerNano;
+    private double tokens;
+    private long lastRefill;
+
+    public TokenBucket(double tokensPerSecond, int capacity) {
+        this.capacity = Math.max(1, capacity);
+        this.tokensPerNano = tokensPerSecond / 1_000_000_000d;
+        this.tokens = this.capacity;
+        this.lastRefill = System.nanoTime();
+    }
+
+    public boolean tryAcquire(long maxWaitMillis) {
+        long waitNanos;
+        synchronized (this) {
+            long now = System.nanoTime();
+            tokens = Math.min(capacity, tokens + (now - lastRefill) * tokensPerNano);
+            lastRefill = now;
+
+            if (tokens >= 1) {
+                tokens -= 1;
+                return true;
+            }
+            waitNanos = (long) Math.ceil((1 - tokens) / tokensPerNano);
+            if (waitNanos > maxWaitMillis * 1_000_000) {
+                return false;
+            }
+            tokens -= 1;
+        }
+
+        LockSupport.parkNanos(waitNanos);
+        return true;
+    }
+}
@@ -0,0 +1,87 @@
+package com.cardano_lms.server.Util;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+
+import java.io.IOException;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Token-level scan of a Blockfrost {@code /txs/{hash}/utxos} body. Inputs and native-asset entries are
+ * skipped without building a tree; only the lovelace of each output is kept.
+ */
+public final class UtxoScanner {
+    private static final String LOVELACE = "lovelace";
+
+    private UtxoScanner() {
+    }
+
+    /**
+     * Largest single-output lovelace amount per receiving address. A payment counts only if one output
+     * covers the price on its own, so amounts to the same address are not summed.
+     */
+    public static Map<String, Long> lovelaceByAddress(JsonParser parser) throws IOException {
+        Map<String, Long> lovelaceByAddress = new HashMap<>();
+        if (parser.nextToken() != JsonToken.START_OBJECT) {
+            return lovelaceByAddress;
+        }
+
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.currentName();
+            JsonToken value = parser.nextToken();
+            if ("outputs".equals(field) && value == JsonToken.START_ARRAY) {
+                while (parser.nextToken() == JsonToken.START_OBJECT) {
+                    readOutput(parser, lovelaceByAddress);
+                }
+            } else {
+                parser.skipChildren();
+            }
+        }
+        return lovelaceByAddress;
+    }
+
+    private static void readOutput(JsonParser parser, Map<String, Long> lovelaceByAddress) throws IOException {
+        String address = null;
+        long lovelace = -1;
+
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.currentName();
+            JsonToken value = parser.nextToken();
+            if ("address".equals(field)) {
+                address = parser.getValueAsString();
+            } else if ("amount".equals(field) && value == JsonToken.START_ARRAY) {
+                lovelace = lovelace(parser);
+            } else {
+                parser.skipChildren();
+            }
+        }
+
+        if (address != null && lovelace >= 0) {
+            lovelaceByAddress.merge(address.trim(), lovelace, Math::max);
+        }
+    }
+
+    private static long lovelace(JsonParser parser) throws IOException {
+        long lovelace = -1;
+        while (parser.nextToken() == JsonToken.START_OBJECT) {
+            String unit = null;
+            String quantity = null;
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String field = parser.currentName();
+                parser.nextToken();
+                if ("unit".equals(field)) {
+                    unit = parser.getValueAsString();
+                } else if ("quantity".equals(field)) {
+                    quantity = parser.getValueAsString();
+                } else {
+                    parser.skipChildren();
+                }
+            }
+            if (LOVELACE.equals(unit) && quantity != null) {
+                lovelace = Long.parseLong(quantity);
+            }
+        }
+        return lovelace;
+    }
+}
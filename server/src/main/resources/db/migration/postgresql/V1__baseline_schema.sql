@@ -0,0 +1,248 @@
+-- Baseline of the schema previously created by Hibernate auto-DDL. Every statement is guarded so the
+-- migration also applies cleanly to databases that already have these tables; columns and unique indexes
+-- that those databases predate are added explicitly further down, since "create table if not exists"
+-- leaves an existing table as it is.
+
+create table if not exists roles (
+    name        varchar(255) primary key,
+    description varchar(255)
+);
+
+create table if not exists login_methods (
+    login_method_name varchar(255) primary key,
+    description       varchar(255)
+);
+
+create table if not exists users (
+    id                varchar(255) primary key,
+    username          varchar(255) unique,
+    password          varchar(255),
+    email             varchar(255) unique,
+    first_name        varchar(255),
+    dob               date,
+    last_name         varchar(255),
+    wallet_address    varchar(255) unique,
+    role_name         varchar(255) references roles (name),
+    login_method_name varchar(255) references login_methods (login_method_name)
+);
+
+create table if not exists invalidated_token (
+    id          varchar(255) primary key,
+    expiry_time timestamp(6)
+);
+
+create table if not exists nonce (
+    id      bigint generated by default as identity primary key,
+    nonce   varchar(255),
+    address varchar(255)
+);
+
+create table if not exists payment_methods (
+    name        varchar(255) primary key,
+    description varchar(255),
+    currency    varchar(255)
+);
+
+create table if not exists instructor_profiles (
+    id        bigint generated by default as identity primary key,
+    user_id   varchar(255) unique references users (id),
+    name      varchar(255),
+    bio       varchar(255),
+    expertise varchar(255)
+);
+
+create table if not exists social_links (
+    id            bigint generated by default as identity primary key,
+    name          varchar(255),
+    url           varchar(255),
+    instructor_id bigint references instructor_profiles (id)
+);
+
+create table if not exists courses (
+    id                varchar(255) primary key,
+    title             varchar(255),
+    description       varchar(255),
+    short_description varchar(255),
+    requirement       varchar(255),
+    image_url         varchar(255),
+    is_draft          boolean not null,
+    price             integer,
+    currency          varchar(255),
+    discount          float(53),
+    discount_end_time timestamp(6),
+    policy_id         varchar(255),
+    instructor_id     bigint not null references instructor_profiles (id),
+    created_at        timestamp(6),
+    updated_at        timestamp(6)
+);
+
+create table if not exists course_payment_methods (
+    id                bigint generated by default as identity primary key,
+    course_id         varchar(255) references courses (id),
+    payment_method_id varchar(255) references payment_methods (name),
+    receiver_address  varchar(255) not null
+);
+
+create table if not exists chapters (
+    id          bigint primary key,
+    title       varchar(255),
+    order_index integer not null,
+    course_id   varchar(255) references courses (id)
+);
+
+create table if not exists lectures (
+    id            bigint primary key,
+    title         varchar(255),
+    video_url     varchar(255),
+    time          integer not null,
+    order_index   integer not null,
+    resource_url  varchar(255),
+    resource_type varchar(255),
+    preview_free  boolean,
+    chapter_id    bigint references chapters (id)
+);
+
+create table if not exists tests (
+    id               bigint primary key,
+    title            varchar(255),
+    duration_minutes integer not null,
+    rule             varchar(255),
+    pass_score       integer not null,
+    order_index      integer not null,
+    course_id        varchar(255) references courses (id),
+    chapter_id       bigint references chapters (id)
+);
+
+create table if not exists questions (
+    id          bigint primary key,
+    content     varchar(255),
+    score       integer not null,
+    order_index integer not null,
+    image_url   varchar(255),
+    test_id     bigint references tests (id)
+);
+
+create table if not exists answers (
+    id          bigint primary key,
+    content     varchar(255),
+    is_correct  boolean not null,
+    question_id bigint references questions (id)
+);
+
+create table if not exists enrollments (
+    id                       bigint generated by default as identity primary key,
+    enrolled_at              timestamp(6),
+    completed                boolean not null,
+    user_id                  varchar(255) references users (id),
+    course_payment_method_id bigint not null references course_payment_methods (id),
+    status                   varchar(255),
+    order_id                 varchar(255),
+    price                    float(53) not null,
+    tx_hash                  varchar(255),
+    verification_attempts    integer,
+    next_check_at            timestamp(6),
+    course_id                varchar(255) references courses (id),
+    completed_items          integer
+);
+
+create table if not exists progress (
+    id               bigint generated by default as identity primary key,
+    type             varchar(255),
+    score            integer not null,
+    position_seconds integer,
+    completed        boolean,
+    completed_at     date,
+    updated_at       timestamp(6),
+    enrollment_id    bigint references enrollments (id),
+    lecture_id       bigint references lectures (id),
+    test_id          bigint references tests (id)
+);
+
+create table if not exists certificates (
+    id            bigint generated by default as identity primary key,
+    issued_at     timestamp(6),
+    tx_hash       varchar(255),
+    img_url       varchar(255),
+    policy_id     varchar(255),
+    enrollment_id bigint unique references enrollments (id)
+);
+
+create table if not exists feedbacks (
+    id         bigint generated by default as identity primary key,
+    rate       integer,
+    content    varchar(255),
+    created_at timestamp(6),
+    user_id    varchar(255) references users (id),
+    course_id  varchar(255) references courses (id)
+);
+
+create table if not exists messages (
+    id          bigint generated by default as identity primary key,
+    content     varchar(255),
+    sent_at     timestamp(6),
+    sender_id   varchar(255) references users (id),
+    receiver_id varchar(255) references users (id),
+    course_id   varchar(255) references courses (id)
+);
+
+create table if not exists user_answers (
+    id          bigint generated by default as identity primary key,
+    user_id     varchar(255) references users (id),
+    question_id bigint references questions (id),
+    answer_id   bigint references answers (id)
+);
+
+-- Columns added since the auto-DDL schema. On a fresh database the tables above already have them.
+alter table enrollments add column if not exists tx_hash varchar(255);
+alter table enrollments add column if not exists verification_attempts integer;
+alter table enrollments add column if not exists next_check_at timestamp(6);
+alter table enrollments add column if not exists completed_items integer;
+alter table progress add column if not exists position_seconds integer;
+alter table progress add column if not exists completed boolean;
+alter table progress add column if not exists updated_at timestamp(6);
+
+-- A transaction pays for one order only.
+create unique index if not exists enrollments_tx_hash_uk on enrollments (tx_hash);
+
+-- Progress is upserted per (enrollment, lecture) and (enrollment, test) with "on conflict do nothing",
+-- which needs these to be unique. Older databases may hold repeats; keep the best-scoring, newest row.
+delete from progress p
+    using progress q
+    where p.enrollment_id = q.enrollment_id
+      and p.lecture_id = q.lecture_id
+      and (p.score < q.score or (p.score = q.score and p.id < q.id));
+delete from progress p
+    using progress q
+    where p.enrollment_id = q.enrollment_id
+      and p.test_id = q.test_id
+      and (p.score < q.score or (p.score = q.score and p.id < q.id));
+create unique index if not exists progress_enrollment_lecture_uk on progress (enrollment_id, lecture_id);
+create unique index if not exists progress_enrollment_test_uk on progress (enrollment_id, test_id);
+
+-- Progress rows written before the completion flag existed were created when an item was finished.
+-- Completion counts are kept per enrollment now, so seed them from those rows.
+update progress set completed = (completed_at is not null) where completed is null;
+update enrollments e
+set completed_items = (select count(*) from progress p where p.enrollment_id = e.id and p.completed)
+where e.completed_items is null;
+
+-- Course content ids come from pooled sequences (allocation size 50). Databases created while these
+-- tables still used identity columns already hold ids the sequences would hand out again, so each
+-- sequence is moved past the current maximum.
+create sequence if not exists chapters_seq start with 1 increment by 50;
+create sequence if not exists lectures_seq start with 1 increment by 50;
+create sequence if not exists tests_seq start with 1 increment by 50;
+create sequence if not exists questions_seq start with 1 increment by 50;
+create sequence if not exists answers_seq start with 1 increment by 50;
+
+do $$
+declare
+    content_table text;
+    next_id       bigint;
+begin
+    foreach content_table in array array['chapters', 'lectures', 'tests', 'questions', 'answers'] loop
+        execute format('select coalesce(max(id), 0) + 50 from %I', content_table) into next_id;
+        execute format('select setval(%L, greatest(%s, (select last_value from %I)))',
+                       content_table || '_seq', next_id, content_table || '_seq');
+    end loop;
+end $$;
@@ -0,0 +1,34 @@
+-- Indexes for lookups that run on every login, enrollment and course read. users.username, users.email,
+-- users.wallet_address, enrollments.tx_hash and payment_methods.name are already covered by the unique
+-- constraints, indexes or primary keys set up in V1.
+
+-- Wallet login: nonces are single-use and looked up by value.
+create unique index if not exists nonce_nonce_uk on nonce (nonce);
+
+-- Revocation filter rebuild and expiry cleanup.
+create index if not exists invalidated_token_expiry_time_idx on invalidated_token (expiry_time);
+
+-- Enrollment: one live (pending or paid) enrollment per learner and course; failed attempts may repeat.
+create unique index if not exists enrollments_user_course_live_uk
+    on enrollments (user_id, course_id) where status <> 'FAILED';
+create index if not exists enrollments_user_course_idx on enrollments (user_id, course_id);
+create index if not exists enrollments_order_id_idx on enrollments (order_id);
+create index if not exists enrollments_course_id_idx on enrollments (course_id);
+create index if not exists enrollments_status_next_check_idx on enrollments (status, next_check_at);
+
+-- Catalog keyset pagination.
+create index if not exists courses_created_at_id_idx on courses (created_at desc, id desc);
+create index if not exists courses_instructor_id_idx on courses (instructor_id);
+
+-- Instructor profile and course tree loads walk these foreign keys.
+create index if not exists social_links_instructor_id_idx on social_links (instructor_id);
+create index if not exists course_payment_methods_course_id_idx on course_payment_methods (course_id);
+create index if not exists chapters_course_id_idx on chapters (course_id);
+create index if not exists lectures_chapter_id_idx on lectures (chapter_id);
+create index if not exists tests_course_id_idx on tests (course_id);
+create index if not exists tests_chapter_id_idx on tests (chapter_id);
+create index if not exists questions_test_id_idx on questions (test_id);
+create index if not exists answers_question_id_idx on answers (question_id);
+
+-- Grading replaces a learner's previous answers per test.
+create index if not exists user_answers_user_question_idx on user_answers (user_id, question_id);
@@ -0,0 +1,7 @@
+-- Nonces now expire. Rows issued before this carry no expiry and were never cleaned up; none of them
+-- can be consumed any more, so they are dropped.
+alter table nonce add column if not exists expires_at timestamp(6);
+
+delete from nonce where expires_at is null;
+
+create index if not exists nonce_expires_at_idx on nonce (expires_at);
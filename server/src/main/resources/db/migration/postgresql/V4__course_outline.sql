@@ -0,0 +1,13 @@
+-- Denormalized read model behind GET /course/{id}/outline: chapter, lecture and test titles with their
+-- totals precomputed. Rows are rebuilt in the transaction that edits the course; courses written before
+-- this table existed get their row on first read.
+create table if not exists course_outline (
+    course_id              varchar(255) primary key references courses (id) on delete cascade,
+    etag                   varchar(64)  not null,
+    outline                jsonb        not null,
+    chapter_count          integer      not null,
+    lecture_count          integer      not null,
+    test_count             integer      not null,
+    total_duration_seconds bigint       not null,
+    updated_at             timestamp(6) not null
+);
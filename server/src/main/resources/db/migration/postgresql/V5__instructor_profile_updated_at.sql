@@ -0,0 +1,4 @@
+-- Instructor profiles get a version for conditional GETs. Existing rows, and rows inserted by tools that
+-- do not know the column, start from the time they were first seen.
+alter table instructor_profiles
+    add column if not exists updated_at timestamp(6) not null default current_timestamp;
@@ -0,0 +1,5 @@
+-- Version columns for optimistic locking of courses, chapters and tests. Existing rows, and rows written by
+-- tools that do not set the column, start at version 0.
+alter table courses add column if not exists version bigint not null default 0;
+alter table chapters add column if not exists version bigint not null default 0;
+alter table tests add column if not exists version bigint not null default 0;
@@ -0,0 +1,180 @@
+package com.cardano_lms.server.Repository;
+
+import com.cardano_lms.server.Constant.Currency;
+import com.cardano_lms.server.DTO.Response.CourseCreationResponse;
+import com.cardano_lms.server.Entity.*;
+import com.cardano_lms.server.Mapper.*;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.dao.OptimisticLockingFailureException;
+
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@Import({CourseMapperImpl.class, ChapterMapperImpl.class, TestMapperImpl.class,
+        QuestionMapperImpl.class, AnswerMapperImpl.class, InstructorProfileMapperImpl.class})
+class CourseRepositoryTest {
+
+    @Autowired
+    TestEntityManager testEntityManager;
+
+    @Autowired
+    CourseRepository courseRepository;
+
+    @Autowired
+    CourseMapper courseMapper;
+
+    @Test
+    void courseTreeLoadUsesConstantNumberOfStatements() {
+        PaymentMethod paymentMethod = testEntityManager.persist(PaymentMethod.builder()
+                .name("CARDANO_WALLET")
+                .currency("ADA")
+                .build());
+
+        String smallCourseId = persistCourse(paymentMethod, 1, 1, 1, 1);
+        String largeCourseId = persistCourse(paymentMethod, 8, 6, 10, 4);
+
+        long smallStatements = statementsToLoad(smallCourseId, 1, 1, 1, 1);
+        long largeStatements = statementsToLoad(largeCourseId, 8, 6, 10, 4);
+
+        assertEquals(smallStatements, largeStatements);
+    }
+
+    @Test
+    void touchMarksCourseChangedWithoutBumpingItsVersion() {
+        String courseId = persistCourse(persistPaymentMethod(), 1, 1, 1, 1);
+        testEntityManager.clear();
+        Long version = courseRepository.findById(courseId).orElseThrow().getVersion();
+        LocalDateTime touchedAt = LocalDateTime.now().plusMinutes(1).truncatedTo(ChronoUnit.MILLIS);
+
+        assertEquals(1, courseRepository.touch(courseId, touchedAt));
+        testEntityManager.clear();
+
+        Course course = courseRepository.findById(courseId).orElseThrow();
+        assertEquals(version, course.getVersion());
+        assertEquals(touchedAt, course.getUpdatedAt());
+    }
+
+    @Test
+    void staleCourseEditIsRejected() {
+        String courseId = persistCourse(persistPaymentMethod(), 1, 1, 1, 1);
+        testEntityManager.clear();
+        Course stale = courseRepository.findById(courseId).orElseThrow();
+
+        testEntityManager.getEntityManager()
+                .createQuery("update Course c set c.version = c.version + 1 where c.id = :id")
+                .setParameter("id", courseId)
+                .executeUpdate();
+        stale.setTitle("Renamed");
+
+        assertThrows(OptimisticLockingFailureException.class, () -> courseRepository.saveAndFlush(stale));
+    }
+
+    @Test
+    void detailVersionFollowsInstructorProfileEdits() {
+        String courseId = persistCourse(persistPaymentMethod(), 1, 1, 1, 1);
+        testEntityManager.clear();
+        Course course = courseRepository.findById(courseId).orElseThrow();
+        assertEquals(course.getUpdatedAt(), courseRepository.findVersionById(courseId).orElseThrow().getUpdatedAt());
+
+        LocalDateTime profileEditedAt = course.getUpdatedAt().plusMinutes(5).truncatedTo(ChronoUnit.MILLIS);
+        course.getInstructor().setUpdatedAt(profileEditedAt);
+        testEntityManager.flush();
+        testEntityManager.clear();
+
+        assertEquals(profileEditedAt, courseRepository.findVersionById(courseId).orElseThrow().getUpdatedAt());
+    }
+
+    private PaymentMethod persistPaymentMethod() {
+        return testEntityManager.persist(PaymentMethod.builder()
+                .name("CARDANO_WALLET")
+                .currency("ADA")
+                .build());
+    }
+
+    private long statementsToLoad(String courseId, int chapters, int lectures, int questions, int answers) {
+        testEntityManager.flush();
+        testEntityManager.clear();
+
+        Statistics statistics = testEntityManager.getEntityManager()
+                .getEntityManagerFactory()
+                .unwrap(SessionFactory.class)
+                .getStatistics();
+        statistics.clear();
+
+        Course course = courseRepository.findCourseTreeById(courseId).orElseThrow();
+        CourseCreationResponse response = courseMapper.toResponse(course);
+
+        assertEquals(chapters, response.getChapters().size());
+        assertEquals(1, response.getCourseTests().size());
+        assertEquals(1, response.getCoursePaymentMethods().size());
+        response.getChapters().forEach(chapter -> {
+            assertEquals(lectures, chapter.getLectures().size());
+            assertEquals(1, chapter.getTests().size());
+            chapter.getTests().forEach(test -> {
+                assertEquals(questions, test.getQuestions().size());
+                test.getQuestions().forEach(question -> assertEquals(answers, question.getAnswers().size()));
+            });
+        });
+
+        return statistics.getPrepareStatementCount();
+    }
+
+    private String persistCourse(PaymentMethod paymentMethod, int chapters, int lectures,
+                                 int questions, int answers) {
+        InstructorProfile instructor = testEntityManager.persist(InstructorProfile.builder()
+                .name("Instructor")
+                .build());
+
+        Course course = Course.builder()
+                .title("Course")
+                .currency(Currency.ADA)
+                .price(100)
+                .instructor(instructor)
+                .createdAt(LocalDateTime.now())
+                .updatedAt(LocalDateTime.now())
+                .build();
+
+        course.getCoursePaymentMethods().add(CoursePaymentMethod.builder()
+                .course(course)
+                .paymentMethod(paymentMethod)
+                .receiverAddress("addr_test")
+                .build());
+        course.addTest(buildTest(questions, answers));
+
+        for (int c = 0; c < chapters; c++) {
+            Chapter chapter = Chapter.builder().title("Chapter " + c).orderIndex(c).build();
+            course.addChapter(chapter);
+            for (int l = 0; l < lectures; l++) {
+                chapter.addLecture(Lecture.builder().title("Lecture " + l).orderIndex(l).time(60).build());
+            }
+            chapter.addTest(buildTest(questions, answers));
+        }
+
+        return testEntityManager.persistAndFlush(course).getId();
+    }
+
+    private com.cardano_lms.server.Entity.Test buildTest(int questions, int answers) {
+        com.cardano_lms.server.Entity.Test test = com.cardano_lms.server.Entity.Test.builder()
+                .title("Test")
+                .passScore(50)
+                .build();
+        for (int q = 0; q < questions; q++) {
+            Question question = Question.builder().content("Question " + q).score(1).orderIndex(q).build();
+            test.addQuestion(question);
+            for (int a = 0; a < answers; a++) {
+                question.addAnswer(Answer.builder().content("Answer " + a).isCorrect(a == 0).build());
+            }
+        }
+        return test;
+    }
+}
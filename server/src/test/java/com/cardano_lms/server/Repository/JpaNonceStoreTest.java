@@ -0,0 +1,43 @@
+package com.cardano_lms.server.Repository;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@DataJpaTest(properties = "auth.nonce.store=jpa")
+@Import(JpaNonceStore.class)
+class JpaNonceStoreTest {
+
+    @Autowired
+    JpaNonceStore nonceStore;
+
+    @Autowired
+    NonceRepository nonceRepository;
+
+    @Test
+    void nonceIsSingleUseAndBoundToItsAddress() {
+        nonceStore.issue("n-1", "addr_a", Duration.ofMinutes(5));
+
+        assertFalse(nonceStore.consume("n-1", "addr_b"));
+        assertTrue(nonceStore.consume("n-1", "addr_a"));
+        assertFalse(nonceStore.consume("n-1", "addr_a"));
+    }
+
+    @Test
+    void expiredNoncesCannotBeUsedAndAreSwept() {
+        nonceStore.issue("n-2", "addr_a", Duration.ofSeconds(-1));
+        nonceStore.issue("n-3", "addr_a", Duration.ofMinutes(5));
+
+        assertFalse(nonceStore.consume("n-2", "addr_a"));
+
+        nonceStore.sweepExpired();
+        assertEquals(1, nonceRepository.count());
+    }
+}
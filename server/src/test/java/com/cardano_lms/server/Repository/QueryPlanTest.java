@@ -0,0 +1,145 @@
+package com.cardano_lms.server.Repository;
+
+import com.cardano_lms.server.Constant.OrderStatus;
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfEnvironmentVariable;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.time.LocalDateTime;
+import java.util.Date;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.fail;
+
+/**
+ * Migrates a local Postgres with Flyway, validates the entities against the migrated schema, then runs each
+ * hot repository query and EXPLAINs the SQL Hibernate actually sent. Sequential scans are disabled for the
+ * planner, so a "Seq Scan" in a plan means no index can serve that query. Needs Postgres 16+ for
+ * EXPLAIN (GENERIC_PLAN), e.g. {@code docker run -p 5432:5432 -e POSTGRES_PASSWORD=postgres postgres:16}
+ * with {@code LMS_TEST_POSTGRES_URL=jdbc:postgresql://localhost:5432/postgres}.
+ */
+@DataJpaTest(properties = {
+        "spring.datasource.url=${LMS_TEST_POSTGRES_URL}",
+        "spring.datasource.username=${LMS_TEST_POSTGRES_USER:postgres}",
+        "spring.datasource.password=${LMS_TEST_POSTGRES_PASSWORD:postgres}",
+        "spring.jpa.hibernate.ddl-auto=validate",
+        "spring.jpa.properties.hibernate.session_factory.statement_inspector="
+                + "com.cardano_lms.server.Repository.QueryPlanTest$SqlRecorder"
+})
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@EnabledIfEnvironmentVariable(named = "LMS_TEST_POSTGRES_URL", matches = ".+")
+class QueryPlanTest {
+
+    @Autowired
+    JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    UserRepository userRepository;
+
+    @Autowired
+    EnrollmentRepository enrollmentRepository;
+
+    @Autowired
+    NonceRepository nonceRepository;
+
+    @Autowired
+    SocialLinkRepository socialLinkRepository;
+
+    @Autowired
+    PaymentMethodRepository paymentMethodRepository;
+
+    @Autowired
+    InvalidatedTokenRepository invalidatedTokenRepository;
+
+    @Autowired
+    CourseRepository courseRepository;
+
+    @Autowired
+    LectureRepository lectureRepository;
+
+    @Autowired
+    TestRepository testRepository;
+
+    @BeforeEach
+    void disableSequentialScans() {
+        jdbcTemplate.execute("set local enable_seqscan = off");
+    }
+
+    @Test
+    void loginLookupsUseIndexes() {
+        assertIndexed(() -> userRepository.findByEmail("learner@example.com"));
+        assertIndexed(() -> userRepository.findByUsername("learner"));
+        assertIndexed(() -> userRepository.existsByUsername("learner"));
+        assertIndexed(() -> userRepository.findByWalletAddress("addr_test1"));
+        assertIndexed(() -> nonceRepository.consume("nonce", "addr_test1", LocalDateTime.now()));
+        assertIndexed(() -> nonceRepository.deleteExpired(LocalDateTime.now()));
+        assertIndexed(() -> invalidatedTokenRepository.findActiveIds(new Date()));
+    }
+
+    @Test
+    void enrollmentLookupsUseIndexes() {
+        assertIndexed(() -> enrollmentRepository.existsByUserIdAndCourseId("user", "course"));
+        assertIndexed(() -> enrollmentRepository.existsByUserIdAndCourseIdAndStatusIn("user", "course",
+                EnumSet.of(OrderStatus.PENDING, OrderStatus.SUCCESS)));
+        assertIndexed(() -> enrollmentRepository.findByUserIdAndCourseId("user", "course"));
+        assertIndexed(() -> enrollmentRepository.findByOrderId("order"));
+        assertIndexed(() -> enrollmentRepository.findByTxHash("tx"));
+        assertIndexed(() -> enrollmentRepository.findIdsDueForCheck(OrderStatus.PENDING, LocalDateTime.now()));
+        assertIndexed(() -> paymentMethodRepository.findByName("CARDANO_WALLET"));
+    }
+
+    @Test
+    void courseLookupsUseIndexes() {
+        assertIndexed(() -> socialLinkRepository.findByInstructorId(1L));
+        assertIndexed(() -> courseRepository.findCatalogPage(null, null, null, null, null, PageRequest.of(0, 20)));
+        assertIndexed(() -> lectureRepository.findIdsByCourseId("course"));
+        assertIndexed(() -> testRepository.findIdsByCourseId("course"));
+    }
+
+    private void assertIndexed(Runnable query) {
+        SqlRecorder.STATEMENTS.clear();
+        query.run();
+        List<String> statements = List.copyOf(SqlRecorder.STATEMENTS);
+        assertFalse(statements.isEmpty(), "query sent no SQL");
+
+        for (String sql : statements) {
+            String plan = String.join("\n", jdbcTemplate.queryForList(
+                    "explain (generic_plan) " + numberParameters(sql), String.class));
+            if (plan.contains("Seq Scan")) {
+                fail("Sequential scan for:\n" + sql + "\n" + plan);
+            }
+        }
+    }
+
+    private String numberParameters(String sql) {
+        StringBuilder numbered = new StringBuilder(sql.length() + 16);
+        int parameter = 0;
+        for (char c : sql.toCharArray()) {
+            if (c == '?') {
+                numbered.append('$').append(++parameter);
+            } else {
+                numbered.append(c);
+            }
+        }
+        return numbered.toString();
+    }
+
+    public static class SqlRecorder implements StatementInspector {
+        static final List<String> STATEMENTS = new CopyOnWriteArrayList<>();
+
+        @Override
+        public String inspect(String sql) {
+            STATEMENTS.add(sql);
+            return sql;
+        }
+    }
+}
@@ -0,0 +1,68 @@
+package com.cardano_lms.server.Service;
+
+import com.cardano_lms.server.DTO.Request.SubmittedAnswerRequest;
+import com.cardano_lms.server.Exception.AppException;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class AnswerKeyTest {
+
+    // Question 10 (2 points): answer 100 correct. Question 20 (3 points): answers 200 and 202 correct.
+    final AnswerKey key = AnswerKey.compile(1L, "v1", 60, List.of(
+            new Object[]{10L, 2, 100L, true},
+            new Object[]{10L, 2, 101L, false},
+            new Object[]{20L, 3, 200L, true},
+            new Object[]{20L, 3, 201L, false},
+            new Object[]{20L, 3, 202L, true}));
+
+    @Test
+    void fullyCorrectSubmissionPasses() {
+        AnswerKey.Grade grade = key.grade(List.of(
+                answer(20L, 202L, 200L),
+                answer(10L, 100L)));
+
+        assertEquals(5, grade.getScore());
+        assertEquals(100, grade.getPercent());
+        assertTrue(grade.isPassed());
+        assertArrayEquals(new long[]{20L, 20L, 10L}, grade.getQuestionIds());
+        assertArrayEquals(new long[]{202L, 200L, 100L}, grade.getAnswerIds());
+    }
+
+    @Test
+    void multiSelectQuestionNeedsExactlyTheCorrectAnswers() {
+        AnswerKey.Grade partial = key.grade(List.of(answer(10L, 100L), answer(20L, 200L)));
+        AnswerKey.Grade extra = key.grade(List.of(answer(10L, 100L), answer(20L, 200L, 201L, 202L)));
+
+        assertEquals(2, partial.getScore());
+        assertEquals(40, partial.getPercent());
+        assertFalse(partial.isPassed());
+        assertEquals(2, extra.getScore());
+    }
+
+    @Test
+    void answersFromAnotherQuestionOrRepeatedQuestionsAreRejected() {
+        assertThrows(AppException.class, () -> key.grade(List.of(answer(10L, 200L))));
+        assertThrows(AppException.class, () -> key.grade(List.of(answer(30L, 100L))));
+        assertThrows(AppException.class, () -> key.grade(List.of(answer(10L, 100L), answer(10L, 101L))));
+        assertThrows(AppException.class, () -> key.grade(List.of(answer(20L, 200L, 200L, 202L))));
+    }
+
+    @Test
+    void questionWithoutCorrectAnswersScoresOnlyWhenNothingIsSelected() {
+        AnswerKey noneCorrect = AnswerKey.compile(2L, "v1", 50, List.of(
+                new Object[]{30L, 4, 300L, false},
+                new Object[]{30L, 4, 301L, false},
+                new Object[]{40L, 4, 400L, true}));
+
+        assertEquals(4, noneCorrect.grade(List.of(answer(30L), answer(40L))).getScore());
+        assertEquals(0, noneCorrect.grade(List.of(answer(30L, 301L), answer(40L))).getScore());
+        assertEquals(8, noneCorrect.grade(List.of(answer(30L), answer(40L, 400L))).getScore());
+    }
+
+    private SubmittedAnswerRequest answer(Long questionId, Long... answerIds) {
+        return SubmittedAnswerRequest.builder().questionId(questionId).answerIds(List.of(answerIds)).build();
+    }
+}
@@ -0,0 +1,105 @@
+package com.cardano_lms.server.Service;
+
+import com.cardano_lms.server.Config.VerifiedTokenCache;
+import com.cardano_lms.server.DTO.Request.RefreshRequest;
+import com.cardano_lms.server.Entity.InvalidatedToken;
+import com.cardano_lms.server.Entity.User;
+import com.cardano_lms.server.Exception.AppException;
+import com.cardano_lms.server.Exception.ErrorCode;
+import com.cardano_lms.server.Repository.InvalidatedTokenRepository;
+import com.cardano_lms.server.Repository.UserRepository;
+import com.nimbusds.jwt.JWTClaimsSet;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+class AuthenticationServiceTest {
+    static final long VALID_SECONDS = 3600;
+    static final long REFRESHABLE_SECONDS = 36000;
+
+    Map<String, InvalidatedToken> invalidatedTokens = new ConcurrentHashMap<>();
+    Map<String, Duration> redisKeys = new ConcurrentHashMap<>();
+    TokenCryptoService tokenCryptoService;
+    AuthenticationService authenticationService;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() throws Exception {
+        InvalidatedTokenRepository invalidatedTokenRepository = mock(InvalidatedTokenRepository.class);
+        when(invalidatedTokenRepository.save(any())).thenAnswer(call -> {
+            InvalidatedToken token = call.getArgument(0);
+            invalidatedTokens.put(token.getId(), token);
+            return token;
+        });
+        when(invalidatedTokenRepository.existsById(anyString()))
+                .thenAnswer(call -> invalidatedTokens.containsKey(call.<String>getArgument(0)));
+
+        StringRedisTemplate redisTemplate = mock(StringRedisTemplate.class);
+        ValueOperations<String, String> values = mock(ValueOperations.class);
+        when(redisTemplate.opsForValue()).thenReturn(values);
+        doAnswer(call -> redisKeys.put(call.getArgument(0), call.getArgument(2)))
+                .when(values).set(anyString(), anyString(), any(Duration.class));
+        when(redisTemplate.hasKey(anyString())).thenAnswer(call -> redisKeys.containsKey(call.<String>getArgument(0)));
+
+        UserRepository userRepository = mock(UserRepository.class);
+        when(userRepository.findByUsername(anyString()))
+                .thenReturn(Optional.of(User.builder().id("user-1").username("learner").build()));
+
+        tokenCryptoService = new TokenCryptoService("0".repeat(64), "primary", Map.of());
+        authenticationService = new AuthenticationService(userRepository, null, null, null,
+                new TokenRevocationService(invalidatedTokenRepository, redisTemplate, 1000, 0.001),
+                new VerifiedTokenCache(100, 60), tokenCryptoService, null);
+        ReflectionTestUtils.setField(authenticationService, "VALID_DURATION", VALID_SECONDS);
+        ReflectionTestUtils.setField(authenticationService, "REFRESHABLE_DURATION", REFRESHABLE_SECONDS);
+    }
+
+    @Test
+    void expiredButRefreshableTokenRefreshesOnlyOnce() throws Exception {
+        Instant issuedAt = Instant.now().minus(2, ChronoUnit.HOURS);
+        String token = tokenCryptoService.sign(new JWTClaimsSet.Builder()
+                .subject("learner")
+                .issueTime(Date.from(issuedAt))
+                .expirationTime(Date.from(issuedAt.plusSeconds(VALID_SECONDS)))
+                .jwtID(UUID.randomUUID().toString())
+                .build());
+        RefreshRequest request = RefreshRequest.builder().token(token).build();
+
+        assertNotNull(authenticationService.refreshToken(request).getToken());
+
+        InvalidatedToken revoked = invalidatedTokens.values().iterator().next();
+        assertEquals(issuedAt.plusSeconds(REFRESHABLE_SECONDS).toEpochMilli(), revoked.getExpiryTime().getTime(), 1000);
+        assertFalse(redisKeys.values().iterator().next().isNegative());
+
+        AppException replay = assertThrows(AppException.class, () -> authenticationService.refreshToken(request));
+        assertEquals(ErrorCode.UNAUTHENTICATED, replay.getErrorCode());
+    }
+
+    @Test
+    void revocationLostFromRedisIsStillFoundInTheTable() throws Exception {
+        Instant issuedAt = Instant.now().minus(2, ChronoUnit.HOURS);
+        String token = tokenCryptoService.sign(new JWTClaimsSet.Builder()
+                .subject("learner")
+                .issueTime(Date.from(issuedAt))
+                .expirationTime(Date.from(issuedAt.plusSeconds(VALID_SECONDS)))
+                .jwtID(UUID.randomUUID().toString())
+                .build());
+        RefreshRequest request = RefreshRequest.builder().token(token).build();
+
+        authenticationService.refreshToken(request);
+        redisKeys.clear();
+
+        assertThrows(AppException.class, () -> authenticationService.refreshToken(request));
+    }
+}
@@ -0,0 +1,140 @@
+package com.cardano_lms.server.Service;
+
+import com.cardano_lms.server.DTO.Response.CourseCatalogResponse;
+import com.cardano_lms.server.DTO.Response.CourseCreationResponse;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.connection.DefaultMessage;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Runs the cache against an in-memory stand-in for Redis: a map for values and a publish that hands the
+ * message straight to every node's listener, as the pub/sub subscription does.
+ */
+class CourseCacheInvalidationTest {
+    static final String COURSE_ID = "course-1";
+
+    Map<String, String> redis = new ConcurrentHashMap<>();
+    List<CourseCacheService> nodes = new CopyOnWriteArrayList<>();
+    StringRedisTemplate redisTemplate = mock(StringRedisTemplate.class);
+    ValueOperations<String, String> values;
+    AtomicInteger loads = new AtomicInteger();
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        values = mock(ValueOperations.class);
+        when(redisTemplate.opsForValue()).thenReturn(values);
+        when(values.get(anyString())).thenAnswer(call -> redis.get(call.<String>getArgument(0)));
+        doAnswer(call -> redis.put(call.getArgument(0), call.getArgument(1)))
+                .when(values).set(anyString(), anyString(), any(Duration.class));
+        when(values.increment(anyString())).thenAnswer(call -> Long.valueOf(
+                redis.merge(call.getArgument(0), "1", (old, one) -> String.valueOf(Long.parseLong(old) + 1))));
+        when(redisTemplate.convertAndSend(anyString(), anyString())).thenAnswer(call -> {
+            byte[] channel = call.<String>getArgument(0).getBytes(StandardCharsets.UTF_8);
+            byte[] body = call.<String>getArgument(1).getBytes(StandardCharsets.UTF_8);
+            nodes.forEach(node -> node.onMessage(new DefaultMessage(channel, body), null));
+            return (long) nodes.size();
+        });
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    void catalogL1HitDoesNotTouchRedis() {
+        CourseCacheService node = newNode();
+
+        node.getCatalog("first-page", this::loadCatalog);
+        clearInvocations(values);
+        node.getCatalog("first-page", this::loadCatalog);
+        node.getCatalog("first-page", this::loadCatalog);
+
+        verifyNoInteractions(values);
+        assertEquals(1, loads.get());
+    }
+
+    @Test
+    void courseEvictionWaitsForCommit() {
+        CourseCacheService node = newNode();
+        node.getCourseDetail(COURSE_ID, "v1", this::loadDetail);
+
+        TransactionSynchronizationManager.initSynchronization();
+        node.evictCourse(COURSE_ID);
+        node.getCourseDetail(COURSE_ID, "v1", this::loadDetail);
+        assertEquals(1, loads.get());
+
+        redis.clear();
+        TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+        node.getCourseDetail(COURSE_ID, "v1", this::loadDetail);
+        assertEquals(2, loads.get());
+    }
+
+    @Test
+    void catalogEvictionReachesOtherNodes() {
+        CourseCacheService nodeA = newNode();
+        CourseCacheService nodeB = newNode();
+        nodeA.getCatalog("first-page", this::loadCatalog);
+        nodeB.getCatalog("first-page", this::loadCatalog);
+        assertEquals(1, loads.get());
+
+        nodeA.evictCatalog();
+        clearInvocations(values);
+        nodeB.getCatalog("first-page", this::loadCatalog);
+
+        assertEquals(2, loads.get());
+        verify(values, never()).get(CourseCacheService.CATALOG_GENERATION_KEY);
+    }
+
+    @Test
+    void courseEvictionDropsOtherNodesDetailEntries() {
+        CourseCacheService nodeA = newNode();
+        CourseCacheService nodeB = newNode();
+        nodeB.getCourseDetail(COURSE_ID, "v1", this::loadDetail);
+
+        redis.clear();
+        nodeA.evictCourse(COURSE_ID);
+        nodeB.getCourseDetail(COURSE_ID, "v1", this::loadDetail);
+
+        assertEquals(2, loads.get());
+    }
+
+    private CourseCacheService newNode() {
+        ObjectMapper objectMapper = new ObjectMapper().registerModule(new JavaTimeModule());
+        CourseCacheService node = new CourseCacheService(redisTemplate, objectMapper, 100, 60, 30);
+        nodes.add(node);
+        return node;
+    }
+
+    private CourseCreationResponse loadDetail() {
+        loads.incrementAndGet();
+        return CourseCreationResponse.builder().id(COURSE_ID).title("Course").build();
+    }
+
+    private CourseCatalogResponse loadCatalog() {
+        loads.incrementAndGet();
+        return CourseCatalogResponse.builder().build();
+    }
+}
@@ -0,0 +1,70 @@
+package com.cardano_lms.server.Service;
+
+import com.cardano_lms.server.DTO.Response.CourseCreationResponse;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfEnvironmentVariable;
+import org.springframework.data.redis.connection.RedisStandaloneConfiguration;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Runs against a throwaway local Redis, e.g. {@code docker run -p 6379:6379 redis} with
+ * {@code LMS_TEST_REDIS_HOST=localhost}.
+ */
+@EnabledIfEnvironmentVariable(named = "LMS_TEST_REDIS_HOST", matches = ".+")
+class CourseCacheServiceTest {
+
+    LettuceConnectionFactory connectionFactory;
+    StringRedisTemplate redisTemplate;
+
+    @BeforeEach
+    void setUp() {
+        connectionFactory = new LettuceConnectionFactory(
+                new RedisStandaloneConfiguration(System.getenv("LMS_TEST_REDIS_HOST"), 6379));
+        connectionFactory.afterPropertiesSet();
+        redisTemplate = new StringRedisTemplate(connectionFactory);
+    }
+
+    @AfterEach
+    void tearDown() {
+        connectionFactory.destroy();
+    }
+
+    @Test
+    void detailIsServedFromRedisAcrossNodesUntilVersionChanges() {
+        CourseCacheService nodeA = newNode();
+        CourseCacheService nodeB = newNode();
+        String courseId = UUID.randomUUID().toString();
+        AtomicInteger loads = new AtomicInteger();
+
+        nodeA.getCourseDetail(courseId, "v1", () -> load(courseId, "first", loads));
+        CourseCreationResponse fromB = nodeB.getCourseDetail(courseId, "v1", () -> load(courseId, "other", loads));
+
+        assertEquals("first", fromB.getTitle());
+        assertEquals(1, loads.get());
+
+        CourseCreationResponse updated = nodeB.getCourseDetail(courseId, "v2", () -> load(courseId, "second", loads));
+
+        assertEquals("second", updated.getTitle());
+        assertEquals(2, loads.get());
+    }
+
+    private CourseCacheService newNode() {
+        ObjectMapper objectMapper = new ObjectMapper().registerModule(new JavaTimeModule());
+        return new CourseCacheService(redisTemplate, objectMapper, 100, 60, 30);
+    }
+
+    private CourseCreationResponse load(String id, String title, AtomicInteger loads) {
+        loads.incrementAndGet();
+        return CourseCreationResponse.builder().id(id).title(title).build();
+    }
+}
@@ -0,0 +1,94 @@
+package com.cardano_lms.server.Service;
+
+import com.cardano_lms.server.Constant.Currency;
+import com.cardano_lms.server.DTO.Response.CourseOutlineResponse;
+import com.cardano_lms.server.Entity.*;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.ImportAutoConfiguration;
+import org.springframework.boot.autoconfigure.jackson.JacksonAutoConfiguration;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+
+import java.time.LocalDateTime;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DataJpaTest
+@Import(CourseOutlineService.class)
+@ImportAutoConfiguration(JacksonAutoConfiguration.class)
+class CourseOutlineServiceTest {
+
+    @Autowired
+    TestEntityManager testEntityManager;
+
+    @Autowired
+    CourseOutlineService courseOutlineService;
+
+    @Test
+    void outlineCarriesPrecomputedTotals() {
+        String courseId = persistCourse(3, 4);
+
+        CourseOutline row = courseOutlineService.rebuild(courseId);
+        CourseOutlineResponse outline = row.getOutline();
+
+        assertEquals(3, outline.getChapterCount());
+        assertEquals(12, outline.getLectureCount());
+        assertEquals(4, outline.getTestCount());
+        assertEquals(12 * 90 + 4 * 10 * 60, outline.getTotalDurationSeconds());
+        assertEquals(outline.getTotalDurationSeconds(), row.getTotalDurationSeconds());
+        assertEquals(1, outline.getCourseTests().size());
+        outline.getChapters().forEach(chapter -> {
+            assertEquals(4, chapter.getLectures().size());
+            assertEquals(1, chapter.getTests().size());
+            assertEquals(4 * 90 + 10 * 60, chapter.getDurationSeconds());
+        });
+    }
+
+    @Test
+    void etagChangesOnlyWhenTheOutlineDoes() {
+        String courseId = persistCourse(1, 1);
+        String first = courseOutlineService.rebuild(courseId).getEtag();
+
+        assertEquals(first, courseOutlineService.rebuild(courseId).getEtag());
+
+        Chapter chapter = testEntityManager.getEntityManager()
+                .createQuery("select ch from Chapter ch where ch.course.id = :id", Chapter.class)
+                .setParameter("id", courseId)
+                .getSingleResult();
+        chapter.addLecture(Lecture.builder().title("Extra").orderIndex(1).time(30).build());
+        testEntityManager.flush();
+
+        CourseOutline rebuilt = courseOutlineService.rebuild(courseId);
+        assertNotEquals(first, rebuilt.getEtag());
+        assertEquals(2, rebuilt.getLectureCount());
+    }
+
+    private String persistCourse(int chapters, int lectures) {
+        InstructorProfile instructor = testEntityManager.persist(InstructorProfile.builder()
+                .name("Instructor")
+                .build());
+
+        Course course = Course.builder()
+                .title("Course")
+                .currency(Currency.ADA)
+                .price(100)
+                .instructor(instructor)
+                .createdAt(LocalDateTime.now())
+                .updatedAt(LocalDateTime.now())
+                .build();
+        course.addTest(com.cardano_lms.server.Entity.Test.builder().title("Final").durationMinutes(10).build());
+
+        for (int c = 0; c < chapters; c++) {
+            Chapter chapter = Chapter.builder().title("Chapter " + c).orderIndex(c).build();
+            course.addChapter(chapter);
+            for (int l = 0; l < lectures; l++) {
+                chapter.addLecture(Lecture.builder().title("Lecture " + l).orderIndex(l).time(90).build());
+            }
+            chapter.addTest(com.cardano_lms.server.Entity.Test.builder().title("Quiz").durationMinutes(10).build());
+        }
+
+        return testEntityManager.persistAndFlush(course).getId();
+    }
+}
@@ -0,0 +1,86 @@
+package com.cardano_lms.server.Service;
+
+import com.cardano_lms.server.DTO.Request.CourseUpdateRequest;
+import com.cardano_lms.server.DTO.Response.CourseUpdateResponse;
+import com.cardano_lms.server.Entity.Course;
+import com.cardano_lms.server.Exception.AppException;
+import com.cardano_lms.server.Exception.ErrorCode;
+import com.cardano_lms.server.Mapper.CourseMapper;
+import com.cardano_lms.server.Repository.CourseRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+/**
+ * Runs updateCourse against mocks; the TransactionTemplate just invokes the callback, so each attempt sees
+ * whatever the repository mock hands back at that point.
+ */
+class CourseServiceUpdateTest {
+    static final String COURSE_ID = "course-1";
+
+    CourseRepository courseRepository = mock(CourseRepository.class);
+    CourseMapper courseMapper = mock(CourseMapper.class);
+    CourseService courseService;
+
+    @BeforeEach
+    void setUp() {
+        TransactionTemplate transactionTemplate = mock(TransactionTemplate.class);
+        when(transactionTemplate.execute(any()))
+                .thenAnswer(call -> call.<TransactionCallback<?>>getArgument(0).doInTransaction(null));
+        when(courseRepository.findById(COURSE_ID)).thenAnswer(call -> Optional.of(course(2L)));
+        when(courseMapper.toCourseUpdateResponse(any())).thenReturn(new CourseUpdateResponse());
+
+        courseService = new CourseService(courseRepository, null, null, null, null, null,
+                courseMapper, null, null, null, null, null,
+                mock(CourseCacheService.class), mock(CourseOutlineService.class), transactionTemplate);
+    }
+
+    @Test
+    void staleVersionIsRejected() {
+        AppException conflict = assertThrows(AppException.class,
+                () -> courseService.updateCourse(COURSE_ID, update(1L)));
+
+        assertEquals(ErrorCode.EDIT_CONFLICT, conflict.getErrorCode());
+        verify(courseRepository, never()).saveAndFlush(any());
+    }
+
+    @Test
+    void versionedUpdateLosingTheRaceIsNotRetried() {
+        when(courseRepository.saveAndFlush(any()))
+                .thenThrow(new ObjectOptimisticLockingFailureException(Course.class, COURSE_ID));
+
+        AppException conflict = assertThrows(AppException.class,
+                () -> courseService.updateCourse(COURSE_ID, update(2L)));
+
+        assertEquals(ErrorCode.EDIT_CONFLICT, conflict.getErrorCode());
+        verify(courseRepository, times(1)).saveAndFlush(any());
+    }
+
+    @Test
+    void unversionedUpdateIsRetriedAfterConcurrentEdit() {
+        when(courseRepository.saveAndFlush(any()))
+                .thenThrow(new ObjectOptimisticLockingFailureException(Course.class, COURSE_ID))
+                .thenAnswer(call -> call.getArgument(0));
+
+        assertNotNull(courseService.updateCourse(COURSE_ID, update(null)));
+
+        verify(courseRepository, times(2)).findById(COURSE_ID);
+        verify(courseRepository, times(2)).saveAndFlush(any());
+    }
+
+    private Course course(Long version) {
+        return Course.builder().id(COURSE_ID).title("Course").version(version).build();
+    }
+
+    private CourseUpdateRequest update(Long version) {
+        return CourseUpdateRequest.builder().title("Renamed").version(version).build();
+    }
+}
@@ -0,0 +1,65 @@
+package com.cardano_lms.server.Service;
+
+import com.cardano_lms.server.Constant.OrderStatus;
+import com.cardano_lms.server.Constant.PaymentCheckResult;
+import com.cardano_lms.server.Exception.AppException;
+import com.cardano_lms.server.Exception.ErrorCode;
+import com.cardano_lms.server.Repository.EnrollmentPaymentView;
+import com.cardano_lms.server.Repository.EnrollmentRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.Optional;
+
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+class EnrollmentVerificationWorkerTest {
+    static final long ENROLLMENT_ID = 7L;
+
+    EnrollmentRepository enrollmentRepository = mock(EnrollmentRepository.class);
+    PaymentVerificationService paymentVerificationService = mock(PaymentVerificationService.class);
+    // Backoff far beyond the test, so only the direct verify() calls below ever run.
+    EnrollmentVerificationWorker worker = new EnrollmentVerificationWorker(
+            enrollmentRepository, paymentVerificationService, 1, 3, 600_000, 600_000, 0);
+
+    @AfterEach
+    void tearDown() {
+        worker.shutdown();
+    }
+
+    @Test
+    void chainOutageNeverUsesUpTheAttemptBudget() {
+        pendingWithAttempts(2);
+        when(paymentVerificationService.check(anyString(), anyDouble(), anyString()))
+                .thenThrow(new AppException(ErrorCode.CHAIN_API_UNAVAILABLE));
+
+        for (int i = 0; i < 5; i++) {
+            worker.verify(ENROLLMENT_ID);
+        }
+
+        verify(enrollmentRepository, times(5)).recordAttempt(eq(ENROLLMENT_ID), eq(2), any());
+        verify(enrollmentRepository, never()).transition(anyLong(), any(), any());
+    }
+
+    @Test
+    void unconfirmedPaymentStillFailsAfterMaxAttempts() {
+        pendingWithAttempts(2);
+        when(paymentVerificationService.check(anyString(), anyDouble(), anyString()))
+                .thenReturn(PaymentCheckResult.PENDING);
+
+        worker.verify(ENROLLMENT_ID);
+
+        verify(enrollmentRepository).transition(ENROLLMENT_ID, OrderStatus.PENDING, OrderStatus.FAILED);
+    }
+
+    private void pendingWithAttempts(int attempts) {
+        EnrollmentPaymentView payment = mock(EnrollmentPaymentView.class);
+        when(payment.getStatus()).thenReturn(OrderStatus.PENDING);
+        when(payment.getVerificationAttempts()).thenReturn(attempts);
+        when(payment.getReceiverAddress()).thenReturn("addr_test1receiver");
+        when(payment.getPrice()).thenReturn(10.0);
+        when(payment.getTxHash()).thenReturn("6f1c0a");
+        when(enrollmentRepository.findPaymentViewById(ENROLLMENT_ID)).thenReturn(Optional.of(payment));
+    }
+}
@@ -0,0 +1,215 @@
+package com.cardano_lms.server.Service;
+
+import com.cardano_lms.server.Constant.PaymentCheckResult;
+import com.cardano_lms.server.Exception.AppException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Serves canned Blockfrost responses from a local HTTP server; unknown paths answer 404 like Blockfrost
+ * does for transactions it has not seen yet.
+ */
+class PaymentVerificationServiceTest {
+    static final String PROJECT_ID = "preprod-test";
+    static final String TX_HASH = "6f1c0a";
+    static final String RECEIVER = "addr_test1receiver";
+
+    HttpServer blockfrost;
+    Map<String, String> responses = new ConcurrentHashMap<>();
+    AtomicInteger hits = new AtomicInteger();
+    Map<String, AtomicInteger> hitsByPath = new ConcurrentHashMap<>();
+    volatile long responseDelayMillis;
+    volatile boolean failing;
+    BlockfrostClient blockfrostClient;
+    PaymentVerificationService paymentVerificationService;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        blockfrost = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        blockfrost.createContext("/", this::handle);
+        blockfrost.start();
+
+        blockfrostClient = new BlockfrostClient(new ObjectMapper(), new SimpleMeterRegistry(),
+                "http://127.0.0.1:" + blockfrost.getAddress().getPort(), PROJECT_ID,
+                1000, 2000, 100, 100, 0, 3, 60_000);
+        paymentVerificationService = new PaymentVerificationService(
+                new TransactionCacheService(blockfrostClient, 1000, 0, 0), 3);
+    }
+
+    @AfterEach
+    void tearDown() {
+        blockfrost.stop(0);
+    }
+
+    @Test
+    void unknownTransactionStaysPending() {
+        assertEquals(PaymentCheckResult.PENDING, paymentVerificationService.check(RECEIVER, 10, TX_HASH));
+    }
+
+    @Test
+    void paymentIsPendingUntilEnoughConfirmations() {
+        onChain(100, RECEIVER, 10_000_000);
+        tip(101);
+
+        assertEquals(PaymentCheckResult.PENDING, paymentVerificationService.check(RECEIVER, 10, TX_HASH));
+
+        tip(102);
+
+        assertEquals(PaymentCheckResult.VERIFIED, paymentVerificationService.check(RECEIVER, 10, TX_HASH));
+    }
+
+    @Test
+    void underpaymentIsRejected() {
+        onChain(100, RECEIVER, 9_999_999);
+        tip(200);
+
+        assertEquals(PaymentCheckResult.REJECTED, paymentVerificationService.check(RECEIVER, 10, TX_HASH));
+    }
+
+    @Test
+    void paymentToAnotherAddressIsRejected() {
+        onChain(100, "addr_test1someoneelse", 10_000_000);
+        tip(200);
+
+        assertEquals(PaymentCheckResult.REJECTED, paymentVerificationService.check(RECEIVER, 10, TX_HASH));
+    }
+
+    @Test
+    void matchesPaymentIgnoresConfirmationDepth() {
+        onChain(100, RECEIVER, 10_000_000);
+        tip(100);
+
+        assertTrue(paymentVerificationService.matchesPayment(RECEIVER, 10, TX_HASH));
+        assertFalse(paymentVerificationService.matchesPayment(RECEIVER, 11, TX_HASH));
+    }
+
+    @Test
+    void repeatedServerErrorsOpenTheCircuit() {
+        failing = true;
+        for (int i = 0; i < 3; i++) {
+            assertThrows(AppException.class, () -> paymentVerificationService.check(RECEIVER, 10, TX_HASH));
+        }
+        int hitsWhenOpened = hits.get();
+
+        assertThrows(AppException.class, () -> paymentVerificationService.check(RECEIVER, 10, TX_HASH));
+        assertEquals(hitsWhenOpened, hits.get());
+    }
+
+    @Test
+    void probeWithUnreadableBodyStillSettlesTheCircuit() {
+        BlockfrostClient client = new BlockfrostClient(new ObjectMapper(), new SimpleMeterRegistry(),
+                "http://127.0.0.1:" + blockfrost.getAddress().getPort(), PROJECT_ID,
+                1000, 2000, 100, 100, 0, 1, 0);
+        failing = true;
+        assertThrows(AppException.class, () -> client.getTransactionOutputs(TX_HASH));
+
+        failing = false;
+        responses.put("/txs/" + TX_HASH + "/utxos",
+                "{\"outputs\":[{\"address\":\"" + RECEIVER + "\",\"amount\":[{\"unit\":\"lovelace\",\"quantity\":\"ten\"}]}]}");
+        assertThrows(AppException.class, () -> client.getTransactionOutputs(TX_HASH));
+
+        onChain(100, RECEIVER, 10_000_000);
+        assertEquals(10_000_000L, client.getTransactionOutputs(TX_HASH).orElseThrow().get(RECEIVER));
+    }
+
+    @Test
+    void confirmedTransactionIsFetchedOnceAndNotSeenYetIsRetried() {
+        TransactionCacheService cache = new TransactionCacheService(blockfrostClient, 1000, 0, 0);
+
+        assertTrue(cache.getTransaction(TX_HASH).isEmpty());
+        onChain(100, RECEIVER, 10_000_000);
+        assertTrue(cache.getTransaction(TX_HASH).isPresent());
+        assertTrue(cache.getTransaction(TX_HASH).isPresent());
+
+        assertEquals(2, hitsByPath.get("/txs/" + TX_HASH).get());
+        assertEquals(1, hitsByPath.get("/txs/" + TX_HASH + "/utxos").get());
+    }
+
+    @Test
+    void concurrentLookupsShareOneBlockfrostCall() throws Exception {
+        TransactionCacheService cache = new TransactionCacheService(blockfrostClient, 1000, 0, 0);
+        onChain(100, RECEIVER, 10_000_000);
+        responseDelayMillis = 200;
+
+        ExecutorService callers = Executors.newFixedThreadPool(8);
+        try {
+            List<Future<Boolean>> results = new ArrayList<>();
+            for (int i = 0; i < 8; i++) {
+                results.add(callers.submit(() -> cache.getTransaction(TX_HASH).isPresent()));
+            }
+            for (Future<Boolean> result : results) {
+                assertTrue(result.get());
+            }
+        } finally {
+            callers.shutdownNow();
+        }
+
+        assertEquals(1, hitsByPath.get("/txs/" + TX_HASH).get());
+    }
+
+    private void onChain(long blockHeight, String receiver, long lovelace) {
+        responses.put("/txs/" + TX_HASH, "{\"hash\":\"" + TX_HASH + "\",\"block_height\":" + blockHeight + "}");
+        responses.put("/txs/" + TX_HASH + "/utxos", """
+                {"hash":"%s",
+                 "inputs":[{"address":"addr_test1sender","amount":[{"unit":"lovelace","quantity":"50000000"}]}],
+                 "outputs":[{"address":"addr_test1change","amount":[{"unit":"lovelace","quantity":"1"}]},
+                            {"address":"%s","amount":[{"unit":"lovelace","quantity":"%d"}]}]}
+                """.formatted(TX_HASH, receiver, lovelace));
+    }
+
+    private void tip(long height) {
+        responses.put("/blocks/latest", "{\"height\":" + height + "}");
+    }
+
+    private void handle(HttpExchange exchange) throws IOException {
+        hits.incrementAndGet();
+        hitsByPath.computeIfAbsent(exchange.getRequestURI().getPath(), path -> new AtomicInteger()).incrementAndGet();
+        if (responseDelayMillis > 0) {
+            try {
+                Thread.sleep(responseDelayMillis);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+        if (failing) {
+            exchange.sendResponseHeaders(500, -1);
+            exchange.close();
+            return;
+        }
+        String body = PROJECT_ID.equals(exchange.getRequestHeaders().getFirst("project_id"))
+                ? responses.get(exchange.getRequestURI().getPath())
+                : null;
+        int status = body != null ? 200 : 404;
+        byte[] bytes = (body != null ? body : "{\"status_code\":404,\"error\":\"Not Found\"}")
+                .getBytes(StandardCharsets.UTF_8);
+
+        exchange.getResponseHeaders().set("Content-Type", "application/json");
+        exchange.sendResponseHeaders(status, bytes.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(bytes);
+        }
+    }
+}
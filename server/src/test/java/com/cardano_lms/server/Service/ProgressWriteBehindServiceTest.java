@@ -0,0 +1,94 @@
+package com.cardano_lms.server.Service;
+
+import com.cardano_lms.server.Constant.CourseContentType;
+import com.cardano_lms.server.Repository.ProgressBatchRepository;
+import com.cardano_lms.server.Repository.ProgressDelta;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ProgressWriteBehindServiceTest {
+
+    @TempDir
+    Path journalDirectory;
+
+    @Test
+    void heartbeatsForTheSameItemAreCoalescedIntoOneRow() throws Exception {
+        RecordingRepository repository = new RecordingRepository();
+        ProgressWriteBehindService service = new ProgressWriteBehindService(repository, journalDirectory.toString(), false);
+
+        service.record(List.of(heartbeat(1, 30, false), heartbeat(1, 90, false), heartbeat(1, 60, true)));
+        service.flush();
+
+        assertEquals(1, repository.flushed.size());
+        ProgressDelta row = repository.flushed.get(0);
+        assertEquals(90, row.getPositionSeconds());
+        assertTrue(row.isCompleted());
+        assertEquals(0, service.pendingCount());
+    }
+
+    @Test
+    void unflushedEventsAreReplayedAfterRestart() throws Exception {
+        RecordingRepository repository = new RecordingRepository();
+        new ProgressWriteBehindService(repository, journalDirectory.toString(), false)
+                .record(List.of(heartbeat(1, 30, false), heartbeat(2, 45, true)));
+
+        ProgressWriteBehindService restarted =
+                new ProgressWriteBehindService(repository, journalDirectory.toString(), false);
+
+        assertEquals(2, restarted.pendingCount());
+        restarted.flush();
+        assertEquals(2, repository.flushed.size());
+
+        ProgressWriteBehindService afterFlush =
+                new ProgressWriteBehindService(repository, journalDirectory.toString(), false);
+        assertEquals(0, afterFlush.pendingCount());
+    }
+
+    @Test
+    void failedFlushKeepsEventsPending() throws Exception {
+        RecordingRepository repository = new RecordingRepository();
+        repository.failNext = true;
+        ProgressWriteBehindService service = new ProgressWriteBehindService(repository, journalDirectory.toString(), false);
+
+        service.record(List.of(heartbeat(1, 30, false)));
+        service.flush();
+        assertEquals(1, service.pendingCount());
+
+        service.flush();
+        assertEquals(0, service.pendingCount());
+        assertEquals(1, repository.flushed.size());
+    }
+
+    private ProgressDelta heartbeat(long lectureId, int position, boolean completed) {
+        return new ProgressDelta(7L, CourseContentType.LECTURE, lectureId, position, 0, completed,
+                completed ? LocalDate.now() : null, LocalDateTime.now(), 10);
+    }
+
+    static class RecordingRepository extends ProgressBatchRepository {
+        final List<ProgressDelta> flushed = new ArrayList<>();
+        boolean failNext;
+
+        RecordingRepository() {
+            super(null);
+        }
+
+        @Override
+        public void upsert(Collection<ProgressDelta> deltas) {
+            if (failNext) {
+                failNext = false;
+                throw new IllegalStateException("database unavailable");
+            }
+            flushed.addAll(deltas);
+        }
+    }
+}
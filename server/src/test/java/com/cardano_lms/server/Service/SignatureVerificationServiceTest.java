@@ -0,0 +1,22 @@
+package com.cardano_lms.server.Service;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class SignatureVerificationServiceTest {
+
+    @Test
+    void burstIsSplitAcrossWorkers() {
+        assertEquals(25, SignatureVerificationService.batchShare(100, 4, 32));
+        assertEquals(26, SignatureVerificationService.batchShare(101, 4, 32));
+        assertEquals(32, SignatureVerificationService.batchShare(1000, 4, 32));
+    }
+
+    @Test
+    void shortQueueIsTakenOneAtATime() {
+        assertEquals(1, SignatureVerificationService.batchShare(1, 8, 32));
+        assertEquals(1, SignatureVerificationService.batchShare(8, 8, 32));
+        assertEquals(2, SignatureVerificationService.batchShare(9, 8, 32));
+    }
+}
@@ -0,0 +1,55 @@
+package com.cardano_lms.server.Util;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.context.request.ServletWebRequest;
+
+import java.time.LocalDateTime;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ConditionalRequestsTest {
+
+    static final LocalDateTime UPDATED_AT = LocalDateTime.of(2025, 3, 1, 12, 30, 15, 250_000_000);
+
+    @Test
+    void currentEtagIsNotModified() {
+        MockHttpServletResponse first = new MockHttpServletResponse();
+        assertFalse(ConditionalRequests.notModified(get(null, first), UPDATED_AT));
+        String etag = first.getHeader(HttpHeaders.ETAG);
+        assertNotNull(etag);
+        assertNotNull(first.getHeader(HttpHeaders.LAST_MODIFIED));
+
+        MockHttpServletResponse second = new MockHttpServletResponse();
+        assertTrue(ConditionalRequests.notModified(get(etag, second), UPDATED_AT));
+        assertEquals(304, second.getStatus());
+    }
+
+    @Test
+    void newerVersionIsSentInFull() {
+        MockHttpServletResponse first = new MockHttpServletResponse();
+        ConditionalRequests.notModified(get(null, first), UPDATED_AT);
+
+        MockHttpServletResponse second = new MockHttpServletResponse();
+        assertFalse(ConditionalRequests.notModified(
+                get(first.getHeader(HttpHeaders.ETAG), second), UPDATED_AT.plusNanos(1_000_000)));
+        assertEquals(200, second.getStatus());
+    }
+
+    @Test
+    void missingVersionIsNeverConditional() {
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        assertFalse(ConditionalRequests.notModified(get("W/\"x\"", response), null));
+        assertNull(response.getHeader(HttpHeaders.ETAG));
+    }
+
+    private ServletWebRequest get(String ifNoneMatch, MockHttpServletResponse response) {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/course/1");
+        if (ifNoneMatch != null) {
+            request.addHeader(HttpHeaders.IF_NONE_MATCH, ifNoneMatch);
+        }
+        return new ServletWebRequest(request, response);
+    }
+}
@@ -0,0 +1,44 @@
+package com.cardano_lms.server.Util;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class HashedWheelTimerTest {
+
+    @Test
+    void firesInDeadlineOrderAcrossWheelRounds() throws Exception {
+        Queue<Integer> fired = new ConcurrentLinkedQueue<>();
+        CountDownLatch done = new CountDownLatch(3);
+        try (HashedWheelTimer timer = new HashedWheelTimer("test-timer", 10, 4, Runnable::run)) {
+            long now = System.currentTimeMillis();
+            timer.schedule(now + 150, () -> { fired.add(3); done.countDown(); });
+            timer.schedule(now + 20, () -> { fired.add(1); done.countDown(); });
+            timer.schedule(now + 60, () -> { fired.add(2); done.countDown(); });
+
+            assertTrue(done.await(2, TimeUnit.SECONDS));
+            assertArrayEquals(new Integer[]{1, 2, 3}, fired.toArray(new Integer[0]));
+            assertEquals(0, timer.size());
+        }
+    }
+
+    @Test
+    void cancelledAndPastDeadlinesAreHandled() throws Exception {
+        CountDownLatch overdue = new CountDownLatch(1);
+        CountDownLatch cancelled = new CountDownLatch(1);
+        try (HashedWheelTimer timer = new HashedWheelTimer("test-timer", 10, 8, Runnable::run)) {
+            long now = System.currentTimeMillis();
+            timer.schedule(now + 30, cancelled::countDown).cancel();
+            timer.schedule(now - 60_000, overdue::countDown);
+
+            assertTrue(overdue.await(1, TimeUnit.SECONDS));
+            assertFalse(cancelled.await(200, TimeUnit.MILLISECONDS));
+            assertEquals(0, timer.size());
+        }
+    }
+}